@@ -0,0 +1,101 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Lookups that convert the value, to a built-in type, to lists, to optionals and to a type with an implicit
+ * converter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConverterBenchmark {
+    @Param({ "false", "true" })
+    boolean convertedValueCache;
+
+    SmallRyeConfig config;
+
+    @Setup
+    public void setup() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("port", "8080");
+        properties.put("names", "one,two,three,four,five");
+        properties.put("ports", "8080,8081,8082,8083,8084");
+        properties.put("host", "localhost:8080");
+
+        config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(properties, "converters", 100))
+                .withConvertedValueCache(convertedValueCache)
+                .build();
+    }
+
+    @Benchmark
+    public Integer integer() {
+        return config.getValue("port", Integer.class);
+    }
+
+    @Benchmark
+    public List<String> stringList() {
+        return config.getValues("names", String.class, ArrayList::new);
+    }
+
+    @Benchmark
+    public List<Integer> integerList() {
+        return config.getValues("ports", Integer.class, ArrayList::new);
+    }
+
+    @Benchmark
+    public Optional<Integer> optional() {
+        return config.getOptionalValue("port", Integer.class);
+    }
+
+    @Benchmark
+    public Optional<Integer> optionalMissing() {
+        return config.getOptionalValue("missing", Integer.class);
+    }
+
+    @Benchmark
+    public Host implicit() {
+        return config.getValue("host", Host.class);
+    }
+
+    public static final class Host {
+        final String name;
+        final int port;
+
+        private Host(final String name, final int port) {
+            this.name = name;
+            this.port = port;
+        }
+
+        public static Host of(final String value) {
+            final int separator = value.indexOf(':');
+            return new Host(value.substring(0, separator), Integer.parseInt(value.substring(separator + 1)));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.EnvConfigSource;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Lookups in the {@link EnvConfigSource}, of a name matching an environment variable exactly, of a name matching once
+ * converted to the environment variable format, and of a name not found, which goes through every conversion.
+ * <p>
+ *
+ * The environment variables are fixed, instead of the ones of the process running the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EnvConfigSourceBenchmark {
+    EnvConfigSource source;
+    SmallRyeConfig config;
+
+    @Setup
+    public void setup() {
+        final Map<String, String> env = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            env.put("APP_DATASOURCE_" + i + "_URL", "jdbc:" + i);
+        }
+        final Map<String, String> variables = Collections.unmodifiableMap(env);
+        source = new EnvConfigSource() {
+            @Override
+            public Map<String, String> getProperties() {
+                return variables;
+            }
+        };
+
+        final Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            properties.put("app.key" + i, "value" + i);
+        }
+
+        config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source)
+                .withSources(new PropertiesConfigSource(properties, "properties", 100))
+                .build();
+    }
+
+    @Benchmark
+    public String sourceExact() {
+        return source.getValue("APP_DATASOURCE_50_URL");
+    }
+
+    @Benchmark
+    public String sourceMangled() {
+        return source.getValue("app.datasource.50.url");
+    }
+
+    @Benchmark
+    public String sourceMiss() {
+        return source.getValue("app.datasource.missing.url");
+    }
+
+    @Benchmark
+    public ConfigValue mangled() {
+        return config.getConfigValue("app.datasource.50.url");
+    }
+
+    @Benchmark
+    public ConfigValue miss() {
+        return config.getConfigValue("app.datasource.missing.url");
+    }
+}
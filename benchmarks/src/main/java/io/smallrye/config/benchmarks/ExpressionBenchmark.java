@@ -0,0 +1,72 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Lookups of values with expressions referencing other expressions up to a depth, of values with nested defaults, and
+ * of values without any expression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ExpressionBenchmark {
+    @Param({ "1", "3", "5" })
+    int depth;
+
+    SmallRyeConfig config;
+    String name;
+
+    @Setup
+    public void setup() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("expression.0", "value");
+        for (int i = 1; i <= depth; i++) {
+            properties.put("expression." + i, "${expression." + (i - 1) + "}-" + i);
+        }
+        properties.put("defaults", "${missing.one:${missing.two:${expression.0}}}");
+        properties.put("plain", "value");
+        name = "expression." + depth;
+
+        config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(properties, "expressions", 100))
+                .build();
+    }
+
+    @Benchmark
+    public ConfigValue expression() {
+        return config.getConfigValue(name);
+    }
+
+    @Benchmark
+    public ConfigValue defaults() {
+        return config.getConfigValue("defaults");
+    }
+
+    @Benchmark
+    public ConfigValue plain() {
+        return config.getConfigValue("plain");
+    }
+}
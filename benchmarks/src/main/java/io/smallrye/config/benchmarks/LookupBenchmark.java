@@ -0,0 +1,76 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Lookups of a name found only in the source with the lowest ordinal, and of a name not found in any source, with a
+ * growing number of sources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LookupBenchmark {
+    static final String HIT = "lookup.hit";
+    static final String MISS = "lookup.miss";
+
+    @Param({ "1", "10", "50" })
+    int sources;
+
+    @Param({ "default", "value-cache", "frozen" })
+    String mode;
+
+    SmallRyeConfig config;
+
+    @Setup
+    public void setup() {
+        final SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withValueCache("value-cache".equals(mode))
+                .withFrozen("frozen".equals(mode));
+
+        for (int i = 0; i < sources; i++) {
+            final Map<String, String> properties = new HashMap<>();
+            for (int j = 0; j < 100; j++) {
+                properties.put("source" + i + ".key" + j, "value" + j);
+            }
+            if (i == 0) {
+                properties.put(HIT, "hit");
+            }
+            builder.withSources(new PropertiesConfigSource(properties, "source" + i, 100 + i));
+        }
+
+        config = builder.build();
+    }
+
+    @Benchmark
+    public ConfigValue hit() {
+        return config.getConfigValue(HIT);
+    }
+
+    @Benchmark
+    public ConfigValue miss() {
+        return config.getConfigValue(MISS);
+    }
+}
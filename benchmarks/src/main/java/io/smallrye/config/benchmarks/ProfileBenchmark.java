@@ -0,0 +1,78 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Lookups with one to three active profiles, of a name with a value in each profile, of a name without profile values
+ * and of a name not found at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProfileBenchmark {
+    @Param({ "1", "2", "3" })
+    int profiles;
+
+    SmallRyeConfig config;
+
+    @Setup
+    public void setup() {
+        final Map<String, String> properties = new HashMap<>();
+        final StringBuilder profile = new StringBuilder();
+        for (int i = 1; i <= profiles; i++) {
+            if (profile.length() > 0) {
+                profile.append(',');
+            }
+            profile.append("profile").append(i);
+            properties.put("%profile" + i + ".profile.key", "profile" + i);
+        }
+        properties.put("profile.key", "main");
+        properties.put("plain.key", "plain");
+        for (int i = 0; i < 100; i++) {
+            properties.put("key" + i, "value" + i);
+        }
+
+        config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile(profile.toString())
+                .withSources(new PropertiesConfigSource(properties, "profiles", 100))
+                .build();
+    }
+
+    @Benchmark
+    public ConfigValue profile() {
+        return config.getConfigValue("profile.key");
+    }
+
+    @Benchmark
+    public ConfigValue plain() {
+        return config.getConfigValue("plain.key");
+    }
+
+    @Benchmark
+    public ConfigValue miss() {
+        return config.getConfigValue("missing.key");
+    }
+}
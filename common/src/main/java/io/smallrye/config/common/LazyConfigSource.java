@@ -0,0 +1,146 @@
+package io.smallrye.config.common;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * A {@link ConfigSource} that only loads its content on the first lookup that reaches it. Until then, the source only
+ * reports the name and ordinal it was created with, so a source that is mostly shadowed by higher ordinal sources, or
+ * rarely consulted, does not have to be read and parsed when the {@code Config} is built.
+ * <p>
+ *
+ * The loaded source is created once, even if multiple threads reach the source at the same time. If loading fails,
+ * the error is propagated to the lookup, and the next lookup retries to load the source.
+ * <p>
+ *
+ * The name and ordinal of the loaded source are not used, since they are required before the source is loaded. A
+ * {@code config_ordinal} set in the content of the source is ignored. Any lookup not found in a higher ordinal
+ * source loads the source, including the lookups of the {@code Config} itself. With the default interceptors, the
+ * active profile is looked up when the {@code Config} is built, so the source is only not loaded by the build if the
+ * profile is set in the builder or in a higher ordinal source. When a profile is active, every lookup also looks up
+ * the name with the profile, which is not found in a higher ordinal source, so the first lookup loads the source.
+ * Listing the property names of the source, like when mapping a {@code ConfigMapping} or iterating the property
+ * names of the {@code Config}, also loads the source.
+ * <p>
+ *
+ * The {@code ConfigSourceProvider}s that support lazy sources create them when the {@link #LAZY_SOURCES} system
+ * property is {@code true}.
+ */
+public final class LazyConfigSource extends AbstractConfigSource {
+    private static final long serialVersionUID = 4021958224516359717L;
+
+    /**
+     * The system property to create lazy sources in the {@code ConfigSourceProvider}s discovered with the
+     * {@link java.util.ServiceLoader}.
+     */
+    public static final String LAZY_SOURCES = "smallrye.config.source.lazy";
+
+    private final transient Supplier<? extends ConfigSource> loader;
+    private final transient ReentrantLock lock = new ReentrantLock();
+    private transient volatile ConfigSource configSource;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param name the config source name
+     * @param ordinal the config source ordinal
+     * @param loader the function to load the config source on the first lookup
+     */
+    public LazyConfigSource(final String name, final int ordinal, final Supplier<? extends ConfigSource> loader) {
+        super(name, ordinal);
+        this.loader = loader;
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return getConfigSource().getProperties();
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return getConfigSource().getPropertyNames();
+    }
+
+    @Override
+    public String getValue(final String propertyName) {
+        return getConfigSource().getValue(propertyName);
+    }
+
+    /**
+     * Checks if the config source was already loaded.
+     *
+     * @return {@code true} if the config source was loaded, {@code false} otherwise
+     */
+    public boolean isLoaded() {
+        return configSource != null;
+    }
+
+    /**
+     * Checks if the {@link #LAZY_SOURCES} system property is set to {@code true}.
+     *
+     * @return {@code true} to create lazy sources, {@code false} otherwise
+     */
+    public static boolean isLazySources() {
+        return Boolean.parseBoolean(AccessController.doPrivileged(
+                (PrivilegedAction<String>) () -> System.getProperty(LAZY_SOURCES)));
+    }
+
+    private ConfigSource getConfigSource() {
+        ConfigSource configSource = this.configSource;
+        if (configSource == null) {
+            // a lock instead of synchronized, to not pin the carrier thread of a virtual thread while loading
+            lock.lock();
+            try {
+                configSource = this.configSource;
+                if (configSource == null) {
+                    this.configSource = configSource = loader.get();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return configSource;
+    }
+
+    Object writeReplace() {
+        return new Loaded(getName(), getOrdinal(), getProperties());
+    }
+
+    /**
+     * The serialized form of a {@link LazyConfigSource}, since the loader cannot be serialized. Serializing the source
+     * loads it.
+     */
+    static final class Loaded extends AbstractConfigSource {
+        private static final long serialVersionUID = -2243452127946281539L;
+
+        private final Map<String, String> properties;
+
+        Loaded(final String name, final int ordinal, final Map<String, String> properties) {
+            super(name, ordinal);
+            this.properties = Collections.unmodifiableMap(new HashMap<>(properties));
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return properties.keySet();
+        }
+
+        @Override
+        public String getValue(final String propertyName) {
+            return properties.get(propertyName);
+        }
+    }
+}
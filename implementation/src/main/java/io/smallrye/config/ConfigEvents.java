@@ -0,0 +1,74 @@
+package io.smallrye.config;
+
+/**
+ * Emits the Java Flight Recorder events of the {@link SmallRyeConfig}, when JFR is available in the running JVM. The
+ * events are disabled by default and are enabled in the JFR recording settings, like any other JFR event:
+ * <ul>
+ * <li>{@code io.smallrye.config.BuildPhase}: a phase of {@link SmallRyeConfigBuilder#build()}</li>
+ * <li>{@code io.smallrye.config.Mapping}: the mapping of a {@link ConfigMapping} root</li>
+ * <li>{@code io.smallrye.config.Lookup}: a {@link SmallRyeConfig#getConfigValue(String)} call longer than the event
+ * threshold, 1 ms by default</li>
+ * <li>{@code io.smallrye.config.Expansion}: the expansion of the expressions of a value</li>
+ * </ul>
+ * <p>
+ *
+ * Each event is started with a {@code begin} method, which returns {@code null} if the event is not enabled, and is
+ * committed with the matching {@code end} method. The JFR classes are only loaded if JFR is available, so the
+ * {@link SmallRyeConfig} also runs in JVMs without JFR.
+ */
+final class ConfigEvents {
+    private static final boolean AVAILABLE = isAvailable();
+
+    private ConfigEvents() {
+        throw new UnsupportedOperationException();
+    }
+
+    static Object beginPhase() {
+        return AVAILABLE ? JfrConfigEvents.beginPhase() : null;
+    }
+
+    static void endPhase(final Object event, final String phase) {
+        if (event != null) {
+            JfrConfigEvents.endPhase(event, phase);
+        }
+    }
+
+    static Object beginMapping() {
+        return AVAILABLE ? JfrConfigEvents.beginMapping() : null;
+    }
+
+    static void endMapping(final Object event, final String prefix, final Class<?> type) {
+        if (event != null) {
+            JfrConfigEvents.endMapping(event, prefix, type);
+        }
+    }
+
+    static Object beginLookup() {
+        return AVAILABLE ? JfrConfigEvents.beginLookup() : null;
+    }
+
+    static void endLookup(final Object event, final String name, final ConfigValue configValue) {
+        if (event != null) {
+            JfrConfigEvents.endLookup(event, name, configValue);
+        }
+    }
+
+    static Object beginExpansion() {
+        return AVAILABLE ? JfrConfigEvents.beginExpansion() : null;
+    }
+
+    static void endExpansion(final Object event, final String name, final ConfigValue configValue) {
+        if (event != null) {
+            JfrConfigEvents.endExpansion(event, name, configValue);
+        }
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, ConfigEvents.class.getClassLoader());
+            return JfrConfigEvents.isAvailable();
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -599,25 +599,41 @@ final class ConfigMappingProvider implements Serializable {
     }
 
     void mapConfiguration(SmallRyeConfig config) throws ConfigValidationException {
-        mapConfiguration(config, config.getConfigMappings());
+        mapConfiguration(config, StartupRecorder.DISABLED);
     }
 
-    private void mapConfiguration(SmallRyeConfig config, ConfigMappings mappings) throws ConfigValidationException {
+    /**
+     * Maps the configuration roots, and records a step for each root.
+     *
+     * @return the number of roots mapped.
+     */
+    int mapConfiguration(SmallRyeConfig config, StartupRecorder recorder) throws ConfigValidationException {
+        return mapConfiguration(config, config.getConfigMappings(), recorder);
+    }
+
+    private int mapConfiguration(SmallRyeConfig config, ConfigMappings mappings, StartupRecorder recorder)
+            throws ConfigValidationException {
         if (roots.isEmpty()) {
-            return;
+            return 0;
         }
 
         Assert.checkNotNullParam("config", config);
         final ConfigMappingContext context = new ConfigMappingContext(config);
         // eagerly populate roots
+        int mapped = 0;
         for (Map.Entry<String, List<Class<?>>> entry : roots.entrySet()) {
             String path = entry.getKey();
             List<Class<?>> roots = entry.getValue();
             for (Class<?> root : roots) {
+                final StartupRecorder.Span step = recorder.begin();
+                final Object event = ConfigEvents.beginMapping();
                 StringBuilder sb = context.getStringBuilder();
                 sb.replace(0, sb.length(), path);
                 ConfigMappingObject group = (ConfigMappingObject) context.constructGroup(root);
                 context.registerRoot(root, path, group);
+                ConfigEvents.endMapping(event, path, root);
+                step.end(root.getName() + "[prefix=" + path + "]", 1);
+                mapped++;
             }
         }
         // lazily sweep
@@ -642,6 +658,7 @@ final class ConfigMappingProvider implements Serializable {
         context.fillInOptionals();
 
         mappings.registerConfigMappings(context.getRootsMap());
+        return mapped;
     }
 
     private boolean isPropertyInRoot(String propertyName) {
@@ -100,4 +100,22 @@ interface ConfigMessages {
 
     @Message(id = 28, value = "Could not find a mapping for %s with prefix %s")
     NoSuchElementException mappingPrefixNotFound(String className, String prefix);
+
+    @Message(id = 29, value = "Failed to load %d configuration sources")
+    IllegalStateException failedToLoadSources(@Cause Throwable cause, int failures);
+
+    @Message(id = 30, value = "Loading of configuration sources by %s did not complete in %d ms")
+    IllegalStateException loadSourcesTimeout(String name, long millis);
+
+    @Message(id = 31, value = "Failed to read the service index %s")
+    IllegalStateException failedToReadServiceIndex(@Cause Throwable cause, String index);
+
+    @Message(id = 32, value = "Failed to create the service %s of type %s from the service index")
+    IllegalStateException failedToCreateIndexedService(@Cause Throwable cause, String name, String service);
+
+    @Message(id = 33, value = "Failed to load the configuration snapshot %s")
+    IllegalStateException failedToLoadConfigSnapshot(@Cause Throwable cause, String file);
+
+    @Message(id = 34, value = "Expression cycle in the expansion of %s: %s")
+    IllegalArgumentException expressionCycle(String name, String path);
 }
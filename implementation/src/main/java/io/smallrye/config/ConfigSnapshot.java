@@ -0,0 +1,518 @@
+package io.smallrye.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A snapshot of the static part of the configuration, resolved at build time and written to a compact binary file,
+ * that is memory-mapped at startup and used instead of scanning the class path and parsing each static
+ * {@link ConfigSource}.
+ * <p>
+ *
+ * The snapshot keeps, for each name, the raw value of the {@link ConfigSource} with the highest precedence, and the
+ * name and ordinal of that {@link ConfigSource}, so profiles and expressions are still resolved at runtime by the
+ * interceptors, and {@link ConfigValue#getConfigSourceName()} still reports the original source. The snapshot is
+ * used as one {@link ConfigSource} for each ordinal of the original sources, with the entries of that ordinal, so a
+ * source that is not in the snapshot, like the system properties, keeps its precedence over each entry. The default
+ * values of a {@link KeyMapBackedConfigSource}, like the defaults of {@link ConfigMapping}, are kept with their
+ * wildcards.
+ * <p>
+ *
+ * The snapshot is written with {@link #main(String[])} or {@link #write(Path, Iterable)}, and used with
+ * {@link SmallRyeConfigBuilder#withConfigSnapshot(Path)} or {@link #load(Path)}. The file format is:
+ *
+ * <pre>
+ * int magic, int version, int string table offset
+ * int source count, then for each source: int name, int ordinal, byte enumerable
+ * int entry count, then for each entry, sorted by the UTF-8 bytes of the name: int name, int value, int source
+ * int pattern count, then for each pattern: int segment count, int segment..., int value, int source
+ * the string table, with the length and UTF-8 bytes of each string
+ * </pre>
+ *
+ * Names, values and segments are offsets in the string table. Equal strings are only written once.
+ */
+@Experimental("Build-time configuration snapshot")
+public final class ConfigSnapshot {
+    private static final int MAGIC = 0x53524353;
+    private static final int VERSION = 1;
+
+    private ConfigSnapshot() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Writes a snapshot of {@link ConfigSource}s to a file.
+     *
+     * @param file the snapshot file
+     * @param configSources the sources, in order of precedence, like in {@link SmallRyeConfig#getConfigSources()}
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(final Path file, final Iterable<ConfigSource> configSources) throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out, configSources);
+        }
+    }
+
+    static void write(final OutputStream out, final Iterable<ConfigSource> configSources) throws IOException {
+        final List<ConfigSource> sourcesList = new ArrayList<>();
+        final Map<byte[], Entry> entries = new TreeMap<>(ConfigSnapshot::compare);
+        final Map<List<String>, Entry> patterns = new LinkedHashMap<>();
+
+        for (ConfigSource configSource : configSources) {
+            final int source = sourcesList.size();
+            sourcesList.add(configSource);
+            if (configSource instanceof KeyMapBackedConfigSource) {
+                flatten(((KeyMapBackedConfigSource) configSource).getKeyMapProperties(), new ArrayList<>(),
+                        (segments, value) -> {
+                            if (segments.contains("*")) {
+                                patterns.putIfAbsent(new ArrayList<>(segments), new Entry(value, source));
+                            } else {
+                                entries.putIfAbsent(join(segments).getBytes(UTF_8), new Entry(value, source));
+                            }
+                        });
+            } else {
+                for (String name : configSource.getPropertyNames()) {
+                    final String value = configSource.getValue(name);
+                    if (value != null) {
+                        entries.putIfAbsent(name.getBytes(UTF_8), new Entry(value, source));
+                    }
+                }
+            }
+        }
+
+        final StringTable strings = new StringTable();
+        final ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        final DataOutputStream header = new DataOutputStream(headerBytes);
+        header.writeInt(sourcesList.size());
+        for (ConfigSource configSource : sourcesList) {
+            header.writeInt(strings.offset(configSource.getName() != null ? configSource.getName() : ""));
+            header.writeInt(configSource.getOrdinal());
+            header.writeBoolean(!(configSource instanceof KeyMapBackedConfigSource));
+        }
+        header.writeInt(entries.size());
+        for (Map.Entry<byte[], Entry> entry : entries.entrySet()) {
+            header.writeInt(strings.offset(entry.getKey()));
+            header.writeInt(strings.offset(entry.getValue().value));
+            header.writeInt(entry.getValue().source);
+        }
+        header.writeInt(patterns.size());
+        for (Map.Entry<List<String>, Entry> pattern : patterns.entrySet()) {
+            header.writeInt(pattern.getKey().size());
+            for (String segment : pattern.getKey()) {
+                header.writeInt(strings.offset(segment));
+            }
+            header.writeInt(strings.offset(pattern.getValue().value));
+            header.writeInt(pattern.getValue().source);
+        }
+        header.flush();
+
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(12 + headerBytes.size());
+        headerBytes.writeTo(data);
+        strings.bytes.writeTo(data);
+        data.flush();
+    }
+
+    /**
+     * Memory-maps a snapshot file as a {@link ConfigSource} for each ordinal of the sources in the snapshot. The
+     * file must not change while it is used.
+     *
+     * @param file the snapshot file
+     * @return the {@link ConfigSource}s of the snapshot, from the highest to the lowest ordinal
+     * @throws IOException if the snapshot cannot be read, or it is not a snapshot
+     */
+    public static List<ConfigValueConfigSource> load(final Path file) throws IOException {
+        final ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        final Snapshot snapshot = new Snapshot(file.toString(), buffer);
+        final List<ConfigValueConfigSource> configSources = new ArrayList<>();
+        for (int ordinal : snapshot.getOrdinals()) {
+            configSources.add(new SnapshotConfigSource(snapshot, ordinal));
+        }
+        return configSources;
+    }
+
+    /**
+     * Writes the snapshot of the static configuration of the class path it runs with: the
+     * {@code META-INF/microprofile-config.properties} files, the {@link ConfigSource}s and
+     * {@link org.eclipse.microprofile.config.spi.ConfigSourceProvider}s registered with the
+     * {@link java.util.ServiceLoader}, and the default values of the {@link ConfigMapping}s listed in the arguments.
+     * The environment variables, system properties and {@link ConfigSourceFactory} sources are not part of the
+     * snapshot, and are still read at runtime. Run at build time, with the runtime class path of the application,
+     * like with the {@code exec-maven-plugin}.
+     *
+     * @param args the snapshot file, followed by the class names of the {@link ConfigMapping}s
+     * @throws Exception if the snapshot cannot be written, or a {@link ConfigMapping} is not found
+     */
+    public static void main(final String[] args) throws Exception {
+        if (args.length < 1) {
+            throw new IllegalArgumentException(
+                    "Usage: " + ConfigSnapshot.class.getName() + " <snapshot file> [<ConfigMapping class>...]");
+        }
+
+        final ClassLoader classLoader = SecuritySupport.getContextClassLoader();
+        final SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder().forClassLoader(classLoader);
+        final List<ConfigSource> sources = new ArrayList<>(builder.getDefaultSources());
+        sources.removeIf(source -> source instanceof EnvConfigSource || source instanceof SysPropConfigSource);
+        for (ConfigSource source : builder.discoverSources()) {
+            if (!(source instanceof ConfigurableConfigSource)) {
+                sources.add(source);
+            }
+        }
+
+        final ConfigMappingProvider.Builder mappings = ConfigMappingProvider.builder();
+        for (int i = 1; i < args.length; i++) {
+            final Class<?> mapping = Class.forName(args[i], false, classLoader);
+            mappings.addRoot(ConfigMappings.getPrefix(mapping), mapping);
+        }
+
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(sources.toArray(new ConfigSource[0]))
+                .withSources(new DefaultValuesConfigSource(mappings.build().getDefaultValues()))
+                .build();
+        write(Paths.get(args[0]), config.getConfigSources());
+    }
+
+    private static void flatten(final KeyMap<String> keyMap, final List<String> segments,
+            final BiConsumer<List<String>, String> consumer) {
+        if (keyMap.hasRootValue() && !segments.isEmpty()) {
+            consumer.accept(segments, keyMap.getRootValue());
+        }
+        for (Map.Entry<String, KeyMap<String>> entry : keyMap.entrySet()) {
+            segments.add(entry.getKey());
+            flatten(entry.getValue(), segments, consumer);
+            segments.remove(segments.size() - 1);
+        }
+        final KeyMap<String> any = keyMap.getAny();
+        if (any != null) {
+            segments.add("*");
+            flatten(any, segments, consumer);
+            segments.remove(segments.size() - 1);
+        }
+    }
+
+    private static String join(final List<String> segments) {
+        final StringBuilder name = new StringBuilder();
+        for (String segment : segments) {
+            if (name.length() > 0) {
+                name.append('.');
+            }
+            if (segment.indexOf('.') >= 0) {
+                name.append('"').append(segment).append('"');
+            } else {
+                name.append(segment);
+            }
+        }
+        return name.toString();
+    }
+
+    static int compare(final byte[] a, final byte[] b) {
+        final int length = Math.min(a.length, b.length);
+        for (int i = 0; i < length; i++) {
+            final int result = Integer.compare(a[i] & 0xff, b[i] & 0xff);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(a.length, b.length);
+    }
+
+    private static final class Entry {
+        final String value;
+        final int source;
+
+        Entry(final String value, final int source) {
+            this.value = value;
+            this.source = source;
+        }
+    }
+
+    private static final class StringTable {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream data = new DataOutputStream(bytes);
+        final Map<String, Integer> offsets = new HashMap<>();
+
+        int offset(final String string) throws IOException {
+            final Integer offset = offsets.get(string);
+            if (offset != null) {
+                return offset;
+            }
+            final int newOffset = offset(string.getBytes(UTF_8));
+            offsets.put(string, newOffset);
+            return newOffset;
+        }
+
+        int offset(final byte[] string) throws IOException {
+            final int offset = bytes.size();
+            data.writeInt(string.length);
+            data.write(string);
+            return offset;
+        }
+    }
+
+    /**
+     * The memory-mapped content of a snapshot file, shared by the {@link SnapshotConfigSource} of each ordinal. Names
+     * are found with a binary search over the entries, and only the value of the name is decoded. The buffer is only
+     * read with absolute positions, so lookups do not change the buffer and can run concurrently.
+     */
+    static final class Snapshot {
+        private final String file;
+        private final ByteBuffer buffer;
+        private final int strings;
+        private final ConfigSourceDescriptor[] sources;
+        private final boolean[] enumerable;
+        private final int entries;
+        private final int entryCount;
+        /**
+         * The patterns of each ordinal.
+         */
+        private final Map<Integer, KeyMap<ConfigValue>> patterns = new HashMap<>();
+
+        Snapshot(final String file, final ByteBuffer buffer) throws IOException {
+            this.file = file;
+            this.buffer = buffer;
+            if (buffer.capacity() < 12 || buffer.getInt(0) != MAGIC) {
+                throw new IOException(file + " is not a configuration snapshot");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported version " + buffer.getInt(4) + " of configuration snapshot " + file);
+            }
+            this.strings = buffer.getInt(8);
+
+            int position = 12;
+            final int sourceCount = buffer.getInt(position);
+            position += 4;
+            this.sources = new ConfigSourceDescriptor[sourceCount];
+            this.enumerable = new boolean[sourceCount];
+            for (int i = 0; i < sourceCount; i++) {
+                sources[i] = new ConfigSourceDescriptor(string(buffer.getInt(position)), buffer.getInt(position + 4));
+                enumerable[i] = buffer.get(position + 8) != 0;
+                position += 9;
+            }
+
+            this.entryCount = buffer.getInt(position);
+            this.entries = position + 4;
+            position = entries + entryCount * 12;
+
+            final int patternCount = buffer.getInt(position);
+            position += 4;
+            for (int i = 0; i < patternCount; i++) {
+                final String[] segments = new String[buffer.getInt(position)];
+                position += 4;
+                for (int j = 0; j < segments.length; j++) {
+                    segments[j] = string(buffer.getInt(position));
+                    position += 4;
+                }
+                final ConfigSourceDescriptor source = sources[buffer.getInt(position + 4)];
+                patterns.computeIfAbsent(source.getOrdinal(), ordinal -> new KeyMap<>())
+                        .findOrAdd(segments)
+                        .putRootValue(ConfigValue.builder()
+                                .withValue(string(buffer.getInt(position)))
+                                .withConfigSource(source)
+                                .build());
+                position += 8;
+            }
+        }
+
+        /**
+         * Returns the ordinals of the sources in the snapshot, from the highest to the lowest.
+         */
+        List<Integer> getOrdinals() {
+            final Set<Integer> ordinals = new TreeSet<>(Collections.reverseOrder());
+            for (ConfigSourceDescriptor source : sources) {
+                ordinals.add(source.getOrdinal());
+            }
+            return new ArrayList<>(ordinals);
+        }
+
+        ConfigValue getConfigValue(final String propertyName, final int ordinal) {
+            final int entry = find(propertyName.getBytes(UTF_8));
+            if (entry >= 0 && sources[buffer.getInt(entry + 8)].getOrdinal() == ordinal) {
+                return configValue(propertyName, entry);
+            }
+
+            final KeyMap<ConfigValue> patterns = this.patterns.get(ordinal);
+            if (patterns != null) {
+                final ConfigValue pattern = patterns.findRootValue(propertyName);
+                if (pattern != null) {
+                    return pattern.withName(propertyName);
+                }
+            }
+            return null;
+        }
+
+        Map<String, ConfigValue> getConfigValueProperties(final int ordinal) {
+            final Map<String, ConfigValue> properties = new HashMap<>();
+            for (int i = 0; i < entryCount; i++) {
+                final int entry = entries + i * 12;
+                final int source = buffer.getInt(entry + 8);
+                if (enumerable[source] && sources[source].getOrdinal() == ordinal) {
+                    final String name = string(buffer.getInt(entry));
+                    properties.put(name, configValue(name, entry));
+                }
+            }
+            return Collections.unmodifiableMap(properties);
+        }
+
+        Set<String> getPropertyNames(final int ordinal) {
+            final Set<String> names = new HashSet<>();
+            for (int i = 0; i < entryCount; i++) {
+                final int entry = entries + i * 12;
+                final int source = buffer.getInt(entry + 8);
+                if (enumerable[source] && sources[source].getOrdinal() == ordinal) {
+                    names.add(string(buffer.getInt(entry)));
+                }
+            }
+            return Collections.unmodifiableSet(names);
+        }
+
+        private ConfigValue configValue(final String name, final int entry) {
+            return ConfigValue.builder()
+                    .withName(name)
+                    .withValue(string(buffer.getInt(entry + 4)))
+                    .withConfigSource(sources[buffer.getInt(entry + 8)])
+                    .build();
+        }
+
+        /**
+         * Finds the position of the entry of a name.
+         *
+         * @param name the UTF-8 bytes of the name
+         * @return the position of the entry, or {@code -1} if the name is not in the snapshot
+         */
+        private int find(final byte[] name) {
+            int low = 0;
+            int high = entryCount - 1;
+            while (low <= high) {
+                final int middle = (low + high) >>> 1;
+                final int entry = entries + middle * 12;
+                final int result = compare(buffer.getInt(entry), name);
+                if (result < 0) {
+                    low = middle + 1;
+                } else if (result > 0) {
+                    high = middle - 1;
+                } else {
+                    return entry;
+                }
+            }
+            return -1;
+        }
+
+        private int compare(final int offset, final byte[] name) {
+            final int position = strings + offset;
+            final int length = buffer.getInt(position);
+            final int common = Math.min(length, name.length);
+            for (int i = 0; i < common; i++) {
+                final int result = Integer.compare(buffer.get(position + 4 + i) & 0xff, name[i] & 0xff);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return Integer.compare(length, name.length);
+        }
+
+        private String string(final int offset) {
+            final int position = strings + offset;
+            final byte[] bytes = new byte[buffer.getInt(position)];
+            final ByteBuffer string = buffer.duplicate();
+            string.position(position + 4);
+            string.get(bytes);
+            return new String(bytes, UTF_8);
+        }
+    }
+
+    /**
+     * The {@link ConfigSource} of the entries of a snapshot with the same ordinal. Each ordinal of the snapshot is a
+     * separate {@link ConfigSource}, so the sources that are not in the snapshot, like the environment variables,
+     * are still ordered between the snapshot entries as they were between the original sources.
+     */
+    static final class SnapshotConfigSource implements ConfigValueConfigSource, Serializable {
+        private static final long serialVersionUID = -5108437201829014525L;
+
+        private final String file;
+        private final int ordinal;
+        private final transient Snapshot snapshot;
+
+        SnapshotConfigSource(final Snapshot snapshot, final int ordinal) {
+            this.file = snapshot.file;
+            this.ordinal = ordinal;
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public ConfigValue getConfigValue(final String propertyName) {
+            return snapshot.getConfigValue(propertyName, ordinal);
+        }
+
+        @Override
+        public Map<String, ConfigValue> getConfigValueProperties() {
+            return snapshot.getConfigValueProperties(ordinal);
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return snapshot.getPropertyNames(ordinal);
+        }
+
+        @Override
+        public String getName() {
+            return "ConfigSnapshot[source=" + file + ", ordinal=" + ordinal + "]";
+        }
+
+        @Override
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        Object readResolve() throws ObjectStreamException {
+            try {
+                for (ConfigValueConfigSource configSource : load(Paths.get(file))) {
+                    if (configSource.getOrdinal() == ordinal) {
+                        return configSource;
+                    }
+                }
+                throw new InvalidObjectException("Configuration snapshot " + file + " has no ordinal " + ordinal);
+            } catch (IOException e) {
+                final InvalidObjectException exception = new InvalidObjectException(e.getMessage());
+                exception.initCause(e);
+                throw exception;
+            }
+        }
+    }
+}
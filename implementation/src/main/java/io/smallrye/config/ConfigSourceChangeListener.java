@@ -0,0 +1,24 @@
+package io.smallrye.config;
+
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A listener notified by an {@link ObservableConfigSource} when its configuration values change.
+ */
+@Experimental("ConfigSource API Enhancements")
+@FunctionalInterface
+public interface ConfigSourceChangeListener {
+    /**
+     * Called after the values of the {@link ConfigSource} changed.
+     *
+     * @param configSource the {@link ConfigSource} that changed.
+     * @param names the configuration names that were added, removed or changed. An empty Set means that the
+     *        {@link ConfigSource} is unable to tell which names changed, and that all of its values must be considered
+     *        changed.
+     */
+    void onChange(ConfigSource configSource, Set<String> names);
+}
@@ -0,0 +1,35 @@
+package io.smallrye.config;
+
+/**
+ * The name and ordinal of the {@code ConfigSource} of a {@link ConfigValue}. A single instance is shared by all the
+ * {@link ConfigValue} of the same {@code ConfigSource}, instead of keeping both fields in each {@link ConfigValue}.
+ */
+final class ConfigSourceDescriptor {
+    private final String name;
+    private final int ordinal;
+
+    ConfigSourceDescriptor(final String name, final int ordinal) {
+        this.name = name;
+        this.ordinal = ordinal;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    int getOrdinal() {
+        return ordinal;
+    }
+
+    ConfigSourceDescriptor withName(final String name) {
+        return new ConfigSourceDescriptor(name, ordinal);
+    }
+
+    ConfigSourceDescriptor withOrdinal(final int ordinal) {
+        return new ConfigSourceDescriptor(name, ordinal);
+    }
+
+    boolean matches(final String name, final int ordinal) {
+        return this.ordinal == ordinal && (this.name == null ? name == null : this.name.equals(name));
+    }
+}
@@ -1,7 +1,9 @@
 package io.smallrye.config;
 
 import java.util.Collections;
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 
@@ -33,4 +35,19 @@ public interface ConfigSourceFactory {
     default OptionalInt getPriority() {
         return OptionalInt.empty();
     }
+
+    /**
+     * The configuration names this factory reads from the {@link ConfigSourceContext}. The names are looked up
+     * together, before the factories run, and a factory that declares its names may run concurrently with the other
+     * factories, when enabled with {@link SmallRyeConfigBuilder#withSourceLoadingParallelism(int)}.
+     * <p>
+     *
+     * A factory that declares its names may still read other names, but they are looked up one by one.
+     *
+     * @return the names read by the factory, or an empty Optional if unknown, in which case the factory runs in the
+     *         thread that builds the {@link SmallRyeConfig}.
+     */
+    default Optional<Set<String>> getDependencies() {
+        return Optional.empty();
+    }
 }
@@ -2,7 +2,11 @@ package io.smallrye.config;
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import io.smallrye.common.annotation.Experimental;
 
@@ -44,6 +48,84 @@ public interface ConfigSourceInterceptor extends Serializable {
      */
     ConfigValue getValue(ConfigSourceInterceptorContext context, String name);
 
+    /**
+     * Intercept the resolution of multiple configuration names. Calling
+     * {@link ConfigSourceInterceptorContext#proceed(Set)} will continue to execute the interceptor chain for all the
+     * names in a single traversal of the chain.
+     * <p>
+     *
+     * The default implementation intercepts each name with {@link #getValue(ConfigSourceInterceptorContext, String)},
+     * so interceptors only need to override this method to avoid splitting the lookup of the names in the rest of the
+     * chain. Implementations must return the same values as
+     * {@link #getValue(ConfigSourceInterceptorContext, String)} would return for each name.
+     *
+     * @param context the interceptor context. See {@link ConfigSourceInterceptorContext}
+     * @param names the configuration names being intercepted.
+     *
+     * @return a Map with the {@link ConfigValue} of each configuration name found. Names that are not present are not
+     *         included in the Map.
+     */
+    default Map<String, ConfigValue> getValues(ConfigSourceInterceptorContext context, Set<String> names) {
+        final Map<String, ConfigValue> values = new HashMap<>();
+        for (String name : names) {
+            final ConfigValue configValue = getValue(context, name);
+            if (configValue != null) {
+                values.put(name, configValue);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Intercept the resolution of a configuration name, with explicit options for the lookup. Interceptors that
+     * depend on the options (like {@link SecretKeys#isLocked()} or {@link Expressions#isEnabled()}) should override
+     * this method, read the options from the parameter and proceed with
+     * {@link ConfigSourceInterceptorContext#proceed(String, LookupOptions)}.
+     * <p>
+     *
+     * The default implementation runs {@link #getValue(ConfigSourceInterceptorContext, String)} with a context that
+     * proceeds with the options, and with the state of the current thread set to the options unless they are the
+     * default ones.
+     *
+     * @param context the interceptor context. See {@link ConfigSourceInterceptorContext}
+     * @param name the configuration name being intercepted.
+     * @param options the options of the lookup.
+     *
+     * @return a {@link ConfigValue} with information about the name, value, config source and ordinal, or {@code null}
+     *         if the value isn't present.
+     */
+    default ConfigValue getValue(ConfigSourceInterceptorContext context, String name, LookupOptions options) {
+        final ConfigSourceInterceptorContext optionsContext = LookupOptionsInterceptorContext.of(context, options);
+        if (options.isDefault()) {
+            return getValue(optionsContext, name);
+        }
+        return options.apply(() -> getValue(optionsContext, name));
+    }
+
+    /**
+     * Intercept the resolution of multiple configuration names, with explicit options for the lookup.
+     * <p>
+     *
+     * The default implementation runs {@link #getValues(ConfigSourceInterceptorContext, Set)} with a context that
+     * proceeds with the options, and with the state of the current thread set to the options unless they are the
+     * default ones.
+     *
+     * @param context the interceptor context. See {@link ConfigSourceInterceptorContext}
+     * @param names the configuration names being intercepted.
+     * @param options the options of the lookup.
+     *
+     * @return a Map with the {@link ConfigValue} of each configuration name found. Names that are not present are not
+     *         included in the Map.
+     */
+    default Map<String, ConfigValue> getValues(ConfigSourceInterceptorContext context, Set<String> names,
+            LookupOptions options) {
+        final ConfigSourceInterceptorContext optionsContext = LookupOptionsInterceptorContext.of(context, options);
+        if (options.isDefault()) {
+            return getValues(optionsContext, names);
+        }
+        return options.apply(() -> getValues(optionsContext, names));
+    }
+
     /**
      * Intercept the resolution of the configuration names. The Iterator names may be a subset of the
      * total names retrieved from all the registered ConfigSources. Calling
@@ -71,6 +153,24 @@ public interface ConfigSourceInterceptor extends Serializable {
         return context.iterateValues();
     }
 
+    /**
+     * Returns the configuration names this interceptor acts on, so lookups of other names skip the interceptor. A
+     * name also covers every name under it, as defined by {@link NameIterator} segments, and a {@code *} segment
+     * covers any segment. The names are matched with the name each lookup has when it reaches the interceptor, after
+     * the changes of the interceptors that run before.
+     * <p>
+     *
+     * Skipping the interceptor must be equivalent to calling {@link ConfigSourceInterceptorContext#proceed(String)}
+     * with the same name. An interceptor that declares no names is left out of the interceptor chain, including the
+     * iteration of names and values. The names are read once, when the interceptor chain is built.
+     *
+     * @return the configuration names this interceptor acts on, or an empty Optional if the interceptor acts on all
+     *         names, which is the default.
+     */
+    default Optional<Set<String>> getNamePrefixes() {
+        return Optional.empty();
+    }
+
     ConfigSourceInterceptor EMPTY = new ConfigSourceInterceptor() {
         private static final long serialVersionUID = 5749001327530543433L;
 
@@ -79,6 +179,23 @@ public interface ConfigSourceInterceptor extends Serializable {
             return null;
         }
 
+        @Override
+        public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+                final LookupOptions options) {
+            return null;
+        }
+
+        @Override
+        public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+            return new HashMap<>();
+        }
+
+        @Override
+        public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+                final LookupOptions options) {
+            return new HashMap<>();
+        }
+
         @Override
         public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
             return Collections.emptyIterator();
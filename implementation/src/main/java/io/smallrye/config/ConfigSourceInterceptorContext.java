@@ -1,7 +1,10 @@
 package io.smallrye.config;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 
 import io.smallrye.common.annotation.Experimental;
 
@@ -20,6 +23,58 @@ public interface ConfigSourceInterceptorContext extends Serializable {
      */
     ConfigValue proceed(String name);
 
+    /**
+     * Proceeds to the next interceptor in the chain, to lookup multiple configuration names in a single traversal of
+     * the chain.
+     *
+     * @param names the configuration names to lookup. Can be the original keys.
+     * @return a Map with the {@link ConfigValue} of each configuration name found. Names that are not present are not
+     *         included in the Map.
+     */
+    default Map<String, ConfigValue> proceed(Set<String> names) {
+        final Map<String, ConfigValue> values = new HashMap<>();
+        for (String name : names) {
+            final ConfigValue configValue = proceed(name);
+            if (configValue != null) {
+                values.put(name, configValue);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Proceeds to the next interceptor in the chain, with explicit options for the lookup instead of the options of
+     * the current thread.
+     * <p>
+     *
+     * The default implementation runs {@link #proceed(String)} with the state of the current thread set to the
+     * options.
+     *
+     * @param name the configuration name to lookup. Can be the original key.
+     * @param options the options of the lookup.
+     * @return a {@link ConfigValue} with information about the name, value, config source and ordinal, or {@code null}
+     *         if the value isn't present.
+     */
+    default ConfigValue proceed(String name, LookupOptions options) {
+        return options.apply(() -> proceed(name));
+    }
+
+    /**
+     * Proceeds to the next interceptor in the chain, to lookup multiple configuration names in a single traversal of
+     * the chain, with explicit options for the lookup instead of the options of the current thread.
+     * <p>
+     *
+     * The default implementation runs {@link #proceed(Set)} with the state of the current thread set to the options.
+     *
+     * @param names the configuration names to lookup. Can be the original keys.
+     * @param options the options of the lookup.
+     * @return a Map with the {@link ConfigValue} of each configuration name found. Names that are not present are not
+     *         included in the Map.
+     */
+    default Map<String, ConfigValue> proceed(Set<String> names, LookupOptions options) {
+        return options.apply(() -> proceed(names));
+    }
+
     /**
      * Proceeds to the next interceptor in the chain.
      *
@@ -1,6 +1,8 @@
 package io.smallrye.config;
 
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 
 import io.smallrye.common.annotation.Experimental;
 
@@ -44,4 +46,16 @@ public interface ConfigSourceInterceptorFactory {
     default OptionalInt getPriority() {
         return OptionalInt.empty();
     }
+
+    /**
+     * Returns the configuration names the {@link ConfigSourceInterceptor} acts on, as in
+     * {@link ConfigSourceInterceptor#getNamePrefixes()}. The names are only used if the {@link ConfigSourceInterceptor}
+     * does not declare its own names.
+     *
+     * @return the configuration names the {@link ConfigSourceInterceptor} acts on, or an empty Optional if it acts on
+     *         all names, which is the default.
+     */
+    default Optional<Set<String>> getNamePrefixes() {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,247 @@
+package io.smallrye.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * Loads {@code ConfigSources} that do not depend on each other, like the {@code ConfigSources} of each
+ * {@code ConfigSourceProvider} or of each {@code microprofile-config.properties} file.
+ * <p>
+ *
+ * With a parallelism greater than {@code 1}, the concurrent loaders run in a {@link ForkJoinPool} of at most that many
+ * threads, created for the load and shut down after, while the other loaders run in order in the calling thread. With
+ * a timeout, the concurrent loaders always run in the pool, and a loader that runs for longer than the timeout fails.
+ * <p>
+ *
+ * The {@code ConfigSources} are always returned in the order the loaders were added, so the {@code ConfigSources} of
+ * the same ordinal keep the same order as a sequential load. All the loaders run even if one fails, and the failures
+ * are reported together.
+ */
+final class ConfigSourceLoader {
+    private final int parallelism;
+    private final Duration timeout;
+    private final StartupRecorder recorder;
+    private final List<String> names = new ArrayList<>();
+    private final List<Callable<? extends Iterable<ConfigSource>>> loaders = new ArrayList<>();
+    private final List<Boolean> concurrent = new ArrayList<>();
+
+    ConfigSourceLoader(final int parallelism, final StartupRecorder recorder) {
+        this(parallelism, null, recorder);
+    }
+
+    ConfigSourceLoader(final int parallelism, final Duration timeout, final StartupRecorder recorder) {
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Adds a loader that may run concurrently with the other loaders.
+     *
+     * @param name the name of the loader, for the {@link StartupReport}
+     * @param loader the loader of the {@code ConfigSources}
+     */
+    void add(final String name, final Callable<? extends Iterable<ConfigSource>> loader) {
+        add(name, loader, true);
+    }
+
+    /**
+     * Adds a loader.
+     *
+     * @param name the name of the loader, for the {@link StartupReport}
+     * @param loader the loader of the {@code ConfigSources}
+     * @param concurrent {@code true} if the loader may run concurrently with the other loaders, or {@code false} to
+     *        run it in the calling thread
+     */
+    void add(final String name, final Callable<? extends Iterable<ConfigSource>> loader, final boolean concurrent) {
+        names.add(name);
+        loaders.add(loader);
+        this.concurrent.add(concurrent);
+    }
+
+    List<ConfigSource> load() {
+        int concurrentLoaders = 0;
+        for (Boolean concurrent : this.concurrent) {
+            if (concurrent) {
+                concurrentLoaders++;
+            }
+        }
+
+        final int threads = Math.min(parallelism, concurrentLoaders);
+        if (threads > 1 || timeout != null && concurrentLoaders > 0) {
+            return loadParallel(Math.max(threads, 1));
+        }
+        return loadSequential();
+    }
+
+    private List<ConfigSource> loadSequential() {
+        final List<ConfigSource> configSources = new ArrayList<>();
+        for (int i = 0; i < loaders.size(); i++) {
+            final StartupRecorder.Span step = recorder.begin();
+            final int count = add(configSources, call(loaders.get(i)));
+            step.end(names.get(i), count);
+        }
+        return configSources;
+    }
+
+    private List<ConfigSource> loadParallel(final int threads) {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final AtomicInteger threadIndex = new AtomicInteger();
+        final ForkJoinPool pool = new ForkJoinPool(threads, forkJoinPool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            // the pool index is only assigned after the factory returns the thread
+            thread.setName("smallrye-config-loader-" + threadIndex.getAndIncrement());
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }, null, false);
+
+        try {
+            final AtomicLongArray starts = new AtomicLongArray(loaders.size());
+            final List<Future<Loaded>> futures = new ArrayList<>();
+            for (int i = 0; i < loaders.size(); i++) {
+                if (!concurrent.get(i)) {
+                    futures.add(null);
+                    continue;
+                }
+
+                final int index = i;
+                final String name = names.get(i);
+                final Callable<? extends Iterable<ConfigSource>> loader = loaders.get(i);
+                futures.add(pool.submit(() -> {
+                    final long start = System.nanoTime();
+                    starts.set(index, start);
+                    final long startBytes = recorder.allocatedBytes();
+                    final List<ConfigSource> configSources = new ArrayList<>();
+                    try {
+                        final int count = add(configSources, call(loader));
+                        return new Loaded(configSources, recorder.step(name, start, startBytes, count), null);
+                    } catch (RuntimeException | Error e) {
+                        // kept as thrown, the pool rethrows a copy of the failure
+                        return new Loaded(null, null, e);
+                    }
+                }));
+            }
+
+            final List<ConfigSource> configSources = new ArrayList<>();
+            final List<Throwable> failures = new ArrayList<>();
+            for (int i = 0; i < loaders.size(); i++) {
+                final Future<Loaded> future = futures.get(i);
+                if (future == null) {
+                    final StartupRecorder.Span step = recorder.begin();
+                    try {
+                        final int count = add(configSources, call(loaders.get(i)));
+                        step.end(names.get(i), count);
+                    } catch (RuntimeException | Error e) {
+                        step.discard();
+                        failures.add(e);
+                    }
+                    continue;
+                }
+
+                try {
+                    final Loaded loaded = await(future, starts, i);
+                    if (loaded.failure != null) {
+                        failures.add(loaded.failure);
+                    } else {
+                        configSources.addAll(loaded.configSources);
+                        recorder.add(loaded.step);
+                    }
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    failures.add(ConfigMessages.msg.loadSourcesTimeout(names.get(i), timeout.toMillis()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw ConfigMessages.msg.failedToLoadConfig(e);
+                }
+            }
+
+            if (failures.size() == 1) {
+                final Throwable failure = failures.get(0);
+                if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+                throw (RuntimeException) failure;
+            } else if (failures.size() > 1) {
+                final IllegalStateException exception = ConfigMessages.msg.failedToLoadSources(failures.get(0),
+                        failures.size());
+                for (int i = 1; i < failures.size(); i++) {
+                    exception.addSuppressed(failures.get(i));
+                }
+                throw exception;
+            }
+            return configSources;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for a loader. The timeout counts from the start of the loader, not from the submission, since the loader
+     * may wait in the pool for a free thread.
+     */
+    private Loaded await(final Future<Loaded> future, final AtomicLongArray starts, final int index)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        if (timeout == null) {
+            return future.get();
+        }
+
+        final long timeoutNanos = timeout.toNanos();
+        for (;;) {
+            final long start = starts.get(index);
+            final long wait = start == 0 ? timeoutNanos : start + timeoutNanos - System.nanoTime();
+            try {
+                return future.get(Math.max(wait, 0), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                final long started = starts.get(index);
+                if (started != 0 && System.nanoTime() - started >= timeoutNanos) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static Iterable<ConfigSource> call(final Callable<? extends Iterable<ConfigSource>> loader) {
+        try {
+            return loader.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw ConfigMessages.msg.failedToLoadConfig(e);
+        }
+    }
+
+    private static int add(final List<ConfigSource> configSources, final Iterable<ConfigSource> loaded) {
+        int count = 0;
+        for (ConfigSource configSource : loaded) {
+            configSources.add(configSource);
+            count++;
+        }
+        return count;
+    }
+
+    private static final class Loaded {
+        private final List<ConfigSource> configSources;
+        private final StartupReport.Step step;
+        private final Throwable failure;
+
+        Loaded(final List<ConfigSource> configSources, final StartupReport.Step step, final Throwable failure) {
+            this.configSources = configSources;
+            this.step = step;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.smallrye.config;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link ConfigSourceInterceptorContext} that looks up a sequence of {@code ConfigSources} in order, before
+ * proceeding to the next context in the chain. It is equivalent to a chain of {@link SmallRyeConfigSourceInterceptor}
+ * for the same {@code ConfigSources}, but without one context for each {@code ConfigSource}.
+ * <p>
+ *
+ * This class is also the base class of the lookup classes generated by
+ * {@link ConfigSourcesInterceptorContextCompiler}, which only override {@link #proceed(String)} and
+ * {@link #proceed(String, LookupOptions)}.
+ */
+class ConfigSourcesInterceptorContext implements ConfigSourceInterceptorContext {
+    private static final long serialVersionUID = -3853394620370587375L;
+
+    final ConfigValueConfigSource[] sources;
+    final ConfigSourceInterceptorContext next;
+
+    ConfigSourcesInterceptorContext(final ConfigValueConfigSource[] sources, final ConfigSourceInterceptorContext next) {
+        this.sources = sources;
+        this.next = next;
+    }
+
+    @Override
+    public ConfigValue proceed(final String name) {
+        for (ConfigValueConfigSource source : sources) {
+            final ConfigValue configValue = source.getConfigValue(name);
+            if (configValue != null) {
+                return configValue;
+            }
+        }
+        return next.proceed(name);
+    }
+
+    @Override
+    public ConfigValue proceed(final String name, final LookupOptions options) {
+        for (ConfigValueConfigSource source : sources) {
+            final ConfigValue configValue = source.getConfigValue(name);
+            if (configValue != null) {
+                return configValue;
+            }
+        }
+        return next.proceed(name, options);
+    }
+
+    @Override
+    public Map<String, ConfigValue> proceed(final Set<String> names) {
+        return proceed(names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> proceed(final Set<String> names, final LookupOptions options) {
+        final Map<String, ConfigValue> values = new HashMap<>();
+        Set<String> notFound = names;
+        for (ConfigValueConfigSource source : sources) {
+            if (notFound.isEmpty()) {
+                return values;
+            }
+            final Map<String, ConfigValue> found = source.getConfigValues(notFound);
+            if (!found.isEmpty()) {
+                values.putAll(found);
+                notFound = new HashSet<>(notFound);
+                notFound.removeAll(found.keySet());
+            }
+        }
+        if (!notFound.isEmpty()) {
+            values.putAll(next.proceed(notFound, options));
+        }
+        return values;
+    }
+
+    @Override
+    public Iterator<String> iterateNames() {
+        final Set<String> names = PropertyNamesIterator.names(next.iterateNames());
+        for (int i = sources.length - 1; i >= 0; i--) {
+            names.addAll(sources[i].getPropertyNames());
+        }
+        return new PropertyNamesIterator(names);
+    }
+
+    @Override
+    public Iterator<ConfigValue> iterateValues() {
+        final Set<ConfigValue> values = new HashSet<>();
+        next.iterateValues().forEachRemaining(values::add);
+        for (int i = sources.length - 1; i >= 0; i--) {
+            values.addAll(sources[i].getConfigValueProperties().values());
+        }
+        return values.iterator();
+    }
+}
@@ -0,0 +1,200 @@
+package io.smallrye.config;
+
+import static org.objectweb.asm.Type.getDescriptor;
+import static org.objectweb.asm.Type.getInternalName;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import io.smallrye.common.classloader.ClassDefiner;
+
+/**
+ * Compiles the interceptor chain of {@link SmallRyeConfig}, by replacing each sequence of
+ * {@link SmallRyeConfigSourceInterceptor} with a single generated {@link ConfigSourcesInterceptorContext}.
+ * <p>
+ *
+ * The generated class keeps each {@code ConfigSource} in its own field and looks them up in straight-line code, so
+ * each {@code ConfigSource} gets its own call site. This allows the JIT to inline each lookup, instead of dispatching
+ * all the lookups from a single megamorphic call site, and keeps the stack depth constant regardless of the number of
+ * {@code ConfigSources}.
+ * <p>
+ *
+ * Classes are generated once for each number of {@code ConfigSources} and shared between chains of the same shape,
+ * because generated classes cannot be unloaded. Sequences longer than {@link #MAX_SOURCES} are split, to keep the
+ * generated method small enough to be compiled by the JIT. If a class cannot be generated or defined, the lookup falls
+ * back to {@link ConfigSourcesInterceptorContext}.
+ */
+final class ConfigSourcesInterceptorContextCompiler {
+    static final int MAX_SOURCES = 64;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Map<Integer, Constructor<? extends ConfigSourcesInterceptorContext>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+    private static final String I_CONTEXT = getInternalName(ConfigSourceInterceptorContext.class);
+    private static final String I_SOURCES_CONTEXT = getInternalName(ConfigSourcesInterceptorContext.class);
+    private static final String I_SOURCE = getInternalName(ConfigValueConfigSource.class);
+    private static final String D_CONTEXT = getDescriptor(ConfigSourceInterceptorContext.class);
+    private static final String D_SOURCE = getDescriptor(ConfigValueConfigSource.class);
+    private static final String D_CTOR = "([" + D_SOURCE + D_CONTEXT + ")V";
+    private static final String D_PROCEED = "(" + getDescriptor(String.class) + ")" + getDescriptor(ConfigValue.class);
+    private static final String D_PROCEED_OPTIONS = "(" + getDescriptor(String.class) + getDescriptor(LookupOptions.class)
+            + ")" + getDescriptor(ConfigValue.class);
+
+    private static final int V_THIS = 0;
+    private static final int V_SOURCES = 1;
+    private static final int V_NEXT = 2;
+    private static final int V_NAME = 1;
+    private static final int V_OPTIONS = 2;
+
+    private ConfigSourcesInterceptorContextCompiler() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Builds the compiled interceptor chain.
+     *
+     * @param interceptors the initialized interceptors of the chain, sorted by priority
+     * @return the head of the compiled chain
+     */
+    static ConfigSourceInterceptorContext compile(final List<ConfigSourceInterceptor> interceptors) {
+        ConfigSourceInterceptorContext current = new SmallRyeConfigSourceInterceptorContext(ConfigSourceInterceptor.EMPTY,
+                null);
+        final List<ConfigValueConfigSource> sources = new ArrayList<>();
+        for (ConfigSourceInterceptor interceptor : interceptors) {
+            if (interceptor instanceof SmallRyeConfigSourceInterceptor) {
+                // lower priority sources are added first, and must be looked up last
+                sources.add(0, ((SmallRyeConfigSourceInterceptor) interceptor).getConfigValueSource());
+            } else {
+                current = new SmallRyeConfigSourceInterceptorContext(interceptor, compile(sources, current));
+                sources.clear();
+            }
+        }
+        return compile(sources, current);
+    }
+
+    private static ConfigSourceInterceptorContext compile(
+            final List<ConfigValueConfigSource> sources,
+            final ConfigSourceInterceptorContext next) {
+        ConfigSourceInterceptorContext current = next;
+        // the last chunk must be nested deeper in the chain, since it holds the lower priority sources
+        for (int end = sources.size(); end > 0; end -= MAX_SOURCES) {
+            final int start = Math.max(0, end - MAX_SOURCES);
+            current = newContext(sources.subList(start, end).toArray(new ConfigValueConfigSource[0]), current);
+        }
+        return current;
+    }
+
+    private static ConfigSourcesInterceptorContext newContext(
+            final ConfigValueConfigSource[] sources,
+            final ConfigSourceInterceptorContext next) {
+        try {
+            return CONSTRUCTORS.computeIfAbsent(sources.length, ConfigSourcesInterceptorContextCompiler::defineContext)
+                    .newInstance(sources, next);
+        } catch (Exception | LinkageError e) {
+            return new ConfigSourcesInterceptorContext(sources, next);
+        }
+    }
+
+    private static Constructor<? extends ConfigSourcesInterceptorContext> defineContext(final int size) {
+        final String className = I_SOURCES_CONTEXT + "$$" + size;
+        final Class<?> contextClass = ClassDefiner.defineClass(LOOKUP, ConfigSourcesInterceptorContext.class,
+                className.replace('/', '.'), getClassBytes(className, size));
+        try {
+            return contextClass.asSubclass(ConfigSourcesInterceptorContext.class)
+                    .getDeclaredConstructor(ConfigValueConfigSource[].class, ConfigSourceInterceptorContext.class);
+        } catch (NoSuchMethodException e) {
+            throw new NoSuchMethodError(e.getMessage());
+        }
+    }
+
+    static byte[] getClassBytes(final String className, final int size) {
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V1_8, Opcodes.ACC_FINAL | Opcodes.ACC_SYNTHETIC, className, null, I_SOURCES_CONTEXT, null);
+        writer.visitSource(null, null);
+
+        for (int i = 0; i < size; i++) {
+            writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_FINAL, "source" + i, D_SOURCE, null, null).visitEnd();
+        }
+
+        final MethodVisitor ctor = writer.visitMethod(0, "<init>", D_CTOR, null, null);
+        ctor.visitCode();
+        // stack: -
+        ctor.visitVarInsn(Opcodes.ALOAD, V_THIS);
+        ctor.visitVarInsn(Opcodes.ALOAD, V_SOURCES);
+        ctor.visitVarInsn(Opcodes.ALOAD, V_NEXT);
+        // stack: this sources next
+        ctor.visitMethodInsn(Opcodes.INVOKESPECIAL, I_SOURCES_CONTEXT, "<init>", D_CTOR, false);
+        // stack: -
+        for (int i = 0; i < size; i++) {
+            ctor.visitVarInsn(Opcodes.ALOAD, V_THIS);
+            ctor.visitVarInsn(Opcodes.ALOAD, V_SOURCES);
+            ctor.visitLdcInsn(i);
+            // stack: this sources i
+            ctor.visitInsn(Opcodes.AALOAD);
+            // stack: this source
+            ctor.visitFieldInsn(Opcodes.PUTFIELD, className, "source" + i, D_SOURCE);
+            // stack: -
+        }
+        ctor.visitInsn(Opcodes.RETURN);
+        ctor.visitMaxs(0, 0);
+        ctor.visitEnd();
+
+        visitProceed(writer, className, size, false);
+        visitProceed(writer, className, size, true);
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    /**
+     * Generates {@code proceed(String)}, or {@code proceed(String, LookupOptions)} passing the options to the next
+     * context. Each {@code ConfigSource} is looked up in order, and the first value found is returned.
+     */
+    private static void visitProceed(final ClassWriter writer, final String className, final int size,
+            final boolean options) {
+        final String descriptor = options ? D_PROCEED_OPTIONS : D_PROCEED;
+        final int configValueVar = options ? V_OPTIONS + 1 : V_NAME + 1;
+
+        final MethodVisitor proceed = writer.visitMethod(Opcodes.ACC_PUBLIC, "proceed", descriptor, null, null);
+        proceed.visitCode();
+        for (int i = 0; i < size; i++) {
+            // stack: -
+            proceed.visitVarInsn(Opcodes.ALOAD, V_THIS);
+            proceed.visitFieldInsn(Opcodes.GETFIELD, className, "source" + i, D_SOURCE);
+            proceed.visitVarInsn(Opcodes.ALOAD, V_NAME);
+            // stack: source name
+            proceed.visitMethodInsn(Opcodes.INVOKEINTERFACE, I_SOURCE, "getConfigValue", D_PROCEED, true);
+            // stack: configValue
+            proceed.visitVarInsn(Opcodes.ASTORE, configValueVar);
+            // stack: -
+            proceed.visitVarInsn(Opcodes.ALOAD, configValueVar);
+            final Label notFound = new Label();
+            proceed.visitJumpInsn(Opcodes.IFNULL, notFound);
+            proceed.visitVarInsn(Opcodes.ALOAD, configValueVar);
+            proceed.visitInsn(Opcodes.ARETURN);
+            proceed.visitLabel(notFound);
+        }
+        // stack: -
+        proceed.visitVarInsn(Opcodes.ALOAD, V_THIS);
+        proceed.visitFieldInsn(Opcodes.GETFIELD, I_SOURCES_CONTEXT, "next", D_CONTEXT);
+        proceed.visitVarInsn(Opcodes.ALOAD, V_NAME);
+        if (options) {
+            proceed.visitVarInsn(Opcodes.ALOAD, V_OPTIONS);
+        }
+        // stack: next name [options]
+        proceed.visitMethodInsn(Opcodes.INVOKEINTERFACE, I_CONTEXT, "proceed", descriptor, true);
+        // stack: configValue
+        proceed.visitInsn(Opcodes.ARETURN);
+        proceed.visitMaxs(0, 0);
+        proceed.visitEnd();
+    }
+}
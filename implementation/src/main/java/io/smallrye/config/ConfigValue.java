@@ -20,17 +20,20 @@ import io.smallrye.common.annotation.Experimental;
 public class ConfigValue {
     private final String name;
     private final String value;
-    private final String configSourceName;
-    private final int configSourceOrdinal;
+    private final ConfigSourceDescriptor configSource;
 
     private final int lineNumber;
 
     private ConfigValue(final ConfigValueBuilder builder) {
-        this.name = builder.name;
-        this.value = builder.value;
-        this.configSourceName = builder.configSourceName;
-        this.configSourceOrdinal = builder.configSourceOrdinal;
-        this.lineNumber = builder.lineNumber;
+        this(builder.name, builder.value, builder.getConfigSource(), builder.lineNumber);
+    }
+
+    private ConfigValue(final String name, final String value, final ConfigSourceDescriptor configSource,
+            final int lineNumber) {
+        this.name = name;
+        this.value = value;
+        this.configSource = configSource;
+        this.lineNumber = lineNumber;
     }
 
     public String getName() {
@@ -42,11 +45,11 @@ public class ConfigValue {
     }
 
     public String getConfigSourceName() {
-        return configSourceName;
+        return configSource.getName();
     }
 
     public int getConfigSourceOrdinal() {
-        return configSourceOrdinal;
+        return configSource.getOrdinal();
     }
 
     public int getLineNumber() {
@@ -54,27 +57,35 @@ public class ConfigValue {
     }
 
     public String getLocation() {
-        return lineNumber != -1 ? configSourceName + ":" + lineNumber : configSourceName;
+        return lineNumber != -1 ? configSource.getName() + ":" + lineNumber : configSource.getName();
     }
 
+    ConfigSourceDescriptor getConfigSource() {
+        return configSource;
+    }
+
+    // the with methods return the same instance if nothing changes, and do not require a builder otherwise
+
     public ConfigValue withName(final String name) {
-        return from().withName(name).build();
+        return Objects.equals(this.name, name) ? this : new ConfigValue(name, value, configSource, lineNumber);
     }
 
     public ConfigValue withValue(final String value) {
-        return from().withValue(value).build();
+        return Objects.equals(this.value, value) ? this : new ConfigValue(name, value, configSource, lineNumber);
     }
 
     public ConfigValue withConfigSourceName(final String configSourceName) {
-        return from().withConfigSourceName(configSourceName).build();
+        return Objects.equals(configSource.getName(), configSourceName) ? this
+                : new ConfigValue(name, value, configSource.withName(configSourceName), lineNumber);
     }
 
     public ConfigValue withConfigSourceOrdinal(final int configSourceOrdinal) {
-        return from().withConfigSourceOrdinal(configSourceOrdinal).build();
+        return configSource.getOrdinal() == configSourceOrdinal ? this
+                : new ConfigValue(name, value, configSource.withOrdinal(configSourceOrdinal), lineNumber);
     }
 
     public ConfigValue withLineNumber(final int lineNumber) {
-        return from().withLineNumber(lineNumber).build();
+        return this.lineNumber == lineNumber ? this : new ConfigValue(name, value, configSource, lineNumber);
     }
 
     @Override
@@ -88,20 +99,19 @@ public class ConfigValue {
         final ConfigValue that = (ConfigValue) o;
         return name.equals(that.name) &&
                 value.equals(that.value) &&
-                configSourceName.equals(that.configSourceName);
+                getConfigSourceName().equals(that.getConfigSourceName());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, value, configSourceName);
+        return Objects.hash(name, value, getConfigSourceName());
     }
 
     ConfigValueBuilder from() {
         return new ConfigValueBuilder()
                 .withName(name)
                 .withValue(value)
-                .withConfigSourceName(configSourceName)
-                .withConfigSourceOrdinal(configSourceOrdinal)
+                .withConfigSource(configSource)
                 .withLineNumber(lineNumber);
     }
 
@@ -114,6 +124,7 @@ public class ConfigValue {
         private String value;
         private String configSourceName;
         private int configSourceOrdinal;
+        private ConfigSourceDescriptor configSource;
         private int lineNumber = -1;
 
         public ConfigValueBuilder withName(final String name) {
@@ -141,6 +152,24 @@ public class ConfigValue {
             return this;
         }
 
+        /**
+         * Sets the name and ordinal of the {@code ConfigSource} from a descriptor that can be shared by all the values
+         * of the same {@code ConfigSource}.
+         */
+        ConfigValueBuilder withConfigSource(final ConfigSourceDescriptor configSource) {
+            this.configSourceName = configSource.getName();
+            this.configSourceOrdinal = configSource.getOrdinal();
+            this.configSource = configSource;
+            return this;
+        }
+
+        private ConfigSourceDescriptor getConfigSource() {
+            if (configSource != null && configSource.matches(configSourceName, configSourceOrdinal)) {
+                return configSource;
+            }
+            return new ConfigSourceDescriptor(configSourceName, configSourceOrdinal);
+        }
+
         public ConfigValue build() {
             return new ConfigValue(this);
         }
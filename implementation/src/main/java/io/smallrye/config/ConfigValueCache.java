@@ -0,0 +1,54 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the final resolved {@link ConfigValue} for each configuration name looked up in {@link SmallRyeConfig},
+ * including the ones that were not found.
+ * <p>
+ *
+ * The cache is invalidated as a whole. Each invalidation moves the cache to a new generation, and values resolved in
+ * an older generation are never kept, so a lookup racing with an invalidation cannot leave a stale value behind.
+ */
+final class ConfigValueCache implements Serializable {
+    private static final long serialVersionUID = 2464212218484165066L;
+
+    private final transient ConcurrentHashMap<String, ConfigValue> values = new ConcurrentHashMap<>();
+    private final transient AtomicInteger generation = new AtomicInteger();
+
+    ConfigValue get(final String name) {
+        return values.get(name);
+    }
+
+    int getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a resolved {@link ConfigValue}, only if the cache was not invalidated since the lookup started.
+     *
+     * @param name the configuration name.
+     * @param configValue the resolved {@link ConfigValue}.
+     * @param generation the cache generation read before the lookup started.
+     */
+    void put(final String name, final ConfigValue configValue, final int generation) {
+        if (this.generation.get() == generation) {
+            values.put(name, configValue);
+            // an invalidation may have happened between the check and the put
+            if (this.generation.get() != generation) {
+                values.remove(name, configValue);
+            }
+        }
+    }
+
+    void invalidate() {
+        generation.incrementAndGet();
+        values.clear();
+    }
+
+    private Object readResolve() {
+        return new ConfigValueCache();
+    }
+}
@@ -1,7 +1,9 @@
 package io.smallrye.config;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 
@@ -29,6 +31,26 @@ public interface ConfigValueConfigSource extends ConfigSource {
      */
     ConfigValue getConfigValue(String propertyName);
 
+    /**
+     * Return the {@link ConfigValue} of multiple properties in this configuration source. Sources that are able to
+     * retrieve multiple values in a single operation (like a single query to a remote store) should override this
+     * method.
+     *
+     * @param propertyNames the property names
+     * @return a Map with the ConfigValue of each property present. Properties that are not present are not included
+     *         in the Map.
+     */
+    default Map<String, ConfigValue> getConfigValues(Set<String> propertyNames) {
+        final Map<String, ConfigValue> values = new HashMap<>();
+        for (String propertyName : propertyNames) {
+            final ConfigValue configValue = getConfigValue(propertyName);
+            if (configValue != null) {
+                values.put(propertyName, configValue);
+            }
+        }
+        return values;
+    }
+
     /**
      * Return the properties in this configuration source as a Map of String and {@link ConfigValue}.
      *
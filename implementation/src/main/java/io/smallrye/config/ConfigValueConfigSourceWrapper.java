@@ -10,6 +10,19 @@ final class ConfigValueConfigSourceWrapper implements ConfigValueConfigSource, S
     private static final long serialVersionUID = -1109094614437147326L;
 
     private final ConfigSource configSource;
+    private transient volatile ConfigSourceDescriptor descriptor;
+    /**
+     * The view of {@link ConfigSource#getProperties()}, reused while the {@link ConfigSource} returns the same
+     * {@link Map} instance, with the same name and ordinal.
+     */
+    private transient volatile ConfigValueMapStringView properties;
+    /**
+     * If {@link ConfigSource#getProperties()} returns the same {@link Map} instance on each call, checked on the first
+     * lookup, or {@code null} if not checked yet. Sources that copy their properties on each call, like the system
+     * properties, do not reuse the {@link ConfigValue} of the view, since the copy costs more than the
+     * {@link ConfigValue}.
+     */
+    private transient volatile Boolean sameProperties;
 
     private ConfigValueConfigSourceWrapper(final ConfigSource configSource) {
         this.configSource = configSource;
@@ -19,22 +32,52 @@ final class ConfigValueConfigSourceWrapper implements ConfigValueConfigSource, S
     public ConfigValue getConfigValue(final String propertyName) {
         String value = configSource.getValue(propertyName);
         if (value != null) {
+            // the view keeps one ConfigValue for each name of the source properties
+            if (isSameProperties()) {
+                final ConfigValue configValue = getConfigValueProperties().get(propertyName);
+                if (configValue != null && value.equals(configValue.getValue())) {
+                    return configValue;
+                }
+            }
+
             return ConfigValue.builder()
                     .withName(propertyName)
                     .withValue(value)
-                    .withConfigSourceName(getName())
-                    .withConfigSourceOrdinal(getOrdinal())
+                    .withConfigSource(getDescriptor())
                     .build();
         }
 
         return null;
     }
 
+    private boolean isSameProperties() {
+        Boolean sameProperties = this.sameProperties;
+        if (sameProperties == null) {
+            final Map<String, String> properties = configSource.getProperties();
+            this.sameProperties = sameProperties = properties != null && properties == configSource.getProperties();
+        }
+        return sameProperties;
+    }
+
+    private ConfigSourceDescriptor getDescriptor() {
+        final String name = getName();
+        final int ordinal = getOrdinal();
+        ConfigSourceDescriptor descriptor = this.descriptor;
+        if (descriptor == null || !descriptor.matches(name, ordinal)) {
+            this.descriptor = descriptor = new ConfigSourceDescriptor(name, ordinal);
+        }
+        return descriptor;
+    }
+
     @Override
     public Map<String, ConfigValue> getConfigValueProperties() {
-        return new ConfigValueMapStringView(configSource.getProperties(),
-                configSource.getName(),
-                configSource.getOrdinal());
+        final Map<String, String> properties = configSource.getProperties();
+        final ConfigSourceDescriptor descriptor = getDescriptor();
+        ConfigValueMapStringView view = this.properties;
+        if (view == null || !view.isViewOf(properties, descriptor)) {
+            this.properties = view = new ConfigValueMapStringView(properties, descriptor);
+        }
+        return view;
     }
 
     @Override
@@ -66,6 +109,10 @@ final class ConfigValueConfigSourceWrapper implements ConfigValueConfigSource, S
         return configSource;
     }
 
+    Object readResolve() {
+        return new ConfigValueConfigSourceWrapper(configSource);
+    }
+
     static ConfigValueConfigSource wrap(final ConfigSource configSource) {
         if (configSource instanceof ConfigValueConfigSource) {
             return (ConfigValueConfigSource) configSource;
@@ -8,17 +8,34 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class ConfigValueMapStringView extends AbstractMap<String, ConfigValue> {
+    private final Map<String, String> properties;
     private final Map<String, String> delegate;
-    private final String configSourceName;
-    private final int configSourceOrdinal;
+    private final ConfigSourceDescriptor configSource;
+    /**
+     * The {@link ConfigValue} of each name looked up with {@link #get(Object)}, reused while the value in the delegate
+     * stays the same.
+     */
+    private final Map<String, ConfigValue> configValues = new ConcurrentHashMap<>();
 
     public ConfigValueMapStringView(final Map<String, String> delegate, final String configSourceName,
             final int configSourceOrdinal) {
+        this(delegate, new ConfigSourceDescriptor(configSourceName, configSourceOrdinal));
+    }
+
+    ConfigValueMapStringView(final Map<String, String> delegate, final ConfigSourceDescriptor configSource) {
+        this.properties = delegate;
         this.delegate = Collections.unmodifiableMap(delegate);
-        this.configSourceName = configSourceName;
-        this.configSourceOrdinal = configSourceOrdinal;
+        this.configSource = configSource;
+    }
+
+    /**
+     * Checks if this is the view of a {@link Map} instance, with the same {@link ConfigSourceDescriptor}.
+     */
+    boolean isViewOf(final Map<String, String> delegate, final ConfigSourceDescriptor configSource) {
+        return properties == delegate && this.configSource == configSource;
     }
 
     @Override
@@ -52,7 +69,12 @@ final class ConfigValueMapStringView extends AbstractMap<String, ConfigValue> {
             return null;
         }
 
-        return toConfigValue((String) key, value);
+        ConfigValue configValue = configValues.get(key);
+        if (configValue == null || !value.equals(configValue.getValue())) {
+            configValue = toConfigValue((String) key, value);
+            configValues.put((String) key, configValue);
+        }
+        return configValue;
     }
 
     @Override
@@ -134,8 +156,7 @@ final class ConfigValueMapStringView extends AbstractMap<String, ConfigValue> {
         return ConfigValue.builder()
                 .withName(name)
                 .withValue(value)
-                .withConfigSourceName(configSourceName)
-                .withConfigSourceOrdinal(configSourceOrdinal)
+                .withConfigSource(configSource)
                 .build();
     }
 }
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.util.HashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Loads properties as {@link ConfigValue}.
@@ -13,20 +15,29 @@ import java.util.HashMap;
  * the line number from which the configuration was loaded.
  */
 class ConfigValueProperties extends HashMap<String, ConfigValue> {
-    private final String configSourceName;
-    private final int configSourceOrdinal;
+    private final ConfigSourceDescriptor configSource;
+    private final Lock lock = new ReentrantLock();
 
     public ConfigValueProperties(final String configSourceName, final int configSourceOrdinal) {
-        this.configSourceName = configSourceName;
-        this.configSourceOrdinal = configSourceOrdinal;
+        this.configSource = new ConfigSourceDescriptor(configSourceName, configSourceOrdinal);
     }
 
-    public synchronized void load(Reader reader) throws IOException {
-        load0(new LineReader(reader));
+    public void load(Reader reader) throws IOException {
+        lock.lock();
+        try {
+            load0(new LineReader(reader));
+        } finally {
+            lock.unlock();
+        }
     }
 
-    public synchronized void load(InputStream inStream) throws IOException {
-        load0(new LineReader(inStream));
+    public void load(InputStream inStream) throws IOException {
+        lock.lock();
+        try {
+            load0(new LineReader(inStream));
+        } finally {
+            lock.unlock();
+        }
     }
 
     private void load0(LineReader lr) throws IOException {
@@ -80,8 +91,7 @@ class ConfigValueProperties extends HashMap<String, ConfigValue> {
             put(key, ConfigValue.builder()
                     .withName(key)
                     .withValue(value)
-                    .withConfigSourceName(configSourceName)
-                    .withConfigSourceOrdinal(configSourceOrdinal)
+                    .withConfigSource(configSource)
                     .withLineNumber(lr.lineNumber)
                     .build());
         }
@@ -8,7 +8,7 @@ import java.util.Map;
 
 import io.smallrye.config.common.utils.ConfigSourceUtil;
 
-public class ConfigValuePropertiesConfigSource extends MapBackedConfigValueConfigSource {
+public class ConfigValuePropertiesConfigSource extends MapBackedConfigValueConfigSource implements EnumerableConfigSource {
     private static final long serialVersionUID = 9070158352250209380L;
 
     private static final String NAME_PREFIX = "ConfigValuePropertiesConfigSource[source=";
@@ -0,0 +1,138 @@
+package io.smallrye.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable table with the resolved {@link ConfigValue} of each configuration name of a frozen
+ * {@link SmallRyeConfig}.
+ * <p>
+ *
+ * The table uses a perfect hash function built with the hash and displace method: names are first distributed into
+ * small buckets, and each bucket gets a seed that places all its names in free slots of the table. A lookup reads
+ * the seed of the bucket and probes a single slot. Names that cannot be placed (like names with the same
+ * {@link String#hashCode()}) are left out of the table and are resolved by the interceptor chain.
+ */
+final class ConfigValueSnapshot {
+    private static final int MAX_SEED = 1 << 16;
+
+    private final int[] seeds;
+    private final String[] names;
+    private final ConfigValue[] values;
+
+    private ConfigValueSnapshot(final int[] seeds, final String[] names, final ConfigValue[] values) {
+        this.seeds = seeds;
+        this.names = names;
+        this.values = values;
+    }
+
+    /**
+     * Returns the resolved {@link ConfigValue} of a configuration name.
+     *
+     * @param name the configuration name.
+     * @return the {@link ConfigValue} or {@code null} if the name is not part of the snapshot.
+     */
+    ConfigValue get(final String name) {
+        final int hash = name.hashCode();
+        final int slot = slot(hash, seeds[bucket(hash, seeds.length)], names.length);
+        final String slotName = names[slot];
+        return slotName != null && slotName.equals(name) ? values[slot] : null;
+    }
+
+    int size() {
+        int size = 0;
+        for (String name : names) {
+            if (name != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    static ConfigValueSnapshot of(final Map<String, ConfigValue> configValues) {
+        final int size = configValues.size();
+        // power of two sizes, so bucket and slot are a mask; the table is at most 80% full
+        final int tableSize = powerOfTwo(size + size / 4 + 1);
+        final int bucketsSize = powerOfTwo(size / 4 + 1);
+
+        final List<List<String>> buckets = new ArrayList<>(bucketsSize);
+        for (int i = 0; i < bucketsSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        for (String name : configValues.keySet()) {
+            buckets.get(bucket(name.hashCode(), bucketsSize)).add(name);
+        }
+
+        final Integer[] order = new Integer[bucketsSize];
+        for (int i = 0; i < bucketsSize; i++) {
+            order[i] = i;
+        }
+        // place the largest buckets first, while the table has more free slots
+        Arrays.sort(order, Comparator.comparingInt((Integer bucket) -> buckets.get(bucket).size()).reversed());
+
+        final int[] seeds = new int[bucketsSize];
+        final String[] names = new String[tableSize];
+        final ConfigValue[] values = new ConfigValue[tableSize];
+        final int[] slots = new int[size];
+        for (int bucket : order) {
+            final List<String> bucketNames = buckets.get(bucket);
+            if (bucketNames.isEmpty()) {
+                break;
+            }
+
+            for (int seed = 1; seed < MAX_SEED; seed++) {
+                if (place(bucketNames, seed, names, slots)) {
+                    seeds[bucket] = seed;
+                    for (int i = 0; i < bucketNames.size(); i++) {
+                        names[slots[i]] = bucketNames.get(i);
+                        values[slots[i]] = configValues.get(bucketNames.get(i));
+                    }
+                    break;
+                }
+            }
+        }
+
+        return new ConfigValueSnapshot(seeds, names, values);
+    }
+
+    private static boolean place(final List<String> bucketNames, final int seed, final String[] names, final int[] slots) {
+        for (int i = 0; i < bucketNames.size(); i++) {
+            final int slot = slot(bucketNames.get(i).hashCode(), seed, names.length);
+            if (names[slot] != null) {
+                return false;
+            }
+            for (int j = 0; j < i; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[i] = slot;
+        }
+        return true;
+    }
+
+    private static int bucket(final int hash, final int bucketsSize) {
+        return mix(hash) & (bucketsSize - 1);
+    }
+
+    private static int slot(final int hash, final int seed, final int tableSize) {
+        return mix(hash ^ seed * 0x9e3779b9) & (tableSize - 1);
+    }
+
+    private static int mix(int hash) {
+        // MurmurHash3 finalizer
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static int powerOfTwo(final int size) {
+        return size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+    }
+}
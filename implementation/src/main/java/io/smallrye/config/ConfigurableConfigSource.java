@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -42,6 +43,10 @@ public class ConfigurableConfigSource implements ConfigSource {
         return factory.getPriority().orElse(DEFAULT_ORDINAL);
     }
 
+    Optional<Set<String>> getDependencies() {
+        return factory.getDependencies();
+    }
+
     List<ConfigSource> getConfigSources(ConfigSourceContext context) {
         return StreamSupport.stream(factory.getConfigSources(context).spliterator(), false).collect(Collectors.toList());
     }
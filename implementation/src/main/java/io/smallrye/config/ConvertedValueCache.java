@@ -0,0 +1,99 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+/**
+ * Holds the last converted value of each configuration name, together with the {@link Converter} and the raw value
+ * used in the conversion. A cached value is only returned if it was converted by the same {@link Converter} instance
+ * from an equal raw value.
+ * <p>
+ *
+ * Only immutable converted values are cached, since the same instance is returned to every caller. Mutable values,
+ * like the collections created by {@link Converters#newCollectionConverter}, are converted on each lookup.
+ */
+final class ConvertedValueCache implements Serializable {
+    private static final long serialVersionUID = -1366564428934516208L;
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+            String.class,
+            Boolean.class,
+            Byte.class,
+            Short.class,
+            Integer.class,
+            Long.class,
+            Float.class,
+            Double.class,
+            Character.class,
+            BigInteger.class,
+            BigDecimal.class,
+            UUID.class,
+            Class.class,
+            OptionalInt.class,
+            OptionalLong.class,
+            OptionalDouble.class));
+
+    private final transient ConcurrentHashMap<String, ConvertedValue> values = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached converted value.
+     *
+     * @param name the configuration name.
+     * @param converter the {@link Converter} requested for the conversion.
+     * @param value the current raw value.
+     * @return the cached converted value, or {@code null} if the value was not cached, was converted by another
+     *         {@link Converter} or from a different raw value.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(final String name, final Converter<T> converter, final String value) {
+        final ConvertedValue convertedValue = values.get(name);
+        if (convertedValue != null && convertedValue.converter == converter
+                && Objects.equals(convertedValue.value, value)) {
+            return (T) convertedValue.converted;
+        }
+        return null;
+    }
+
+    <T> void put(final String name, final Converter<T> converter, final String value, final T converted) {
+        if (isImmutable(converted)) {
+            values.put(name, new ConvertedValue(converter, value, converted));
+        }
+    }
+
+    private static boolean isImmutable(final Object converted) {
+        if (converted instanceof Optional) {
+            final Optional<?> optional = (Optional<?>) converted;
+            return !optional.isPresent() || isImmutable(optional.get());
+        }
+        return IMMUTABLE_TYPES.contains(converted.getClass()) || converted instanceof Enum;
+    }
+
+    private Object readResolve() {
+        return new ConvertedValueCache();
+    }
+
+    private static final class ConvertedValue {
+        private final Converter<?> converter;
+        private final String value;
+        private final Object converted;
+
+        ConvertedValue(final Converter<?> converter, final String value, final Object converted) {
+            this.converter = converter;
+            this.value = value;
+            this.converted = converted;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.smallrye.config;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Extends the original {@link ConfigSource} to declare that {@link ConfigSource#getPropertyNames()} contains every
+ * property that the {@link ConfigSource} is able to resolve. The MicroProfile Config specification does not require
+ * {@link ConfigSource#getPropertyNames()} to be complete, so this is an opt-in contract.
+ * <p>
+ *
+ * With {@link SmallRyeConfigBuilder#withConfigSourceFilter(boolean)}, {@link SmallRyeConfig} keeps a compact
+ * membership filter with the names of each {@link EnumerableConfigSource}, and skips the {@link ConfigSource} for a
+ * lookup when the filter rules out the name. The property names must not change, unless the {@link ConfigSource} is
+ * also an {@link ObservableConfigSource} and reports the change.
+ */
+@Experimental("ConfigSource API Enhancements")
+public interface EnumerableConfigSource extends ConfigSource {
+    /**
+     * Returns the canonical form of a property name, used to match a lookup name with the property names of the
+     * {@link ConfigSource}. A {@link ConfigSource} that resolves several different names to the same property (like
+     * the environment variables) must return the same canonical name for all of them, and for the property name
+     * itself.
+     *
+     * @param propertyName the property name
+     * @return the canonical form of the property name, by default the property name itself.
+     */
+    default String getCanonicalName(String propertyName) {
+        return propertyName;
+    }
+
+    /**
+     * Returns the {@link String#hashCode()} of the canonical form of a property name, as returned by
+     * {@link #getCanonicalName(String)}. A {@link ConfigSource} with its own canonical form may override this method
+     * to compute the hash without creating the canonical name.
+     *
+     * @param propertyName the property name
+     * @return the hash of the canonical form of the property name.
+     */
+    default int getCanonicalHash(String propertyName) {
+        return getCanonicalName(propertyName).hashCode();
+    }
+}
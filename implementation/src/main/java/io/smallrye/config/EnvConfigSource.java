@@ -29,7 +29,7 @@ import io.smallrye.config.common.AbstractConfigSource;
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
-public class EnvConfigSource extends AbstractConfigSource {
+public class EnvConfigSource extends AbstractConfigSource implements EnumerableConfigSource {
     private static final long serialVersionUID = -4525015934376795496L;
     private static final int DEFAULT_ORDINAL = 300;
 
@@ -83,6 +83,54 @@ public class EnvConfigSource extends AbstractConfigSource {
         return null;
     }
 
+    /**
+     * A name matches an environment variable with the exact name, the name with non-alphanumeric characters replaced
+     * by underscores, or the same converted to uppercase. All of them have the same uppercase form with underscores.
+     */
+    @Override
+    public String getCanonicalName(String name) {
+        return canonicalName(name);
+    }
+
+    @Override
+    public int getCanonicalHash(String name) {
+        return canonicalHash(name);
+    }
+
+    static String canonicalName(String name) {
+        int length = name.length();
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if ('a' <= c && c <= 'z') {
+                chars[i] = (char) (c - 'a' + 'A');
+            } else if ('A' <= c && c <= 'Z' || '0' <= c && c <= '9') {
+                chars[i] = c;
+            } else {
+                chars[i] = '_';
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * The {@link String#hashCode()} of {@link #canonicalName(String)}, computed in a single pass over the name
+     * without creating the canonical name.
+     */
+    static int canonicalHash(String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if ('a' <= c && c <= 'z') {
+                c = (char) (c - 'a' + 'A');
+            } else if (!('A' <= c && c <= 'Z' || '0' <= c && c <= '9')) {
+                c = '_';
+            }
+            hash = 31 * hash + c;
+        }
+        return hash;
+    }
+
     private static String replaceNonAlphanumericByUnderscores(String name) {
         int length = name.length();
         StringBuilder sb = new StringBuilder();
@@ -3,6 +3,16 @@ package io.smallrye.config;
 import static io.smallrye.common.expression.Expression.Flag.LENIENT_SYNTAX;
 import static io.smallrye.common.expression.Expression.Flag.NO_TRIM;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 import javax.annotation.Priority;
 
 import io.smallrye.common.expression.Expression;
@@ -11,40 +21,277 @@ import io.smallrye.common.expression.Expression;
 public class ExpressionConfigSourceInterceptor implements ConfigSourceInterceptor {
     private static final long serialVersionUID = -539336551011916218L;
 
-    private static final int MAX_DEPTH = 32;
+    /**
+     * The maximum number of compiled expressions to keep. When full, an arbitrary expression is evicted for each new
+     * one.
+     */
+    private static final int MAX_EXPRESSIONS = 1024;
+    /**
+     * The maximum number of values expanded inside each other, so a long chain of expressions fails with a
+     * configuration error instead of overflowing the stack.
+     */
+    private static final int MAX_DEPTH = 512;
+
+    private static final AtomicReferenceFieldUpdater<ExpressionConfigSourceInterceptor, ExpressionGraph> GRAPH = AtomicReferenceFieldUpdater
+            .newUpdater(ExpressionConfigSourceInterceptor.class, ExpressionGraph.class, "graph");
+
+    private final boolean expandedValueCache;
+    /**
+     * The compiled expressions, by raw value. {@link Expression} is not serializable, so the expressions are compiled
+     * again after deserialization.
+     */
+    private transient volatile Map<String, Expression> expressions;
+    private transient volatile ExpressionGraph graph;
+
+    public ExpressionConfigSourceInterceptor() {
+        this(false);
+    }
+
+    /**
+     * @param expandedValueCache {@code true} to keep the expanded values, until a name they depend on changes.
+     */
+    ExpressionConfigSourceInterceptor(final boolean expandedValueCache) {
+        this.expandedValueCache = expandedValueCache;
+    }
 
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
-        return getValue(context, name, 1);
+        return getValue(context, name, LookupOptions.current());
     }
 
-    private ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name, final int depth) {
-        if (depth == MAX_DEPTH) {
-            throw ConfigMessages.msg.expressionExpansionTooDepth(name);
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+            final LookupOptions options) {
+        if (!options.isExpansionEnabled()) {
+            return context.proceed(name, options);
         }
 
-        final ConfigValue configValue = context.proceed(name);
+        final ExpressionGraph graph = getGraph(options);
+        if (graph != null) {
+            final ExpressionGraph.Node node = graph.get(name);
+            if (node != null) {
+                return node.getValue();
+            }
+            return new Expansion(context, options, graph).resolve(name).getValue();
+        }
 
-        if (!Expressions.isEnabled()) {
+        final ConfigValue configValue = context.proceed(name, options);
+        // without a $ there is nothing to expand
+        if (configValue == null || configValue.getValue() == null || configValue.getValue().indexOf('$') == -1) {
             return configValue;
         }
+        return new Expansion(context, options, null).resolved(name, configValue).getValue();
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+        return getValues(context, names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+            final LookupOptions options) {
+        if (!options.isExpansionEnabled()) {
+            return context.proceed(names, options);
+        }
+
+        final ExpressionGraph graph = getGraph(options);
+        // names referenced by more than one value are only resolved once
+        final Expansion expansion = new Expansion(context, options, graph);
+        final Map<String, ConfigValue> values = new HashMap<>();
+        Set<String> lookupNames = names;
+        if (graph != null) {
+            lookupNames = new HashSet<>();
+            for (String name : names) {
+                final ExpressionGraph.Node node = graph.get(name);
+                if (node == null) {
+                    lookupNames.add(name);
+                } else if (node.getValue() != null) {
+                    values.put(name, node.getValue());
+                }
+            }
+        }
+
+        final Map<String, ConfigValue> configValues = lookupNames.isEmpty() ? Collections.emptyMap()
+                : context.proceed(lookupNames, options);
+        for (String name : lookupNames) {
+            final ConfigValue configValue = expansion.resolved(name, configValues.get(name)).getValue();
+            if (configValue != null) {
+                values.put(name, configValue);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Discards the expanded values that depend on the names, directly or through other expressions.
+     *
+     * @param names the changed names, or {@code null} to discard all the expanded values.
+     */
+    void configSourceChanged(final Set<String> names) {
+        final ExpressionGraph graph = this.graph;
+        if (graph == null) {
+            return;
+        }
+
+        if (names == null) {
+            graph.clear();
+            return;
+        }
+
+        final Set<String> changed = new HashSet<>(names);
+        for (String name : names) {
+            // the value of %profile.name is expanded as the value of name
+            if (!name.isEmpty() && name.charAt(0) == '%') {
+                for (int i = name.indexOf('.'); i != -1; i = name.indexOf('.', i + 1)) {
+                    changed.add(name.substring(i + 1));
+                }
+            }
+        }
+        graph.invalidate(changed);
+    }
 
-        if (configValue == null) {
+    /**
+     * Returns the graph of expanded values, or {@code null} if the values cannot be kept. Values are only kept when
+     * secret keys are locked, so a value referencing a secret key is never available to a lookup with locked secret
+     * keys.
+     */
+    private ExpressionGraph getGraph(final LookupOptions options) {
+        if (!expandedValueCache || !options.isSecretKeysLocked()) {
             return null;
         }
 
-        final Expression expression = Expression.compile(configValue.getValue(), LENIENT_SYNTAX, NO_TRIM);
-        final String expanded = expression.evaluate((resolveContext, stringBuilder) -> {
-            final ConfigValue resolve = getValue(context, resolveContext.getKey(), depth + 1);
-            if (resolve != null) {
-                stringBuilder.append(resolve.getValue());
-            } else if (resolveContext.hasDefault()) {
-                resolveContext.expandDefault();
-            } else {
-                throw ConfigMessages.msg.expandingElementNotFound(resolveContext.getKey(), configValue.getName());
+        final ExpressionGraph graph = this.graph;
+        // not serialized, so it starts empty again after deserialization
+        if (graph == null) {
+            GRAPH.compareAndSet(this, null, new ExpressionGraph());
+            return this.graph;
+        }
+        return graph;
+    }
+
+    private Expression getExpression(final String value) {
+        Map<String, Expression> expressions = this.expressions;
+        if (expressions == null) {
+            this.expressions = expressions = new ConcurrentHashMap<>();
+        }
+
+        Expression expression = expressions.get(value);
+        if (expression == null) {
+            expression = Expression.compile(value, LENIENT_SYNTAX, NO_TRIM);
+            if (expressions.size() >= MAX_EXPRESSIONS) {
+                final Iterator<String> evict = expressions.keySet().iterator();
+                if (evict.hasNext()) {
+                    evict.next();
+                    evict.remove();
+                }
+            }
+            expressions.put(value, expression);
+        }
+        return expression;
+    }
+
+    /**
+     * A single expansion, with all the names resolved while expanding the values requested to the interceptor.
+     * <p>
+     *
+     * Each name is only resolved once in the expansion. A name referenced while its own value is being expanded is a
+     * cycle, and fails the expansion right away with the names of the cycle. When the expanded values are kept, the
+     * dependencies of each value
+     * are collected from the values it references.
+     */
+    private final class Expansion {
+        private final ConfigSourceInterceptorContext context;
+        private final LookupOptions options;
+        private final ExpressionGraph graph;
+        private final int generation;
+        private final Map<String, ExpressionGraph.Node> resolved = new HashMap<>();
+        /**
+         * The names being expanded, in the order of the expansion.
+         */
+        private final Set<String> expanding = new LinkedHashSet<>();
+
+        Expansion(final ConfigSourceInterceptorContext context, final LookupOptions options,
+                final ExpressionGraph graph) {
+            this.context = context;
+            this.options = options;
+            this.graph = graph;
+            this.generation = graph != null ? graph.getGeneration() : 0;
+        }
+
+        ExpressionGraph.Node resolve(final String name) {
+            ExpressionGraph.Node node = resolved.get(name);
+            if (node == null && graph != null) {
+                node = graph.get(name);
+            }
+            if (node == null) {
+                node = resolved(name, context.proceed(name, options));
+            }
+            resolved.put(name, node);
+            return node;
+        }
+
+        ExpressionGraph.Node resolved(final String name, final ConfigValue configValue) {
+            final ExpressionGraph.Node node = expand(name, configValue);
+            resolved.put(name, node);
+            if (graph != null) {
+                graph.put(name, node, generation);
+            }
+            return node;
+        }
+
+        private ExpressionGraph.Node expand(final String name, final ConfigValue configValue) {
+            final String value = configValue != null ? configValue.getValue() : null;
+            // without a $ there is nothing to expand
+            if (value == null || value.indexOf('$') == -1) {
+                return new ExpressionGraph.Node(configValue, graph != null ? Collections.singleton(name) : null);
             }
-        });
 
-        return configValue.withValue(expanded);
+            if (expanding.contains(name)) {
+                throw ConfigMessages.msg.expressionCycle(name, cycle(name));
+            }
+            if (expanding.size() >= MAX_DEPTH) {
+                throw ConfigMessages.msg.expressionExpansionTooDepth(name);
+            }
+            expanding.add(name);
+
+            final Object event = ConfigEvents.beginExpansion();
+            try {
+                final Set<String> dependencies = graph != null ? new HashSet<>() : null;
+                if (dependencies != null) {
+                    dependencies.add(name);
+                }
+                final String expanded = getExpression(value).evaluate((resolveContext, stringBuilder) -> {
+                    final ExpressionGraph.Node resolve = resolve(resolveContext.getKey());
+                    if (dependencies != null) {
+                        dependencies.addAll(resolve.getDependencies());
+                    }
+
+                    if (resolve.getValue() != null) {
+                        stringBuilder.append(resolve.getValue().getValue());
+                    } else if (resolveContext.hasDefault()) {
+                        resolveContext.expandDefault();
+                    } else {
+                        throw ConfigMessages.msg.expandingElementNotFound(resolveContext.getKey(), configValue.getName());
+                    }
+                });
+                return new ExpressionGraph.Node(configValue.withValue(expanded), dependencies);
+            } finally {
+                expanding.remove(name);
+                ConfigEvents.endExpansion(event, name, configValue);
+            }
+        }
+
+        private String cycle(final String name) {
+            final StringBuilder path = new StringBuilder();
+            boolean inCycle = false;
+            for (String expandingName : expanding) {
+                inCycle = inCycle || expandingName.equals(name);
+                if (inCycle) {
+                    path.append(expandingName).append(" -> ");
+                }
+            }
+            return path.append(name).toString();
+        }
     }
 }
@@ -0,0 +1,138 @@
+package io.smallrye.config;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the expanded {@link ConfigValue} of each configuration name resolved by the
+ * {@link ExpressionConfigSourceInterceptor}, with the names each value depends on: the name itself and every name
+ * referenced by its expressions, directly or through other expressions.
+ * <p>
+ *
+ * A change of a name only discards the values that depend on it. Each invalidation moves the graph to a new
+ * generation, and values expanded in an older generation are never kept, so an expansion racing with an invalidation
+ * cannot leave a stale value behind.
+ */
+final class ExpressionGraph {
+    private final ConcurrentHashMap<String, Node> nodes = new ConcurrentHashMap<>();
+    /**
+     * The names of the values that depend on each name, guarded by {@link #lock}.
+     */
+    private final Map<String, Set<String>> dependents = new HashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private volatile int generation;
+
+    Node get(final String name) {
+        return nodes.get(name);
+    }
+
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Keeps an expanded value, only if the graph was not invalidated since the expansion started.
+     *
+     * @param name the configuration name.
+     * @param node the expanded value and its dependencies.
+     * @param generation the graph generation read before the expansion started.
+     */
+    void put(final String name, final Node node, final int generation) {
+        lock.lock();
+        try {
+            if (this.generation != generation) {
+                return;
+            }
+
+            nodes.put(name, node);
+            for (String dependency : node.getDependencies()) {
+                if (!dependency.equals(name)) {
+                    dependents.computeIfAbsent(dependency, key -> new HashSet<>()).add(name);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Discards the values of the names and of every value that depends on them, directly or transitively.
+     *
+     * @param names the changed configuration names.
+     */
+    void invalidate(final Collection<String> names) {
+        lock.lock();
+        try {
+            generation++;
+
+            final Set<String> visited = new HashSet<>();
+            final Deque<String> pending = new ArrayDeque<>(names);
+            while (!pending.isEmpty()) {
+                final String name = pending.pop();
+                if (!visited.add(name)) {
+                    continue;
+                }
+
+                final Node node = nodes.remove(name);
+                if (node != null) {
+                    for (String dependency : node.getDependencies()) {
+                        final Set<String> dependencyDependents = dependents.get(dependency);
+                        if (dependencyDependents != null) {
+                            dependencyDependents.remove(name);
+                            if (dependencyDependents.isEmpty()) {
+                                dependents.remove(dependency);
+                            }
+                        }
+                    }
+                }
+
+                final Set<String> nameDependents = dependents.remove(name);
+                if (nameDependents != null) {
+                    pending.addAll(nameDependents);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            generation++;
+            nodes.clear();
+            dependents.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * An expanded value, or {@code null} if the name was not found, and the names it depends on.
+     */
+    static final class Node {
+        private final ConfigValue value;
+        private final Set<String> dependencies;
+
+        Node(final ConfigValue value, final Set<String> dependencies) {
+            this.value = value;
+            this.dependencies = dependencies;
+        }
+
+        ConfigValue getValue() {
+            return value;
+        }
+
+        Set<String> getDependencies() {
+            return dependencies;
+        }
+    }
+}
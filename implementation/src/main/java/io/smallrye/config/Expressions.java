@@ -34,4 +34,20 @@ public final class Expressions {
             return supplier.get();
         }
     }
+
+    /**
+     * Runs code with expansion enabled, for a lookup that requires expansion from a thread where it is disabled.
+     */
+    static <T> T withExpansion(Supplier<T> supplier) {
+        if (!isEnabled()) {
+            ENABLE.set(true);
+            try {
+                return supplier.get();
+            } finally {
+                ENABLE.set(false);
+            }
+        } else {
+            return supplier.get();
+        }
+    }
 }
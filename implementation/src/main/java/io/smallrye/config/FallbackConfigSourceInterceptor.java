@@ -1,6 +1,10 @@
 package io.smallrye.config;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 import javax.annotation.Priority;
@@ -10,24 +14,90 @@ public class FallbackConfigSourceInterceptor implements ConfigSourceInterceptor
     private static final long serialVersionUID = 1472367702046537565L;
 
     private final Function<String, String> mapping;
+    private final Set<String> namePrefixes;
 
     public FallbackConfigSourceInterceptor(final Function<String, String> mapping) {
+        this(mapping, null);
+    }
+
+    private FallbackConfigSourceInterceptor(final Function<String, String> mapping, final Set<String> namePrefixes) {
         this.mapping = mapping != null ? mapping : Function.identity();
+        this.namePrefixes = namePrefixes;
     }
 
     public FallbackConfigSourceInterceptor(final Map<String, String> mappings) {
-        this(name -> mappings.getOrDefault(name, name));
+        this(name -> mappings.getOrDefault(name, name), new HashSet<>(mappings.keySet()));
+    }
+
+    /**
+     * Creates a {@link FallbackConfigSourceInterceptor} that falls back whole namespaces. A name under a prefix that is
+     * not found is looked up under the mapped prefix, with the rest of the name unchanged. Prefixes may contain
+     * {@code *} segments, which are replaced in the mapped prefix, like in {@code quarkus.*.new} to
+     * {@code quarkus.*.old}.
+     * <p>
+     *
+     * The prefixes are matched segment by segment in a {@link KeyMap}, so names without a fallback are looked up
+     * without building any new name.
+     *
+     * @param prefixes the prefixes to fall back and the mapped prefixes.
+     * @return a new {@link FallbackConfigSourceInterceptor}
+     */
+    public static FallbackConfigSourceInterceptor ofPrefixes(final Map<String, String> prefixes) {
+        return new FallbackConfigSourceInterceptor(new PrefixMapping(prefixes), new HashSet<>(prefixes.keySet()));
+    }
+
+    @Override
+    public Optional<Set<String>> getNamePrefixes() {
+        return Optional.ofNullable(namePrefixes);
     }
 
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
-        ConfigValue configValue = context.proceed(name);
+        return getValue(context, name, LookupOptions.current());
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+            final LookupOptions options) {
+        ConfigValue configValue = context.proceed(name, options);
         if (configValue == null) {
             final String map = mapping.apply(name);
             if (!name.equals(map)) {
-                configValue = context.proceed(map);
+                configValue = context.proceed(map, options);
             }
         }
         return configValue;
     }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+        return getValues(context, names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+            final LookupOptions options) {
+        final Map<String, ConfigValue> values = new HashMap<>(context.proceed(names, options));
+        if (values.size() < names.size()) {
+            final Map<String, String> fallbacks = new HashMap<>();
+            for (String name : names) {
+                if (!values.containsKey(name)) {
+                    final String map = mapping.apply(name);
+                    if (!name.equals(map)) {
+                        fallbacks.put(name, map);
+                    }
+                }
+            }
+            if (!fallbacks.isEmpty()) {
+                final Map<String, ConfigValue> fallbackValues = context.proceed(new HashSet<>(fallbacks.values()), options);
+                for (Map.Entry<String, String> fallback : fallbacks.entrySet()) {
+                    final ConfigValue configValue = fallbackValues.get(fallback.getValue());
+                    if (configValue != null) {
+                        values.put(fallback.getKey(), configValue);
+                    }
+                }
+            }
+        }
+        return values;
+    }
 }
@@ -0,0 +1,163 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+/**
+ * A {@link ConfigValueConfigSource} that skips the lookups of an {@link EnumerableConfigSource} for names that the
+ * {@link ConfigSource} does not contain. The names are kept in a Bloom filter, which may report a name that is not
+ * part of the {@link ConfigSource}, but never rules out a name that is.
+ */
+final class FilteredConfigValueConfigSource implements ConfigValueConfigSource, Serializable {
+    private static final long serialVersionUID = 2914290467283016497L;
+
+    private static final int BITS_PER_NAME = 16;
+
+    private final ConfigValueConfigSource configSource;
+    private final EnumerableConfigSource enumerableConfigSource;
+    private volatile long[] filter;
+
+    private FilteredConfigValueConfigSource(final ConfigValueConfigSource configSource,
+            final EnumerableConfigSource enumerableConfigSource) {
+        this.configSource = configSource;
+        this.enumerableConfigSource = enumerableConfigSource;
+        this.filter = build(enumerableConfigSource);
+    }
+
+    @Override
+    public ConfigValue getConfigValue(final String propertyName) {
+        return mightContain(propertyName) ? configSource.getConfigValue(propertyName) : null;
+    }
+
+    @Override
+    public Map<String, ConfigValue> getConfigValues(final Set<String> propertyNames) {
+        final Set<String> names = new HashSet<>();
+        for (String propertyName : propertyNames) {
+            if (mightContain(propertyName)) {
+                names.add(propertyName);
+            }
+        }
+        return names.isEmpty() ? Collections.emptyMap() : configSource.getConfigValues(names);
+    }
+
+    @Override
+    public Map<String, ConfigValue> getConfigValueProperties() {
+        return configSource.getConfigValueProperties();
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return configSource.getProperties();
+    }
+
+    @Override
+    public String getValue(final String propertyName) {
+        return mightContain(propertyName) ? configSource.getValue(propertyName) : null;
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return configSource.getPropertyNames();
+    }
+
+    @Override
+    public String getName() {
+        return configSource.getName();
+    }
+
+    @Override
+    public int getOrdinal() {
+        return configSource.getOrdinal();
+    }
+
+    ConfigValueConfigSource unwrap() {
+        return configSource;
+    }
+
+    /**
+     * Updates the filter after the {@link ConfigSource} reported a change. New names are added to the current filter,
+     * and an empty set of names (everything changed) rebuilds the filter. Removed names are not cleared from the
+     * filter until it is rebuilt, which is harmless because they are only looked up again.
+     *
+     * @param names the names that changed, or an empty set if the change is not known.
+     */
+    void changed(final Set<String> names) {
+        if (names.isEmpty()) {
+            filter = build(enumerableConfigSource);
+            return;
+        }
+
+        final long[] filter = this.filter;
+        if (names.size() > (filter.length * 64) / BITS_PER_NAME / 2) {
+            this.filter = build(enumerableConfigSource);
+            return;
+        }
+
+        final long[] updated = filter.clone();
+        for (String name : names) {
+            add(updated, enumerableConfigSource.getCanonicalHash(name));
+        }
+        this.filter = updated;
+    }
+
+    private boolean mightContain(final String propertyName) {
+        final long[] filter = this.filter;
+        final long hash = hash(enumerableConfigSource.getCanonicalHash(propertyName));
+        final int mask = filter.length * 64 - 1;
+        final int h1 = (int) hash;
+        final int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < 3; i++) {
+            final int bit = (h1 + i * h2) & mask;
+            if ((filter[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void add(final long[] filter, final int canonicalHash) {
+        final long hash = hash(canonicalHash);
+        final int mask = filter.length * 64 - 1;
+        final int h1 = (int) hash;
+        final int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < 3; i++) {
+            final int bit = (h1 + i * h2) & mask;
+            filter[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    private static long[] build(final EnumerableConfigSource configSource) {
+        final Set<String> names = configSource.getPropertyNames();
+        // a power of two number of bits, at least 64
+        final int bits = Integer.highestOneBit(Math.max(names.size() * BITS_PER_NAME, 64) - 1) << 1;
+        final long[] filter = new long[bits / 64];
+        for (String name : names) {
+            add(filter, configSource.getCanonicalHash(name));
+        }
+        return filter;
+    }
+
+    private static long hash(final int canonicalHash) {
+        // spread the String hash with the MurmurHash3 finalizer
+        long hash = canonicalHash;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    static ConfigValueConfigSource filter(final ConfigSource configSource, final ConfigValueConfigSource configValueSource) {
+        if (configSource instanceof EnumerableConfigSource) {
+            return new FilteredConfigValueConfigSource(configValueSource, (EnumerableConfigSource) configSource);
+        } else {
+            return configValueSource;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.smallrye.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Priority;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Finds the configuration names looked up most often, like names read in a loop, which are better kept in a field or
+ * in a {@link ConfigMapping}. The names are counted in a sketch of fixed size, so the memory of the interceptor does
+ * not grow with the number of names, and the counts are approximate: a name may be counted more than it was looked up,
+ * by at most {@link HotKey#getError()}.
+ * <p>
+ *
+ * The interceptor is added like any other interceptor, and it is placed before the default interceptors to count
+ * the names as they are requested. Lookups served by the value cache or by a frozen {@link SmallRyeConfig} do not reach
+ * the interceptor chain, and are not counted.
+ */
+@Experimental("Profiling of configuration lookups")
+@Priority(Priorities.LIBRARY + 1100)
+public class HotKeysConfigSourceInterceptor implements ConfigSourceInterceptor {
+    private static final long serialVersionUID = -3286154478447282619L;
+
+    /**
+     * The number of lookups counted for a name before looking for the class that calls the {@link SmallRyeConfig}.
+     */
+    static final int CALLER_THRESHOLD = 64;
+    private static final String UNKNOWN = "";
+
+    private final SpaceSavingSketch sketch;
+
+    public HotKeysConfigSourceInterceptor() {
+        this(256);
+    }
+
+    /**
+     * @param capacity the number of names kept by the sketch, rounded up to a power of two.
+     */
+    public HotKeysConfigSourceInterceptor(final int capacity) {
+        this.sketch = new SpaceSavingSketch(capacity);
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+        final ConfigValue configValue = context.proceed(name);
+        record(name, configValue);
+        return configValue;
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+            final LookupOptions options) {
+        final ConfigValue configValue = context.proceed(name, options);
+        record(name, configValue);
+        return configValue;
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+        final Map<String, ConfigValue> configValues = context.proceed(names);
+        for (String name : names) {
+            record(name, configValues.get(name));
+        }
+        return configValues;
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+            final LookupOptions options) {
+        final Map<String, ConfigValue> configValues = context.proceed(names, options);
+        for (String name : names) {
+            record(name, configValues.get(name));
+        }
+        return configValues;
+    }
+
+    /**
+     * Returns the names looked up most often.
+     *
+     * @param n the maximum number of names to return.
+     * @return the names, ordered by count from the highest.
+     */
+    public List<HotKey> getHotKeys(final int n) {
+        final List<HotKey> hotKeys = new ArrayList<>();
+        for (SpaceSavingSketch.Counter counter : sketch.top(n)) {
+            final String caller = counter.caller;
+            hotKeys.add(new HotKey(counter.key, counter.count, counter.error, counter.source,
+                    UNKNOWN.equals(caller) ? null : caller));
+        }
+        return Collections.unmodifiableList(hotKeys);
+    }
+
+    private void record(final String name, final ConfigValue configValue) {
+        final SpaceSavingSketch.Counter counter = sketch.offer(name);
+        final String source = configValue != null ? configValue.getConfigSourceName() : null;
+        if (source != null && !source.equals(counter.source)) {
+            counter.source = source;
+        }
+        // the stack is only walked once for each hot name
+        if (counter.caller == null && counter.guaranteed() >= CALLER_THRESHOLD) {
+            counter.caller = findCaller();
+        }
+    }
+
+    /**
+     * Finds the class that called the {@link SmallRyeConfig}, as the first frame after the {@link SmallRyeConfig}
+     * frames that lead to this interceptor.
+     */
+    private static String findCaller() {
+        final String configClass = SmallRyeConfig.class.getName();
+        boolean config = false;
+        for (StackTraceElement element : new Throwable().getStackTrace()) {
+            final String className = element.getClassName();
+            if (className.equals(configClass) || className.startsWith(configClass + "$")) {
+                config = true;
+            } else if (config) {
+                return element.getClassName();
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * A configuration name and the approximate number of times it was looked up.
+     */
+    public static final class HotKey {
+        private final String name;
+        private final long count;
+        private final long error;
+        private final String sourceName;
+        private final String caller;
+
+        HotKey(final String name, final long count, final long error, final String sourceName, final String caller) {
+            this.name = name;
+            this.count = count;
+            this.error = error;
+            this.sourceName = sourceName;
+            this.caller = caller;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * The number of lookups of the name, which may be higher than the real number by at most {@link #getError()}.
+         *
+         * @return the approximate count.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        public long getError() {
+            return error;
+        }
+
+        /**
+         * The name of the {@code ConfigSource} of the last value found for the name.
+         *
+         * @return the {@code ConfigSource} name, or {@code null} if no value was found.
+         */
+        public String getSourceName() {
+            return sourceName;
+        }
+
+        /**
+         * The name of the class that looked up the name, found once the name is looked up often enough.
+         *
+         * @return the class name, or {@code null} if the class was not found yet.
+         */
+        public String getCaller() {
+            return caller;
+        }
+
+        @Override
+        public String toString() {
+            return "HotKey{name=" + name + ", count=" + count + ", error=" + error + ", source=" + sourceName + ", caller="
+                    + caller + "}";
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.smallrye.config;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The Java Flight Recorder events of {@link ConfigEvents}. This class must only be loaded if JFR is available.
+ */
+final class JfrConfigEvents {
+    private static final EventType PHASE = EventType.getEventType(BuildPhaseEvent.class);
+    private static final EventType MAPPING = EventType.getEventType(MappingEvent.class);
+    private static final EventType LOOKUP = EventType.getEventType(LookupEvent.class);
+    private static final EventType EXPANSION = EventType.getEventType(ExpansionEvent.class);
+
+    private JfrConfigEvents() {
+        throw new UnsupportedOperationException();
+    }
+
+    static boolean isAvailable() {
+        return PHASE != null;
+    }
+
+    static Object beginPhase() {
+        if (!PHASE.isEnabled()) {
+            return null;
+        }
+        final BuildPhaseEvent event = new BuildPhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endPhase(final Object event, final String phase) {
+        final BuildPhaseEvent phaseEvent = (BuildPhaseEvent) event;
+        phaseEvent.end();
+        if (phaseEvent.shouldCommit()) {
+            phaseEvent.phase = phase;
+            phaseEvent.commit();
+        }
+    }
+
+    static Object beginMapping() {
+        if (!MAPPING.isEnabled()) {
+            return null;
+        }
+        final MappingEvent event = new MappingEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endMapping(final Object event, final String prefix, final Class<?> type) {
+        final MappingEvent mappingEvent = (MappingEvent) event;
+        mappingEvent.end();
+        if (mappingEvent.shouldCommit()) {
+            mappingEvent.prefix = prefix;
+            mappingEvent.type = type;
+            mappingEvent.commit();
+        }
+    }
+
+    static Object beginLookup() {
+        if (!LOOKUP.isEnabled()) {
+            return null;
+        }
+        final LookupEvent event = new LookupEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endLookup(final Object event, final String name, final ConfigValue configValue) {
+        final LookupEvent lookupEvent = (LookupEvent) event;
+        lookupEvent.end();
+        if (lookupEvent.shouldCommit()) {
+            lookupEvent.name = name;
+            lookupEvent.source = configValue != null ? configValue.getConfigSourceName() : null;
+            lookupEvent.found = configValue != null && configValue.getValue() != null;
+            lookupEvent.commit();
+        }
+    }
+
+    static Object beginExpansion() {
+        if (!EXPANSION.isEnabled()) {
+            return null;
+        }
+        final ExpansionEvent event = new ExpansionEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endExpansion(final Object event, final String name, final ConfigValue configValue) {
+        final ExpansionEvent expansionEvent = (ExpansionEvent) event;
+        expansionEvent.end();
+        if (expansionEvent.shouldCommit()) {
+            expansionEvent.name = name;
+            expansionEvent.source = configValue != null ? configValue.getConfigSourceName() : null;
+            expansionEvent.commit();
+        }
+    }
+
+    @Name("io.smallrye.config.BuildPhase")
+    @Label("Config Build Phase")
+    @Description("A phase of the build of a SmallRyeConfig")
+    @Category("SmallRye Config")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class BuildPhaseEvent extends Event {
+        @Label("Phase")
+        String phase;
+    }
+
+    @Name("io.smallrye.config.Mapping")
+    @Label("Config Mapping")
+    @Description("The mapping of a configuration root to a ConfigMapping")
+    @Category("SmallRye Config")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class MappingEvent extends Event {
+        @Label("Prefix")
+        String prefix;
+        @Label("Type")
+        Class<?> type;
+    }
+
+    @Name("io.smallrye.config.Lookup")
+    @Label("Config Lookup")
+    @Description("A lookup of a configuration name slower than the threshold")
+    @Category("SmallRye Config")
+    @Enabled(false)
+    @Threshold("1 ms")
+    static final class LookupEvent extends Event {
+        @Label("Name")
+        String name;
+        @Label("Source")
+        @Description("The name of the ConfigSource of the value")
+        String source;
+        @Label("Found")
+        boolean found;
+    }
+
+    @Name("io.smallrye.config.Expansion")
+    @Label("Config Expansion")
+    @Description("The expansion of the expressions of a configuration value")
+    @Category("SmallRye Config")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class ExpansionEvent extends Event {
+        @Label("Name")
+        String name;
+        @Label("Source")
+        @Description("The name of the ConfigSource of the value")
+        String source;
+    }
+}
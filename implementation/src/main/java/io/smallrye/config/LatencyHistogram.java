@@ -0,0 +1,71 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in nanoseconds, with buckets of logarithmic size: each power of two is split in
+ * {@link #SUB_BUCKETS} buckets, so the bucket of a duration is at most 25% larger than the duration. Durations of
+ * 2<sup>41</sup> nanoseconds (about 36 minutes) or more are kept in the last bucket.
+ * <p>
+ *
+ * Each bucket is a {@link LongAdder}, so concurrent recordings do not contend on the same counter.
+ */
+final class LatencyHistogram implements Serializable {
+    private static final long serialVersionUID = 2853427126154436209L;
+
+    private static final int SUB_BUCKET_BITS = 2;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    static final int BUCKETS = MAX_EXPONENT * SUB_BUCKETS;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAdder total = new LongAdder();
+
+    LatencyHistogram() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    void record(final long nanos) {
+        final long value = nanos < 0 ? 0 : nanos;
+        counts[index(value)].increment();
+        total.add(value);
+    }
+
+    LookupMetrics.Histogram snapshot() {
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = this.counts[i].sum();
+        }
+        return new LookupMetrics.Histogram(counts, total.sum());
+    }
+
+    static int index(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return Math.min((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket, BUCKETS - 1);
+    }
+
+    /**
+     * Returns the largest duration kept in a bucket.
+     *
+     * @param index the bucket index
+     * @return the largest duration in nanoseconds, or {@link Long#MAX_VALUE} for the last bucket.
+     */
+    static long upperBound(final int index) {
+        if (index == BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -1,6 +1,8 @@
 package io.smallrye.config;
 
-import static io.smallrye.config.SecretKeys.doLocked;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.Priority;
 
@@ -10,9 +12,19 @@ public class LoggingConfigSourceInterceptor implements ConfigSourceInterceptor {
 
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+        return getValue(context, name, LookupOptions.current());
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+            final LookupOptions options) {
+        if (!options.isTracing()) {
+            return context.proceed(name, options);
+        }
+
         try {
             // Unlocked keys will run here.
-            ConfigValue configValue = doLocked(() -> context.proceed(name));
+            ConfigValue configValue = context.proceed(name, options.withSecretKeysLocked(true));
             if (configValue != null)
                 ConfigLogging.log.lookup(configValue.getName(), configValue.getLocation(), configValue.getValue());
             else
@@ -23,11 +35,49 @@ public class LoggingConfigSourceInterceptor implements ConfigSourceInterceptor {
         }
 
         // Locked keys here.
-        final ConfigValue secret = context.proceed(name);
+        final ConfigValue secret = context.proceed(name, options);
         if (secret != null)
             ConfigLogging.log.lookup(secret.getName(), "secret", "secret");
         else
             ConfigLogging.log.notFound(name);
         return secret;
     }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+        return getValues(context, names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+            final LookupOptions options) {
+        if (!options.isTracing()) {
+            return context.proceed(names, options);
+        }
+
+        final Map<String, ConfigValue> configValues;
+        try {
+            // Unlocked keys will run here.
+            configValues = context.proceed(names, options.withSecretKeysLocked(true));
+        } catch (SecurityException e) {
+            // Lookup each name, to omit the values to log from the secrets.
+            final Map<String, ConfigValue> values = new HashMap<>();
+            for (String name : names) {
+                final ConfigValue configValue = getValue(context, name, options);
+                if (configValue != null) {
+                    values.put(name, configValue);
+                }
+            }
+            return values;
+        }
+
+        for (String name : names) {
+            final ConfigValue configValue = configValues.get(name);
+            if (configValue != null)
+                ConfigLogging.log.lookup(configValue.getName(), configValue.getLocation(), configValue.getValue());
+            else
+                ConfigLogging.log.notFound(name);
+        }
+        return configValues;
+    }
 }
@@ -0,0 +1,214 @@
+package io.smallrye.config;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A snapshot of the metrics of the lookups of a {@link SmallRyeConfig}, recorded when enabled with
+ * {@link SmallRyeConfigBuilder#withLookupMetrics(boolean)} and retrieved with
+ * {@link SmallRyeConfig#getLookupMetrics()}. The snapshot does not change after it is taken, so it can be exported to
+ * any metrics library.
+ * <p>
+ *
+ * Sources and interceptors are listed in the order of the interceptor chain, from the first interceptor to the last
+ * source. Interceptors left out of the chain, like an interceptor that does not act on any name, are not listed.
+ */
+@Experimental("Metrics of configuration lookups")
+public final class LookupMetrics {
+    private final List<SourceMetrics> sources;
+    private final List<InterceptorMetrics> interceptors;
+
+    LookupMetrics(final List<SourceMetrics> sources, final List<InterceptorMetrics> interceptors) {
+        this.sources = Collections.unmodifiableList(sources);
+        this.interceptors = Collections.unmodifiableList(interceptors);
+    }
+
+    public List<SourceMetrics> getSources() {
+        return sources;
+    }
+
+    public List<InterceptorMetrics> getInterceptors() {
+        return interceptors;
+    }
+
+    /**
+     * The lookups of a {@code ConfigSource}. A lookup of multiple names in a single call counts each name as a lookup,
+     * and records the duration of the call once.
+     */
+    public static final class SourceMetrics {
+        private final String name;
+        private final int ordinal;
+        private final long lookups;
+        private final long hits;
+        private final Histogram latency;
+
+        SourceMetrics(final String name, final int ordinal, final long lookups, final long hits, final Histogram latency) {
+            this.name = name;
+            this.ordinal = ordinal;
+            this.lookups = lookups;
+            this.hits = hits;
+            this.latency = latency;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        public long getLookups() {
+            return lookups;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return lookups - hits;
+        }
+
+        /**
+         * The duration of the lookups in the {@code ConfigSource}, without the rest of the interceptor chain.
+         *
+         * @return the lookups durations.
+         */
+        public Histogram getLatency() {
+            return latency;
+        }
+
+        @Override
+        public String toString() {
+            return "SourceMetrics{name=" + name + ", ordinal=" + ordinal + ", lookups=" + lookups + ", hits=" + hits
+                    + ", latency=" + latency + "}";
+        }
+    }
+
+    /**
+     * The invocations of a {@link ConfigSourceInterceptor}.
+     */
+    public static final class InterceptorMetrics {
+        private final String name;
+        private final int priority;
+        private final Histogram time;
+
+        InterceptorMetrics(final String name, final int priority, final Histogram time) {
+            this.name = name;
+            this.priority = priority;
+            this.time = time;
+        }
+
+        /**
+         * The class name of the {@link ConfigSourceInterceptor}.
+         *
+         * @return the interceptor name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+
+        public long getInvocations() {
+            return time.getCount();
+        }
+
+        /**
+         * The time spent in each invocation of the {@link ConfigSourceInterceptor}, without the time spent in the rest
+         * of the interceptor chain.
+         *
+         * @return the invocations durations.
+         */
+        public Histogram getTime() {
+            return time;
+        }
+
+        @Override
+        public String toString() {
+            return "InterceptorMetrics{name=" + name + ", priority=" + priority + ", time=" + time + "}";
+        }
+    }
+
+    /**
+     * Durations in nanoseconds, counted in buckets of logarithmic size. Each bucket is at most 25% larger than the
+     * durations it counts.
+     */
+    public static final class Histogram {
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+
+        Histogram(final long[] counts, final long totalNanos) {
+            this.counts = counts;
+            this.totalNanos = totalNanos;
+            long count = 0;
+            for (long bucket : counts) {
+                count += bucket;
+            }
+            this.count = count;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : totalNanos / count;
+        }
+
+        /**
+         * Returns the duration below which a percentage of the durations fall, rounded up to the bucket bound.
+         *
+         * @param percentile the percentage, between {@code 0} and {@code 100}.
+         * @return the duration in nanoseconds, or {@code 0} if there are no durations.
+         */
+        public long getValueAtPercentile(final double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return LatencyHistogram.upperBound(i);
+                }
+            }
+            return LatencyHistogram.upperBound(counts.length - 1);
+        }
+
+        /**
+         * Returns the buckets with at least one duration.
+         *
+         * @return a Map with the largest duration of each bucket, in nanoseconds, and the number of durations in the
+         *         bucket.
+         */
+        public SortedMap<Long, Long> getBuckets() {
+            final SortedMap<Long, Long> buckets = new TreeMap<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] != 0) {
+                    buckets.put(LatencyHistogram.upperBound(i), counts[i]);
+                }
+            }
+            return Collections.unmodifiableSortedMap(buckets);
+        }
+
+        @Override
+        public String toString() {
+            return "Histogram{count=" + count + ", mean=" + getMeanNanos() + "ns, p50=" + getValueAtPercentile(50)
+                    + "ns, p99=" + getValueAtPercentile(99) + "ns}";
+        }
+    }
+}
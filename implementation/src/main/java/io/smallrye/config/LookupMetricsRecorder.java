@@ -0,0 +1,86 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.smallrye.config.SmallRyeConfig.ConfigSourceInterceptorWithPriority;
+
+/**
+ * Records the metrics of the lookups of a {@link SmallRyeConfig}, by replacing each interceptor of the chain with an
+ * interceptor that measures it. A {@link SmallRyeConfig} without metrics does not use this class at all.
+ * <p>
+ *
+ * The metrics of each interceptor are kept while the interceptor is part of the {@link SmallRyeConfig}, so they
+ * survive rebuilding the interceptor chain, like when a {@code ConfigSource} is added.
+ */
+final class LookupMetricsRecorder implements Serializable {
+    private static final long serialVersionUID = -4472935312180355722L;
+
+    private final ConcurrentHashMap<ConfigSourceInterceptorWithPriority, Recorder> recorders = new ConcurrentHashMap<>();
+
+    ConfigSourceInterceptor meter(final ConfigSourceInterceptorWithPriority interceptorWithPriority,
+            final ConfigSourceInterceptor interceptor) {
+        if (interceptor instanceof SmallRyeConfigSourceInterceptor) {
+            final SmallRyeConfigSourceInterceptor sourceInterceptor = (SmallRyeConfigSourceInterceptor) interceptor;
+            final Recorder recorder = recorders.computeIfAbsent(interceptorWithPriority,
+                    key -> new Recorder(sourceInterceptor.getSource().getName(), key.getPriority(), true));
+            return new MeteredSmallRyeConfigSourceInterceptor(sourceInterceptor, recorder);
+        }
+
+        final Recorder recorder = recorders.computeIfAbsent(interceptorWithPriority,
+                key -> new Recorder(interceptor.getClass().getName(), key.getPriority(), false));
+        return new MeteredConfigSourceInterceptor(interceptor, recorder);
+    }
+
+    /**
+     * Takes a snapshot of the metrics.
+     *
+     * @param interceptors the interceptors of the chain, in priority order.
+     * @return the metrics snapshot.
+     */
+    LookupMetrics snapshot(final List<ConfigSourceInterceptorWithPriority> interceptors) {
+        final List<LookupMetrics.SourceMetrics> sources = new ArrayList<>();
+        final List<LookupMetrics.InterceptorMetrics> interceptorMetrics = new ArrayList<>();
+        // the chain starts with the highest priority
+        for (int i = interceptors.size() - 1; i >= 0; i--) {
+            final Recorder recorder = recorders.get(interceptors.get(i));
+            if (recorder == null) {
+                continue;
+            }
+            if (recorder.source) {
+                sources.add(new LookupMetrics.SourceMetrics(recorder.name, recorder.priority, recorder.lookups.sum(),
+                        recorder.hits.sum(), recorder.latency.snapshot()));
+            } else {
+                interceptorMetrics.add(
+                        new LookupMetrics.InterceptorMetrics(recorder.name, recorder.priority, recorder.latency.snapshot()));
+            }
+        }
+        return new LookupMetrics(sources, interceptorMetrics);
+    }
+
+    static final class Recorder implements Serializable {
+        private static final long serialVersionUID = 8230911957420133461L;
+
+        final String name;
+        final int priority;
+        final boolean source;
+        final LongAdder lookups = new LongAdder();
+        final LongAdder hits = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        Recorder(final String name, final int priority, final boolean source) {
+            this.name = name;
+            this.priority = priority;
+            this.source = source;
+        }
+
+        void record(final int lookups, final int hits, final long nanos) {
+            this.lookups.add(lookups);
+            this.hits.add(hits);
+            latency.record(nanos);
+        }
+    }
+}
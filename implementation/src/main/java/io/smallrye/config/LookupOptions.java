@@ -0,0 +1,142 @@
+package io.smallrye.config;
+
+import java.util.function.Supplier;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * The options of a lookup, carried through the interceptor chain with
+ * {@link ConfigSourceInterceptorContext#proceed(String, LookupOptions)}, instead of being kept in the state of the
+ * current thread.
+ * <ul>
+ * <li>secret keys locked: secret keys cannot be looked up, as in {@link SecretKeys#isLocked()}</li>
+ * <li>expansion enabled: expressions are expanded, as in {@link Expressions#isEnabled()}</li>
+ * <li>tracing: lookups are reported by the {@link LoggingConfigSourceInterceptor}</li>
+ * </ul>
+ * <p>
+ *
+ * {@link SecretKeys} and {@link Expressions} remain available for lookups without explicit options: a lookup started
+ * with {@link ConfigSourceInterceptorContext#proceed(String)} takes its options from the current thread, with
+ * {@link #current()}. Interceptors that do not handle the options run with the state of the current thread set to the
+ * options of the lookup, only if they differ.
+ * <p>
+ *
+ * There is a single instance for each combination of options, so the options can be compared by reference.
+ */
+@Experimental("Explicit options of a configuration lookup")
+public final class LookupOptions {
+    /**
+     * The number of combinations of options.
+     */
+    static final int SIZE = 8;
+    private static final LookupOptions[] OPTIONS = new LookupOptions[SIZE];
+
+    static {
+        for (int i = 0; i < OPTIONS.length; i++) {
+            OPTIONS[i] = new LookupOptions(i, (i & 1) != 0, (i & 2) != 0, (i & 4) != 0);
+        }
+    }
+
+    /**
+     * Secret keys locked, expansion enabled and tracing.
+     */
+    public static final LookupOptions DEFAULT = of(true, true, true);
+
+    private final int index;
+    private final boolean secretKeysLocked;
+    private final boolean expansionEnabled;
+    private final boolean tracing;
+
+    private LookupOptions(final int index, final boolean secretKeysLocked, final boolean expansionEnabled,
+            final boolean tracing) {
+        this.index = index;
+        this.secretKeysLocked = secretKeysLocked;
+        this.expansionEnabled = expansionEnabled;
+        this.tracing = tracing;
+    }
+
+    public static LookupOptions of(final boolean secretKeysLocked, final boolean expansionEnabled, final boolean tracing) {
+        return OPTIONS[(secretKeysLocked ? 1 : 0) | (expansionEnabled ? 2 : 0) | (tracing ? 4 : 0)];
+    }
+
+    /**
+     * Returns the options of the current thread, as set by {@link SecretKeys} and {@link Expressions}, with tracing.
+     *
+     * @return the options of the current thread.
+     */
+    public static LookupOptions current() {
+        return of(SecretKeys.isLocked(), Expressions.isEnabled(), true);
+    }
+
+    public boolean isSecretKeysLocked() {
+        return secretKeysLocked;
+    }
+
+    public boolean isExpansionEnabled() {
+        return expansionEnabled;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    /**
+     * The index of these options, from {@code 0} to {@link #SIZE} exclusive.
+     */
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns {@code true} if these options are the state of a thread that did not change {@link SecretKeys} or
+     * {@link Expressions}, with or without tracing.
+     */
+    boolean isDefault() {
+        return secretKeysLocked && expansionEnabled;
+    }
+
+    public LookupOptions withSecretKeysLocked(final boolean secretKeysLocked) {
+        return of(secretKeysLocked, expansionEnabled, tracing);
+    }
+
+    public LookupOptions withExpansionEnabled(final boolean expansionEnabled) {
+        return of(secretKeysLocked, expansionEnabled, tracing);
+    }
+
+    public LookupOptions withTracing(final boolean tracing) {
+        return of(secretKeysLocked, expansionEnabled, tracing);
+    }
+
+    /**
+     * Runs code that reads the options from the current thread, with the state of the current thread set to these
+     * options. The state is only changed if it differs from these options.
+     *
+     * @param supplier the code to run.
+     * @param <T> the result type.
+     * @return the result of the supplier.
+     */
+    <T> T apply(final Supplier<T> supplier) {
+        final Supplier<T> secretKeys;
+        if (secretKeysLocked == SecretKeys.isLocked()) {
+            secretKeys = supplier;
+        } else if (secretKeysLocked) {
+            secretKeys = () -> SecretKeys.doLocked(supplier);
+        } else {
+            secretKeys = () -> SecretKeys.doUnlocked(supplier);
+        }
+
+        if (expansionEnabled == Expressions.isEnabled()) {
+            return secretKeys.get();
+        } else if (expansionEnabled) {
+            return Expressions.withExpansion(secretKeys);
+        } else {
+            return Expressions.withoutExpansion(secretKeys);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LookupOptions{secretKeysLocked=" + secretKeysLocked + ", expansionEnabled=" + expansionEnabled
+                + ", tracing=" + tracing + "}";
+    }
+}
@@ -0,0 +1,63 @@
+package io.smallrye.config;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link ConfigSourceInterceptorContext} bound to the {@link LookupOptions} of a lookup. Interceptors that do not
+ * handle the options proceed with {@link #proceed(String)}, which passes the options to the next context instead of
+ * reading them from the current thread.
+ */
+final class LookupOptionsInterceptorContext implements ConfigSourceInterceptorContext {
+    private static final long serialVersionUID = 2405839137372474432L;
+
+    private final ConfigSourceInterceptorContext next;
+    private final LookupOptions options;
+
+    LookupOptionsInterceptorContext(final ConfigSourceInterceptorContext next, final LookupOptions options) {
+        this.next = next;
+        this.options = options;
+    }
+
+    static ConfigSourceInterceptorContext of(final ConfigSourceInterceptorContext context, final LookupOptions options) {
+        if (context instanceof SmallRyeConfigSourceInterceptorContext) {
+            return ((SmallRyeConfigSourceInterceptorContext) context).withOptions(options);
+        }
+        if (context instanceof LookupOptionsInterceptorContext
+                && ((LookupOptionsInterceptorContext) context).options == options) {
+            return context;
+        }
+        return new LookupOptionsInterceptorContext(context, options);
+    }
+
+    @Override
+    public ConfigValue proceed(final String name) {
+        return next.proceed(name, options);
+    }
+
+    @Override
+    public ConfigValue proceed(final String name, final LookupOptions options) {
+        return next.proceed(name, options);
+    }
+
+    @Override
+    public Map<String, ConfigValue> proceed(final Set<String> names) {
+        return next.proceed(names, options);
+    }
+
+    @Override
+    public Map<String, ConfigValue> proceed(final Set<String> names, final LookupOptions options) {
+        return next.proceed(names, options);
+    }
+
+    @Override
+    public Iterator<String> iterateNames() {
+        return next.iterateNames();
+    }
+
+    @Override
+    public Iterator<ConfigValue> iterateValues() {
+        return next.iterateValues();
+    }
+}
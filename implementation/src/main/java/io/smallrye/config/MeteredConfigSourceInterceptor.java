@@ -0,0 +1,120 @@
+package io.smallrye.config;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link ConfigSourceInterceptor} that records the time spent in each invocation of another
+ * {@link ConfigSourceInterceptor}, without the time spent in the rest of the chain. Iteration of names and values is
+ * not recorded.
+ */
+final class MeteredConfigSourceInterceptor implements ConfigSourceInterceptor {
+    private static final long serialVersionUID = -1266436203787297160L;
+
+    private final ConfigSourceInterceptor interceptor;
+    private final LookupMetricsRecorder.Recorder recorder;
+
+    MeteredConfigSourceInterceptor(final ConfigSourceInterceptor interceptor, final LookupMetricsRecorder.Recorder recorder) {
+        this.interceptor = interceptor;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+        return getValue(context, name, LookupOptions.current());
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+            final LookupOptions options) {
+        final MeteredContext meteredContext = new MeteredContext(context);
+        final long start = System.nanoTime();
+        try {
+            return interceptor.getValue(meteredContext, name, options);
+        } finally {
+            recorder.record(1, 0, System.nanoTime() - start - meteredContext.nanos);
+        }
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+        return getValues(context, names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+            final LookupOptions options) {
+        final MeteredContext meteredContext = new MeteredContext(context);
+        final long start = System.nanoTime();
+        try {
+            return interceptor.getValues(meteredContext, names, options);
+        } finally {
+            recorder.record(names.size(), 0, System.nanoTime() - start - meteredContext.nanos);
+        }
+    }
+
+    @Override
+    public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
+        return interceptor.iterateNames(context);
+    }
+
+    @Override
+    public Iterator<ConfigValue> iterateValues(final ConfigSourceInterceptorContext context) {
+        return interceptor.iterateValues(context);
+    }
+
+    /**
+     * Adds up the time spent in the rest of the chain, during a single invocation of the interceptor.
+     */
+    private static final class MeteredContext implements ConfigSourceInterceptorContext {
+        private static final long serialVersionUID = 4413640316318931683L;
+
+        private final ConfigSourceInterceptorContext context;
+        private long nanos;
+
+        MeteredContext(final ConfigSourceInterceptorContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public ConfigValue proceed(final String name) {
+            return proceed(name, LookupOptions.current());
+        }
+
+        @Override
+        public ConfigValue proceed(final String name, final LookupOptions options) {
+            final long start = System.nanoTime();
+            try {
+                return context.proceed(name, options);
+            } finally {
+                nanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public Map<String, ConfigValue> proceed(final Set<String> names) {
+            return proceed(names, LookupOptions.current());
+        }
+
+        @Override
+        public Map<String, ConfigValue> proceed(final Set<String> names, final LookupOptions options) {
+            final long start = System.nanoTime();
+            try {
+                return context.proceed(names, options);
+            } finally {
+                nanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public Iterator<String> iterateNames() {
+            return context.iterateNames();
+        }
+
+        @Override
+        public Iterator<ConfigValue> iterateValues() {
+            return context.iterateValues();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.smallrye.config;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link SmallRyeConfigSourceInterceptor} that records the lookups in the {@code ConfigSource} and their duration,
+ * without the time spent in the rest of the chain.
+ */
+final class MeteredSmallRyeConfigSourceInterceptor implements ConfigSourceInterceptor {
+    private static final long serialVersionUID = 3960276531307226185L;
+
+    private final SmallRyeConfigSourceInterceptor interceptor;
+    private final ConfigValueConfigSource configSource;
+    private final LookupMetricsRecorder.Recorder recorder;
+
+    MeteredSmallRyeConfigSourceInterceptor(final SmallRyeConfigSourceInterceptor interceptor,
+            final LookupMetricsRecorder.Recorder recorder) {
+        this.interceptor = interceptor;
+        this.configSource = interceptor.getConfigValueSource();
+        this.recorder = recorder;
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+        return getValue(context, name, LookupOptions.current());
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+            final LookupOptions options) {
+        final long start = System.nanoTime();
+        final ConfigValue configValue = configSource.getConfigValue(name);
+        recorder.record(1, configValue != null ? 1 : 0, System.nanoTime() - start);
+        return configValue != null ? configValue : context.proceed(name, options);
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+        return getValues(context, names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+            final LookupOptions options) {
+        final long start = System.nanoTime();
+        final Map<String, ConfigValue> values = new HashMap<>(configSource.getConfigValues(names));
+        recorder.record(names.size(), values.size(), System.nanoTime() - start);
+        if (values.size() < names.size()) {
+            final Set<String> notFound = new HashSet<>(names);
+            notFound.removeAll(values.keySet());
+            values.putAll(context.proceed(notFound, options));
+        }
+        return values;
+    }
+
+    @Override
+    public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
+        return interceptor.iterateNames(context);
+    }
+
+    @Override
+    public Iterator<ConfigValue> iterateValues(final ConfigSourceInterceptorContext context) {
+        return interceptor.iterateValues(context);
+    }
+}
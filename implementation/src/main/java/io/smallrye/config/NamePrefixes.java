@@ -0,0 +1,179 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A set of configuration name prefixes, kept in a {@link KeyMap} and matched segment by segment as defined by
+ * {@link NameIterator}. A prefix matches the name equal to the prefix and every name under it, and a {@code *} segment
+ * matches any segment.
+ * <p>
+ *
+ * When no prefix has a {@code *}, quoted or escaped segment, names without quotes or escapes are matched by the hash
+ * of each of their leading segments, without creating a {@link NameIterator}.
+ */
+final class NamePrefixes implements Serializable {
+    private static final long serialVersionUID = -2384925416337652713L;
+    /**
+     * Nodes with more children are looked up by segment, instead of comparing the segment with each child.
+     */
+    private static final int MAX_SCAN = 8;
+
+    private final KeyMap<Boolean> prefixes;
+    /**
+     * The prefixes sorted by {@link String#hashCode()}, or {@code null} if a prefix has a {@code *}, quoted or escaped
+     * segment.
+     */
+    private final String[] plainPrefixes;
+    /**
+     * The {@link String#hashCode()} of each of {@link #plainPrefixes}, in the same order.
+     */
+    private final int[] plainHashes;
+
+    NamePrefixes(final Set<String> prefixes) {
+        this.prefixes = new KeyMap<>();
+        boolean plain = true;
+        for (String prefix : prefixes) {
+            if (prefix.length() > NameIterator.MAX_LENGTH) {
+                // cannot be split in segments, match every name instead
+                this.prefixes.putRootValue(Boolean.TRUE);
+            } else {
+                this.prefixes.findOrAdd(prefix).putRootValue(Boolean.TRUE);
+            }
+            plain = plain && isPlain(prefix);
+        }
+
+        if (plain) {
+            this.plainPrefixes = prefixes.stream().sorted((o1, o2) -> Integer.compare(o1.hashCode(), o2.hashCode()))
+                    .toArray(String[]::new);
+            this.plainHashes = new int[plainPrefixes.length];
+            for (int i = 0; i < plainPrefixes.length; i++) {
+                plainHashes[i] = plainPrefixes[i].hashCode();
+            }
+        } else {
+            this.plainPrefixes = null;
+            this.plainHashes = null;
+        }
+    }
+
+    private static boolean isPlain(final String prefix) {
+        if (prefix.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            final char c = prefix.charAt(i);
+            if (c == '*' || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean isEmpty() {
+        return prefixes.isEmpty() && prefixes.getAny() == null && !prefixes.hasRootValue();
+    }
+
+    boolean matches(final String name) {
+        if (prefixes.hasRootValue() || name.length() > NameIterator.MAX_LENGTH) {
+            return true;
+        }
+        if (plainPrefixes != null) {
+            final int matches = matchesPlain(name);
+            if (matches != -1) {
+                return matches == 1;
+            }
+        }
+        return matches(prefixes, new NameIterator(name));
+    }
+
+    /**
+     * Matches a name with the plain prefixes, by the hash of each of its leading segments, computed as
+     * {@link String#hashCode()} while walking the name.
+     *
+     * @return {@code 1} if the name matches, {@code 0} if it does not, or {@code -1} if the name has quotes or escapes
+     *         and must be matched by segment.
+     */
+    private int matchesPlain(final String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            if (c == '"' || c == '\\') {
+                return -1;
+            }
+            if (c == '.' && containsPlain(name, i, hash)) {
+                return 1;
+            }
+            hash = 31 * hash + c;
+        }
+        return containsPlain(name, name.length(), hash) ? 1 : 0;
+    }
+
+    private boolean containsPlain(final String name, final int length, final int hash) {
+        int i = Arrays.binarySearch(plainHashes, hash);
+        if (i < 0) {
+            return false;
+        }
+        while (i > 0 && plainHashes[i - 1] == hash) {
+            i--;
+        }
+        for (; i < plainHashes.length && plainHashes[i] == hash; i++) {
+            final String prefix = plainPrefixes[i];
+            if (prefix.length() == length && name.regionMatches(0, prefix, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(final KeyMap<Boolean> current, final NameIterator ni) {
+        if (current.hasRootValue()) {
+            return true;
+        }
+        if (!ni.hasNext()) {
+            return false;
+        }
+
+        final KeyMap<Boolean> next = next(current, ni);
+        if (next != null && matchesNext(next, ni)) {
+            return true;
+        }
+        // the segment may also match a *, in a different branch
+        final KeyMap<Boolean> any = current.getAny();
+        return any != null && matchesNext(any, ni);
+    }
+
+    private static boolean matchesNext(final KeyMap<Boolean> next, final NameIterator ni) {
+        ni.next();
+        try {
+            return matches(next, ni);
+        } finally {
+            ni.previous();
+        }
+    }
+
+    /**
+     * Finds the child of a {@link KeyMap} node for the next segment of a {@link NameIterator}, without the
+     * {@code *} child. Nodes with a few children compare the segment in place, so no segment String is created.
+     *
+     * @param current the {@link KeyMap} node
+     * @param ni the {@link NameIterator}, positioned before the segment
+     * @param <V> the {@link KeyMap} value type
+     * @return the child node, or {@code null} if there is no child for the segment.
+     */
+    static <V> KeyMap<V> next(final KeyMap<V> current, final NameIterator ni) {
+        if (current.isEmpty()) {
+            return null;
+        }
+        if (current.size() > MAX_SCAN) {
+            return current.get(ni.getNextSegment());
+        }
+        for (Map.Entry<String, KeyMap<V>> child : current.entrySet()) {
+            if (ni.nextSegmentEquals(child.getKey())) {
+                return child.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package io.smallrye.config;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Extends the original {@link ConfigSource} to allow the {@link ConfigSource} to report changes in its configuration
+ * values.
+ * <p>
+ *
+ * {@link SmallRyeConfig} registers a {@link ConfigSourceChangeListener} for each {@link ObservableConfigSource} it
+ * contains, so any state derived from the {@link ConfigSource} values (like cached lookups) can be discarded when the
+ * {@link ConfigSource} changes.
+ * <p>
+ *
+ * Implementations should not serialize the registered listeners.
+ */
+@Experimental("ConfigSource API Enhancements")
+public interface ObservableConfigSource extends ConfigSource {
+    /**
+     * Registers a {@link ConfigSourceChangeListener} to be notified when the values of this {@link ConfigSource}
+     * change.
+     *
+     * @param listener the {@link ConfigSourceChangeListener} to notify.
+     */
+    void addChangeListener(ConfigSourceChangeListener listener);
+}
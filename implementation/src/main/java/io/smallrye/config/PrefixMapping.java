@@ -0,0 +1,139 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Maps configuration names from a prefix to another prefix, keeping the rest of the name. A prefix is made of name
+ * segments as defined by {@link NameIterator}, and a {@code *} segment matches any segment. A {@code *} segment in the
+ * mapped prefix is replaced by the segment matched by the {@code *} in the same position of the prefix.
+ * <p>
+ *
+ * For instance, with {@code quarkus.old} mapped to {@code quarkus.new}, {@code quarkus.old.http.port} maps to
+ * {@code quarkus.new.http.port}, and with {@code quarkus.*.old} mapped to {@code quarkus.*.new},
+ * {@code quarkus.http.old.port} maps to {@code quarkus.http.new.port}. When more than one prefix matches a name, the
+ * longest prefix is used.
+ * <p>
+ *
+ * The prefixes are kept in a {@link KeyMap} and matched segment by segment, so names outside of the mapped prefixes
+ * are returned as is, without allocations.
+ */
+final class PrefixMapping implements Function<String, String>, Serializable {
+    private static final long serialVersionUID = -1823587935452236117L;
+
+    private final KeyMap<Target> prefixes;
+
+    PrefixMapping(final Map<String, String> prefixes) {
+        this.prefixes = new KeyMap<>();
+        for (Map.Entry<String, String> prefix : prefixes.entrySet()) {
+            this.prefixes.findOrAdd(prefix.getKey()).putRootValue(new Target(prefix.getValue()));
+        }
+    }
+
+    @Override
+    public String apply(final String name) {
+        if (name.isEmpty() || name.length() > NameIterator.MAX_LENGTH) {
+            return name;
+        }
+
+        final NameIterator ni = new NameIterator(name);
+        KeyMap<Target> current = prefixes;
+        Target target = null;
+        int end = -1;
+        // the positions of the segments matched by *, only allocated if a * is found
+        int[] wildcards = null;
+        int matchedWildcards = 0;
+        int wildcardsAtEnd = 0;
+        while (ni.hasNext()) {
+            KeyMap<Target> next = NamePrefixes.next(current, ni);
+            if (next == null) {
+                next = current.getAny();
+                if (next == null) {
+                    break;
+                }
+                if (wildcards == null) {
+                    wildcards = new int[8];
+                } else if (matchedWildcards * 2 == wildcards.length) {
+                    final int[] grown = new int[wildcards.length * 2];
+                    System.arraycopy(wildcards, 0, grown, 0, wildcards.length);
+                    wildcards = grown;
+                }
+                wildcards[matchedWildcards * 2] = ni.getPosition() + 1;
+                wildcards[matchedWildcards * 2 + 1] = ni.getNextEnd();
+                matchedWildcards++;
+            }
+            ni.next();
+            current = next;
+            if (current.hasRootValue()) {
+                target = current.getRootValue();
+                end = ni.getPosition();
+                wildcardsAtEnd = matchedWildcards;
+            }
+        }
+
+        if (target == null) {
+            return name;
+        }
+        return target.map(name, end, wildcards, wildcardsAtEnd);
+    }
+
+    static final class Target implements Serializable {
+        private static final long serialVersionUID = 6372178539813465213L;
+
+        private final String prefix;
+        /**
+         * The start and end positions of each {@code *} segment of the prefix, or {@code null} if there are none.
+         */
+        private final int[] wildcards;
+
+        Target(final String prefix) {
+            this.prefix = prefix;
+
+            int count = 0;
+            final NameIterator ni = new NameIterator(prefix);
+            while (ni.hasNext()) {
+                if (ni.nextSegmentEquals("*")) {
+                    count++;
+                }
+                ni.next();
+            }
+
+            if (count == 0) {
+                this.wildcards = null;
+            } else {
+                this.wildcards = new int[count * 2];
+                int i = 0;
+                ni.goToStart();
+                while (ni.hasNext()) {
+                    if (ni.nextSegmentEquals("*")) {
+                        wildcards[i++] = ni.getPosition() + 1;
+                        wildcards[i++] = ni.getNextEnd();
+                    }
+                    ni.next();
+                }
+            }
+        }
+
+        String map(final String name, final int end, final int[] matched, final int matchedCount) {
+            if (wildcards == null || matched == null) {
+                return end == name.length() ? prefix : prefix.concat(name.substring(end));
+            }
+
+            final StringBuilder mapped = new StringBuilder(prefix.length() + name.length());
+            int last = 0;
+            for (int i = 0; i < wildcards.length / 2; i++) {
+                mapped.append(prefix, last, wildcards[i * 2]);
+                if (i < matchedCount) {
+                    mapped.append(name, matched[i * 2], matched[i * 2 + 1]);
+                } else {
+                    mapped.append('*');
+                }
+                last = wildcards[i * 2 + 1];
+            }
+            mapped.append(prefix, last, prefix.length());
+            mapped.append(name, end, name.length());
+            return mapped.toString();
+        }
+    }
+}
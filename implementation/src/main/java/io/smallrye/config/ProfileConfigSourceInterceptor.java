@@ -4,12 +4,16 @@ import static io.smallrye.config.Converters.getImplicitConverter;
 import static io.smallrye.config.Converters.newCollectionConverter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -33,9 +37,35 @@ public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
         }
     };
 
+    private static final String[] NO_PROFILE_NAMES = new String[0];
+
     private final String[] profiles;
+    /**
+     * The {@code %profile.} prefix of each profile, in the same order as {@link #profiles}.
+     */
+    private final String[] prefixes;
+    private final boolean profileIndex;
+    private transient volatile ProfileIndex index;
 
     public ProfileConfigSourceInterceptor(final String profile) {
+        this(profile, false);
+    }
+
+    public ProfileConfigSourceInterceptor(final ConfigSourceInterceptorContext context) {
+        this(context, SMALLRYE_PROFILE);
+    }
+
+    public ProfileConfigSourceInterceptor(
+            final ConfigSourceInterceptorContext context,
+            final String profileConfigName) {
+        this(getProfile(context, profileConfigName));
+    }
+
+    /**
+     * @param profile the active profiles, separated by commas.
+     * @param profileIndex {@code true} to look up only the profile names listed in the interceptor chain below.
+     */
+    ProfileConfigSourceInterceptor(final String profile, final boolean profileIndex) {
         if (profile != null) {
             List<String> convertedProfiles = newCollectionConverter(getImplicitConverter(String.class), ArrayList::new)
                     .convert(profile);
@@ -44,26 +74,31 @@ public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
         } else {
             this.profiles = new String[0];
         }
+        this.prefixes = new String[profiles.length];
+        for (int i = 0; i < profiles.length; i++) {
+            prefixes[i] = "%" + profiles[i] + ".";
+        }
+        this.profileIndex = profileIndex;
     }
 
-    public ProfileConfigSourceInterceptor(final ConfigSourceInterceptorContext context) {
-        this(context, SMALLRYE_PROFILE);
+    static String getProfile(final ConfigSourceInterceptorContext context, final String profileConfigName) {
+        return Optional.ofNullable(context.proceed(profileConfigName)).map(ConfigValue::getValue).orElse(null);
     }
 
-    public ProfileConfigSourceInterceptor(
-            final ConfigSourceInterceptorContext context,
-            final String profileConfigName) {
-        this(Optional.ofNullable(context.proceed(profileConfigName)).map(ConfigValue::getValue).orElse(null));
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+        return getValue(context, name, LookupOptions.current());
     }
 
     @Override
-    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+            final LookupOptions options) {
         if (profiles.length > 0) {
             final String normalizeName = normalizeName(name);
-            final ConfigValue profileValue = getProfileValue(context, normalizeName);
+            final ConfigValue profileValue = getProfileValue(context, normalizeName, options);
             if (profileValue != null) {
                 try {
-                    final ConfigValue originalValue = context.proceed(normalizeName);
+                    final ConfigValue originalValue = context.proceed(normalizeName, options);
                     if (originalValue != null && CONFIG_SOURCE_COMPARATOR.compare(profileValue, originalValue) > 0) {
                         return originalValue;
                     }
@@ -74,12 +109,126 @@ public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
             }
         }
 
-        return context.proceed(name);
+        return context.proceed(name, options);
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+        return getValues(context, names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+            final LookupOptions options) {
+        if (profiles.length == 0) {
+            return context.proceed(names, options);
+        }
+
+        final ProfileIndex index = profileIndex ? getIndex(context) : null;
+        final Set<String> profileNames = new HashSet<>();
+        for (String name : names) {
+            final String normalizeName = normalizeName(name);
+            if (index != null) {
+                Collections.addAll(profileNames, index.getProfileNames(normalizeName));
+            } else {
+                for (String prefix : prefixes) {
+                    profileNames.add(prefix + normalizeName);
+                }
+            }
+        }
+        final Map<String, ConfigValue> profileValues = profileNames.isEmpty() ? Collections.emptyMap()
+                : context.proceed(profileNames, options);
+
+        // names with a profile value still require the main property to compare priorities
+        final Map<String, ConfigValue> namesProfileValues = new HashMap<>();
+        final Set<String> originalNames = new HashSet<>();
+        for (String name : names) {
+            final String normalizeName = normalizeName(name);
+            final ConfigValue profileValue = getProfileValue(profileValues, index, normalizeName);
+            if (profileValue != null) {
+                namesProfileValues.put(name, profileValue);
+                originalNames.add(normalizeName);
+            } else {
+                originalNames.add(name);
+            }
+        }
+
+        final Map<String, ConfigValue> originalValues;
+        try {
+            originalValues = context.proceed(originalNames, options);
+        } catch (final NoSuchElementException e) {
+            // Lookup each name to know which main properties we couldn't find.
+            final Map<String, ConfigValue> values = new HashMap<>();
+            for (String name : names) {
+                final ConfigValue configValue = getValue(context, name, options);
+                if (configValue != null) {
+                    values.put(name, configValue);
+                }
+            }
+            return values;
+        }
+
+        final Map<String, ConfigValue> values = new HashMap<>();
+        for (String name : names) {
+            final ConfigValue profileValue = namesProfileValues.get(name);
+            if (profileValue != null) {
+                final String normalizeName = normalizeName(name);
+                final ConfigValue originalValue = originalValues.get(normalizeName);
+                if (originalValue != null && CONFIG_SOURCE_COMPARATOR.compare(profileValue, originalValue) > 0) {
+                    values.put(name, originalValue);
+                } else {
+                    values.put(name, profileValue.withName(normalizeName));
+                }
+            } else {
+                final ConfigValue originalValue = originalValues.get(name);
+                if (originalValue != null) {
+                    values.put(name, originalValue);
+                }
+            }
+        }
+        return values;
+    }
+
+    private ConfigValue getProfileValue(final Map<String, ConfigValue> profileValues, final ProfileIndex index,
+            final String normalizeName) {
+        if (index != null) {
+            for (String profileName : index.getProfileNames(normalizeName)) {
+                final ConfigValue profileValue = profileValues.get(profileName);
+                if (profileValue != null) {
+                    return profileValue;
+                }
+            }
+            return null;
+        }
+
+        for (String prefix : prefixes) {
+            final ConfigValue profileValue = profileValues.get(prefix + normalizeName);
+            if (profileValue != null) {
+                return profileValue;
+            }
+        }
+
+        return null;
     }
 
     public ConfigValue getProfileValue(final ConfigSourceInterceptorContext context, final String normalizeName) {
-        for (String profile : profiles) {
-            final ConfigValue profileValue = context.proceed("%" + profile + "." + normalizeName);
+        return getProfileValue(context, normalizeName, LookupOptions.current());
+    }
+
+    private ConfigValue getProfileValue(final ConfigSourceInterceptorContext context, final String normalizeName,
+            final LookupOptions options) {
+        if (profileIndex) {
+            for (String profileName : getIndex(context).getProfileNames(normalizeName)) {
+                final ConfigValue profileValue = context.proceed(profileName, options);
+                if (profileValue != null) {
+                    return profileValue;
+                }
+            }
+            return null;
+        }
+
+        for (String prefix : prefixes) {
+            final ConfigValue profileValue = context.proceed(prefix + normalizeName, options);
             if (profileValue != null) {
                 return profileValue;
             }
@@ -90,25 +239,158 @@ public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
 
     @Override
     public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
+        if (profileIndex) {
+            return getIndex(context).names.iterator();
+        }
+
         final Set<String> names = new HashSet<>();
         context.iterateNames().forEachRemaining(name -> names.add(normalizeName(name)));
-        return names.iterator();
+        return new PropertyNamesIterator(names);
     }
 
+    /**
+     * Returns the values of the interceptor chain below, with the profile names replaced by the names without the
+     * profile. When the profile index is enabled, returns the value of each name of the index as resolved by
+     * {@link #getValue(ConfigSourceInterceptorContext, String)} instead.
+     */
     @Override
     public Iterator<ConfigValue> iterateValues(final ConfigSourceInterceptorContext context) {
+        if (profileIndex) {
+            final Iterator<String> names = getIndex(context).names.iterator();
+            return new Iterator<ConfigValue>() {
+                private ConfigValue next;
+
+                @Override
+                public boolean hasNext() {
+                    while (next == null && names.hasNext()) {
+                        next = getValue(context, names.next());
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public ConfigValue next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final ConfigValue value = next;
+                    next = null;
+                    return value;
+                }
+            };
+        }
+
         final Set<ConfigValue> values = new HashSet<>();
         context.iterateValues().forEachRemaining(value -> values.add(value.withName(normalizeName(value.getName()))));
         return values.iterator();
     }
 
     private String normalizeName(final String name) {
-        for (String profile : profiles) {
-            if (name.startsWith("%" + profile + ".")) {
-                return name.substring(profile.length() + 2);
+        if (name.isEmpty() || name.charAt(0) != '%') {
+            return name;
+        }
+
+        for (String prefix : prefixes) {
+            if (name.startsWith(prefix)) {
+                return name.substring(prefix.length());
             }
         }
 
         return name;
     }
+
+    private ProfileIndex getIndex(final ConfigSourceInterceptorContext context) {
+        ProfileIndex index = this.index;
+        // not serialized, so it needs to be collected again after deserialization
+        if (index == null) {
+            this.index = index = new ProfileIndex(context.iterateNames());
+        }
+        return index;
+    }
+
+    /**
+     * Discards the profile index, to collect the names again from the interceptor chain in the next lookup.
+     */
+    void configSourceChanged() {
+        index = null;
+    }
+
+    /**
+     * The names of the interceptor chain below, without the profile, and for each name the profile names listed in
+     * the chain, in the profiles order. Names without any profile name are not looked up with a profile.
+     * <p>
+     *
+     * An environment variable like {@code _DEV_MY_PROP} matches {@code %dev.my.prop}, but the name with the profile
+     * cannot be recovered from the environment variable. When the chain lists an environment variable with the
+     * {@link EnvConfigSource} form of a profile prefix, every name is looked up with that profile.
+     */
+    private final class ProfileIndex {
+        private final Set<String> names;
+        private final Map<String, String[]> profileNames;
+        /**
+         * The profiles with an environment variable, in the same order as {@link #profiles}.
+         */
+        private final boolean[] envProfiles;
+        private final boolean hasEnvProfiles;
+
+        ProfileIndex(final Iterator<String> chainNames) {
+            final Set<String> names = new HashSet<>();
+            final Map<String, String[]> profileNames = new HashMap<>();
+            final String[] envPrefixes = new String[prefixes.length];
+            for (int i = 0; i < prefixes.length; i++) {
+                envPrefixes[i] = EnvConfigSource.canonicalName(prefixes[i]);
+            }
+            final boolean[] envProfiles = new boolean[prefixes.length];
+            chainNames.forEachRemaining(name -> {
+                names.add(normalizeName(name));
+                if (!name.isEmpty() && name.charAt(0) == '_') {
+                    final String canonicalName = EnvConfigSource.canonicalName(name);
+                    for (int i = 0; i < envPrefixes.length; i++) {
+                        if (canonicalName.startsWith(envPrefixes[i])) {
+                            envProfiles[i] = true;
+                        }
+                    }
+                } else if (!name.isEmpty() && name.charAt(0) == '%') {
+                    // a name may start with more than one prefix, like %a.b.c with the profiles a and a.b
+                    for (int i = 0; i < prefixes.length; i++) {
+                        if (name.startsWith(prefixes[i])) {
+                            profileNames.computeIfAbsent(name.substring(prefixes[i].length()),
+                                    normalizeName -> new String[prefixes.length])[i] = name;
+                        }
+                    }
+                }
+            });
+            this.names = Collections.unmodifiableSet(names);
+            this.envProfiles = envProfiles;
+            boolean hasEnvProfiles = false;
+            for (boolean envProfile : envProfiles) {
+                hasEnvProfiles |= envProfile;
+            }
+            this.hasEnvProfiles = hasEnvProfiles;
+            // without environment variables, the profile names of each name are the ones of the chain
+            if (!hasEnvProfiles) {
+                profileNames.replaceAll((normalizeName, candidates) -> Arrays.stream(candidates)
+                        .filter(Objects::nonNull)
+                        .toArray(String[]::new));
+            }
+            this.profileNames = profileNames;
+        }
+
+        String[] getProfileNames(final String normalizeName) {
+            final String[] names = profileNames.get(normalizeName);
+            if (!hasEnvProfiles) {
+                return names != null ? names : NO_PROFILE_NAMES;
+            }
+
+            final List<String> candidates = new ArrayList<>(prefixes.length);
+            for (int i = 0; i < prefixes.length; i++) {
+                if (names != null && names[i] != null) {
+                    candidates.add(names[i]);
+                } else if (envProfiles[i]) {
+                    candidates.add(prefixes[i] + normalizeName);
+                }
+            }
+            return candidates.toArray(NO_PROFILE_NAMES);
+        }
+    }
 }
@@ -27,7 +27,7 @@ import io.smallrye.config.common.utils.ConfigSourceUtil;
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
-public class PropertiesConfigSource extends MapBackedConfigSource {
+public class PropertiesConfigSource extends MapBackedConfigSource implements EnumerableConfigSource {
     private static final long serialVersionUID = 1866835565147832432L;
 
     private static final String NAME_PREFIX = "PropertiesConfigSource[source=";
@@ -0,0 +1,53 @@
+package io.smallrye.config;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * An {@link Iterator} over a {@link Set} of names created for a single iteration of the interceptor chain. An
+ * interceptor that receives a {@link PropertyNamesIterator} that was not iterated yet may add its own names to the
+ * same {@link Set}, instead of copying all the names below it in the chain to a new {@link Set}.
+ */
+final class PropertyNamesIterator implements Iterator<String> {
+    private final Set<String> names;
+    private Iterator<String> iterator;
+
+    PropertyNamesIterator(final Set<String> names) {
+        this.names = names;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator().hasNext();
+    }
+
+    @Override
+    public String next() {
+        return iterator().next();
+    }
+
+    private Iterator<String> iterator() {
+        if (iterator == null) {
+            iterator = names.iterator();
+        }
+        return iterator;
+    }
+
+    /**
+     * Returns a mutable {@link Set} with the names of the {@link Iterator}, reusing the {@link Set} of a
+     * {@link PropertyNamesIterator} if the iteration did not start.
+     *
+     * @param names the names {@link Iterator}
+     * @return a mutable {@link Set} with all the names.
+     */
+    static Set<String> names(final Iterator<String> names) {
+        if (names instanceof PropertyNamesIterator && ((PropertyNamesIterator) names).iterator == null) {
+            return ((PropertyNamesIterator) names).names;
+        }
+
+        final Set<String> copy = new HashSet<>();
+        names.forEachRemaining(copy::add);
+        return copy;
+    }
+}
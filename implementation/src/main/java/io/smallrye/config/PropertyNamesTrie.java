@@ -0,0 +1,152 @@
+package io.smallrye.config;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A trie of configuration names, with one level for each name segment as defined by {@link NameIterator}. Used to
+ * find all the names under a prefix without going through every name.
+ * <p>
+ *
+ * Unlike {@link KeyMap}, a {@code *} segment has no special meaning and only matches itself.
+ */
+final class PropertyNamesTrie {
+    private Map<String, PropertyNamesTrie> children;
+    private String name;
+    private int size;
+    /**
+     * Names longer than {@link NameIterator#MAX_LENGTH} cannot be split in segments, so they are only kept in the root
+     * and matched one by one.
+     */
+    private Set<String> longNames;
+
+    private PropertyNamesTrie() {
+    }
+
+    /**
+     * Returns the names equal to the prefix or starting with the prefix segments.
+     *
+     * @param prefix the prefix, or an empty String for all the names.
+     * @return an unmodifiable Set of names
+     */
+    Set<String> getPropertyNames(final String prefix) {
+        final Set<String> longNames = getLongNames(prefix);
+        final PropertyNamesTrie trie = prefix.length() > NameIterator.MAX_LENGTH ? null : find(prefix);
+        if (trie == null) {
+            return longNames.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(longNames);
+        }
+
+        final Set<String> names = new HashSet<>((int) ((trie.size + longNames.size()) / 0.75f) + 1);
+        names.addAll(longNames);
+        final Deque<PropertyNamesTrie> pending = new ArrayDeque<>();
+        pending.push(trie);
+        while (!pending.isEmpty()) {
+            final PropertyNamesTrie current = pending.pop();
+            if (current.name != null) {
+                names.add(current.name);
+            }
+            if (current.children != null) {
+                current.children.values().forEach(pending::push);
+            }
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    private Set<String> getLongNames(final String prefix) {
+        if (longNames == null) {
+            return Collections.emptySet();
+        }
+
+        final Set<String> names = new HashSet<>();
+        for (String longName : longNames) {
+            if (isInPrefix(longName, prefix)) {
+                names.add(longName);
+            }
+        }
+        return names;
+    }
+
+    private PropertyNamesTrie find(final String prefix) {
+        if (prefix.isEmpty()) {
+            return this;
+        }
+
+        PropertyNamesTrie current = this;
+        final NameIterator ni = new NameIterator(prefix);
+        while (ni.hasNext()) {
+            if (current.children == null) {
+                return null;
+            }
+            current = current.children.get(ni.getNextSegment());
+            if (current == null) {
+                return null;
+            }
+            ni.next();
+        }
+        return current;
+    }
+
+    private void add(final String name) {
+        if (name.length() > NameIterator.MAX_LENGTH) {
+            if (longNames == null) {
+                longNames = new HashSet<>();
+            }
+            longNames.add(name);
+            return;
+        }
+
+        PropertyNamesTrie current = this;
+        current.size++;
+        final NameIterator ni = new NameIterator(name);
+        while (ni.hasNext()) {
+            if (current.children == null) {
+                current.children = new HashMap<>();
+            }
+            current = current.children.computeIfAbsent(ni.getNextSegment(), segment -> new PropertyNamesTrie());
+            current.size++;
+            ni.next();
+        }
+        current.name = name;
+    }
+
+    static PropertyNamesTrie of(final Iterable<String> names) {
+        final PropertyNamesTrie trie = new PropertyNamesTrie();
+        for (String name : names) {
+            trie.add(name);
+        }
+        return trie;
+    }
+
+    /**
+     * Checks if a name is equal to the prefix or starts with the prefix segments, without building a trie.
+     *
+     * @param name the configuration name
+     * @param prefix the prefix, or an empty String to match any name.
+     * @return {@code true} if the name is under the prefix, {@code false} otherwise.
+     */
+    static boolean isInPrefix(final String name, final String prefix) {
+        if (prefix.isEmpty()) {
+            return true;
+        }
+
+        if (name.length() > NameIterator.MAX_LENGTH || prefix.length() > NameIterator.MAX_LENGTH) {
+            return name.equals(prefix) || name.startsWith(prefix + ".");
+        }
+
+        final NameIterator nameIterator = new NameIterator(name);
+        final NameIterator prefixIterator = new NameIterator(prefix);
+        while (prefixIterator.hasNext()) {
+            if (!nameIterator.hasNext() || !nameIterator.nextSegmentEquals(prefixIterator.getNextSegment())) {
+                return false;
+            }
+            nameIterator.next();
+            prefixIterator.next();
+        }
+        return true;
+    }
+}
@@ -1,7 +1,11 @@
 package io.smallrye.config;
 
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 
 import javax.annotation.Priority;
@@ -11,22 +15,86 @@ public class RelocateConfigSourceInterceptor implements ConfigSourceInterceptor
     private static final long serialVersionUID = 3476637906383945843L;
 
     private final Function<String, String> mapping;
+    private final Set<String> namePrefixes;
 
     public RelocateConfigSourceInterceptor(final Function<String, String> mapping) {
+        this(mapping, null);
+    }
+
+    private RelocateConfigSourceInterceptor(final Function<String, String> mapping, final Set<String> namePrefixes) {
         this.mapping = mapping != null ? mapping : Function.identity();
+        this.namePrefixes = namePrefixes;
     }
 
     public RelocateConfigSourceInterceptor(final Map<String, String> mappings) {
-        this((Serializable & Function<String, String>) name -> mappings.getOrDefault(name, name));
+        this((Serializable & Function<String, String>) name -> mappings.getOrDefault(name, name),
+                new HashSet<>(mappings.keySet()));
+    }
+
+    /**
+     * Creates a {@link RelocateConfigSourceInterceptor} that relocates whole namespaces. Each name under a prefix is
+     * looked up first under the mapped prefix, with the rest of the name unchanged. Prefixes may contain {@code *}
+     * segments, which are replaced in the mapped prefix, like in {@code quarkus.*.old} to {@code quarkus.*.new}.
+     * <p>
+     *
+     * The prefixes are matched segment by segment in a {@link KeyMap}, so names that are not relocated are looked up
+     * without building any new name.
+     *
+     * @param prefixes the prefixes to relocate and the mapped prefixes.
+     * @return a new {@link RelocateConfigSourceInterceptor}
+     */
+    public static RelocateConfigSourceInterceptor ofPrefixes(final Map<String, String> prefixes) {
+        return new RelocateConfigSourceInterceptor(new PrefixMapping(prefixes), new HashSet<>(prefixes.keySet()));
+    }
+
+    @Override
+    public Optional<Set<String>> getNamePrefixes() {
+        return Optional.ofNullable(namePrefixes);
     }
 
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+        return getValue(context, name, LookupOptions.current());
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+            final LookupOptions options) {
         final String map = mapping.apply(name);
-        ConfigValue configValue = context.proceed(map);
+        ConfigValue configValue = context.proceed(map, options);
         if (configValue == null && !name.equals(map)) {
-            configValue = context.proceed(name);
+            configValue = context.proceed(name, options);
         }
         return configValue;
     }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+        return getValues(context, names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+            final LookupOptions options) {
+        final Map<String, String> relocations = new HashMap<>();
+        for (String name : names) {
+            relocations.put(name, mapping.apply(name));
+        }
+        final Map<String, ConfigValue> relocatedValues = context.proceed(new HashSet<>(relocations.values()), options);
+
+        final Map<String, ConfigValue> values = new HashMap<>();
+        final Set<String> notRelocated = new HashSet<>();
+        for (Map.Entry<String, String> relocation : relocations.entrySet()) {
+            final ConfigValue configValue = relocatedValues.get(relocation.getValue());
+            if (configValue != null) {
+                values.put(relocation.getKey(), configValue);
+            } else if (!relocation.getKey().equals(relocation.getValue())) {
+                notRelocated.add(relocation.getKey());
+            }
+        }
+        if (!notRelocated.isEmpty()) {
+            values.putAll(context.proceed(notRelocated, options));
+        }
+        return values;
+    }
 }
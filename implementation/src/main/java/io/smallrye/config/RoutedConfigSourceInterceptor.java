@@ -0,0 +1,74 @@
+package io.smallrye.config;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs a {@link ConfigSourceInterceptor} only for the names it declares in
+ * {@link ConfigSourceInterceptor#getNamePrefixes()}. Lookups of other names proceed directly to the rest of the chain.
+ * Iteration of names and values is always intercepted.
+ */
+final class RoutedConfigSourceInterceptor implements ConfigSourceInterceptor {
+    private static final long serialVersionUID = -5029837164011862361L;
+
+    private final ConfigSourceInterceptor interceptor;
+    private final NamePrefixes namePrefixes;
+
+    RoutedConfigSourceInterceptor(final ConfigSourceInterceptor interceptor, final NamePrefixes namePrefixes) {
+        this.interceptor = interceptor;
+        this.namePrefixes = namePrefixes;
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+        return getValue(context, name, LookupOptions.current());
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+            final LookupOptions options) {
+        return namePrefixes.matches(name) ? interceptor.getValue(context, name, options) : context.proceed(name, options);
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+        return getValues(context, names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+            final LookupOptions options) {
+        final Set<String> matched = new HashSet<>();
+        for (String name : names) {
+            if (namePrefixes.matches(name)) {
+                matched.add(name);
+            }
+        }
+
+        if (matched.isEmpty()) {
+            return context.proceed(names, options);
+        }
+        if (matched.size() == names.size()) {
+            return interceptor.getValues(context, names, options);
+        }
+
+        final Set<String> notMatched = new HashSet<>(names);
+        notMatched.removeAll(matched);
+        final Map<String, ConfigValue> values = new HashMap<>(interceptor.getValues(context, matched, options));
+        values.putAll(context.proceed(notMatched, options));
+        return values;
+    }
+
+    @Override
+    public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
+        return interceptor.iterateNames(context);
+    }
+
+    @Override
+    public Iterator<ConfigValue> iterateValues(final ConfigSourceInterceptorContext context) {
+        return interceptor.iterateValues(context);
+    }
+}
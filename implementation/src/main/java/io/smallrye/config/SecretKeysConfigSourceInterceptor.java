@@ -1,5 +1,7 @@
 package io.smallrye.config;
 
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.annotation.Priority;
@@ -14,12 +16,41 @@ public class SecretKeysConfigSourceInterceptor implements ConfigSourceIntercepto
         this.secrets = secrets;
     }
 
+    @Override
+    public Optional<Set<String>> getNamePrefixes() {
+        return Optional.of(secrets);
+    }
+
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
-        if (SecretKeys.isLocked() && isSecret(name)) {
+        return getValue(context, name, LookupOptions.current());
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+            final LookupOptions options) {
+        if (options.isSecretKeysLocked() && isSecret(name)) {
             throw ConfigMessages.msg.notAllowed(name);
         }
-        return context.proceed(name);
+        return context.proceed(name, options);
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+        return getValues(context, names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+            final LookupOptions options) {
+        if (options.isSecretKeysLocked()) {
+            for (String name : names) {
+                if (isSecret(name)) {
+                    throw ConfigMessages.msg.notAllowed(name);
+                }
+            }
+        }
+        return context.proceed(names, options);
     }
 
     private boolean isSecret(final String name) {
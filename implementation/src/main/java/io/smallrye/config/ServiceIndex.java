@@ -0,0 +1,286 @@
+package io.smallrye.config;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+import javax.annotation.Priority;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A single index of the services that {@link SmallRyeConfigBuilder} discovers with the
+ * {@link java.util.ServiceLoader}: {@link ConfigSource}, {@link ConfigSourceProvider}, {@link ConfigSourceFactory},
+ * {@link Converter}, {@link ConfigSourceInterceptor} and {@link ConfigSourceInterceptorFactory}.
+ * <p>
+ *
+ * The index is written at build time with {@link #main(String[])}, which reads the {@code META-INF/services} files of
+ * the class path it runs with, and the {@link Priority} of each {@link Converter} and
+ * {@link ConfigSourceInterceptor}. With {@link SmallRyeConfigBuilder#withServiceIndex(boolean)}, the services are
+ * created from every {@link #RESOURCE} found in the {@link ClassLoader}, instead of reading and parsing the
+ * {@code META-INF/services} files of every jar, and the priorities are not read with reflection.
+ * <p>
+ *
+ * The index also records the number of {@code META-INF/services} files of each service type. If the
+ * {@link ClassLoader} has more files than the index for a service type, like when the index was written with a
+ * different class path, the services of that type are discovered with the {@link java.util.ServiceLoader} instead.
+ */
+@Experimental("Build-time index of configuration services")
+public final class ServiceIndex {
+    /**
+     * The location of the index in the {@link ClassLoader}.
+     */
+    public static final String RESOURCE = "META-INF/smallrye-config/services.idx";
+
+    static final List<Class<?>> SERVICES = Collections.unmodifiableList(Arrays.asList(
+            ConfigSource.class,
+            ConfigSourceProvider.class,
+            ConfigSourceFactory.class,
+            Converter.class,
+            ConfigSourceInterceptor.class,
+            ConfigSourceInterceptorFactory.class));
+
+    /**
+     * The class name used in the line with the number of {@code META-INF/services} files of a service type.
+     */
+    private static final String FILES = "*";
+
+    private final Map<String, Set<String>> services;
+    private final Map<String, Integer> priorities;
+    private final Map<String, Integer> files;
+
+    private ServiceIndex(final Map<String, Set<String>> services, final Map<String, Integer> priorities,
+            final Map<String, Integer> files) {
+        this.services = services;
+        this.priorities = priorities;
+        this.files = files;
+    }
+
+    /**
+     * Creates the services of a type in the index, in the order of the index, or with the
+     * {@link java.util.ServiceLoader} if the {@link ClassLoader} has services of the type that are not in the index.
+     *
+     * @param service the service type
+     * @param classLoader the {@link ClassLoader} to load the services
+     * @return an Iterator that creates each service when it is reached
+     */
+    <S> Iterator<S> load(final Class<S> service, final ClassLoader classLoader) {
+        if (!isIndexed(service, classLoader)) {
+            ConfigLogging.log.serviceNotIndexed(service.getName());
+            return ServiceLoader.load(service, classLoader).iterator();
+        }
+
+        final Iterator<String> names = services.getOrDefault(service.getName(), Collections.emptySet()).iterator();
+        return new Iterator<S>() {
+            @Override
+            public boolean hasNext() {
+                return names.hasNext();
+            }
+
+            @Override
+            public S next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final String name = names.next();
+                try {
+                    return Class.forName(name, true, classLoader).asSubclass(service).getConstructor().newInstance();
+                } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+                    throw ConfigMessages.msg.failedToCreateIndexedService(e, name, service.getName());
+                }
+            }
+        };
+    }
+
+    /**
+     * Checks that the {@link ClassLoader} has as many {@code META-INF/services} files of a service type as the class
+     * path the index was written with, so an index with an added or a removed provider is not used. Only the files
+     * are listed, without reading them.
+     */
+    private boolean isIndexed(final Class<?> service, final ClassLoader classLoader) {
+        final Integer indexed = files.get(service.getName());
+        if (indexed == null) {
+            return false;
+        }
+        try {
+            int count = 0;
+            final Enumeration<URL> urls = classLoader.getResources("META-INF/services/" + service.getName());
+            while (urls.hasMoreElements()) {
+                urls.nextElement();
+                count++;
+            }
+            return count == indexed;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the {@link Priority} of a {@link Converter} or {@link ConfigSourceInterceptor} in the index.
+     *
+     * @param type the service class
+     * @return the priority of the service, or an empty OptionalInt if the class is not in the index
+     */
+    OptionalInt getPriority(final Class<?> type) {
+        final Integer priority = priorities.get(type.getName());
+        return priority != null ? OptionalInt.of(priority) : OptionalInt.empty();
+    }
+
+    /**
+     * Reads and merges the indexes of a {@link ClassLoader}.
+     *
+     * @param classLoader the {@link ClassLoader} with the indexes
+     * @return the index, or {@code null} if the {@link ClassLoader} does not have an index
+     */
+    static ServiceIndex read(final ClassLoader classLoader) {
+        final Enumeration<URL> urls;
+        try {
+            urls = classLoader.getResources(RESOURCE);
+        } catch (IOException e) {
+            throw ConfigMessages.msg.failedToReadServiceIndex(e, RESOURCE);
+        }
+        if (!urls.hasMoreElements()) {
+            return null;
+        }
+
+        final Map<String, Set<String>> services = new HashMap<>();
+        final Map<String, Integer> priorities = new HashMap<>();
+        final Map<String, Integer> files = new HashMap<>();
+        while (urls.hasMoreElements()) {
+            final URL url = urls.nextElement();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.charAt(0) == '#') {
+                        continue;
+                    }
+                    final String[] entry = line.split("\\s+");
+                    if (FILES.equals(entry[1])) {
+                        files.merge(entry[0], Integer.valueOf(entry[2]), Math::max);
+                        continue;
+                    }
+                    services.computeIfAbsent(entry[0], service -> new LinkedHashSet<>()).add(entry[1]);
+                    if (entry.length > 2) {
+                        priorities.put(entry[1], Integer.valueOf(entry[2]));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                throw ConfigMessages.msg.failedToReadServiceIndex(e, url.toString());
+            }
+        }
+        return new ServiceIndex(services, priorities, files);
+    }
+
+    /**
+     * Writes the index of the services found in the {@code META-INF/services} files of a {@link ClassLoader}. Each
+     * line has the service type, the service class and, for a {@link Converter} or {@link ConfigSourceInterceptor},
+     * its priority. A line with the service type, {@code *} and a number records the number of
+     * {@code META-INF/services} files of the service type.
+     *
+     * @param classLoader the {@link ClassLoader} with the services
+     * @param writer the {@link Writer} of the index
+     * @throws IOException if the services cannot be read or the index cannot be written
+     */
+    static void write(final ClassLoader classLoader, final Writer writer) throws IOException {
+        writer.write("# Generated by " + ServiceIndex.class.getName() + "\n");
+        for (Class<?> service : SERVICES) {
+            writer.write(service.getName() + " " + FILES + " "
+                    + Collections.list(classLoader.getResources("META-INF/services/" + service.getName())).size()
+                    + "\n");
+            for (String name : getServices(classLoader, service)) {
+                writer.write(service.getName());
+                writer.write(' ');
+                writer.write(name);
+                if (service == Converter.class || service == ConfigSourceInterceptor.class) {
+                    writer.write(' ');
+                    writer.write(Integer.toString(getPriority(classLoader, service, name)));
+                }
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Reads the class names of a service, in the same order as the {@link java.util.ServiceLoader}.
+     */
+    private static Set<String> getServices(final ClassLoader classLoader, final Class<?> service) throws IOException {
+        final Set<String> names = new LinkedHashSet<>();
+        final Enumeration<URL> urls = classLoader.getResources("META-INF/services/" + service.getName());
+        while (urls.hasMoreElements()) {
+            try (InputStream stream = urls.nextElement().openStream();
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final int comment = line.indexOf('#');
+                    final String name = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                    if (!name.isEmpty()) {
+                        names.add(name);
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Reads the priority of a service class, with the same defaults as {@link SmallRyeConfigBuilder}, but without
+     * initializing the class.
+     */
+    private static int getPriority(final ClassLoader classLoader, final Class<?> service, final String name) {
+        try {
+            final Priority priority = Class.forName(name, false, classLoader).getAnnotation(Priority.class);
+            if (priority != null) {
+                return priority.value();
+            }
+            return service == Converter.class ? 100 : ConfigSourceInterceptorFactory.DEFAULT_PRIORITY;
+        } catch (ClassNotFoundException | LinkageError e) {
+            throw ConfigMessages.msg.failedToCreateIndexedService(e, name, service.getName());
+        }
+    }
+
+    /**
+     * Writes the index of the services of the class path to the {@link #RESOURCE} of a directory, usually the classes
+     * output directory of the application, like {@code target/classes}. Run at build time, with the runtime class path
+     * of the application, like with the {@code exec-maven-plugin}.
+     *
+     * @param args the directory to write the index to
+     * @throws IOException if the services cannot be read or the index cannot be written
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: " + ServiceIndex.class.getName() + " <output directory>");
+        }
+
+        final Path index = Paths.get(args[0]).resolve(RESOURCE);
+        Files.createDirectories(index.getParent());
+        try (Writer writer = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+            write(SecuritySupport.getContextClassLoader(), writer);
+        }
+    }
+}
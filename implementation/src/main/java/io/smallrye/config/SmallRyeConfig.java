@@ -19,6 +19,7 @@ import static io.smallrye.config.ConfigSourceInterceptor.EMPTY;
 import static io.smallrye.config.SmallRyeConfigSourceInterceptor.configSourceInterceptor;
 import static java.util.stream.Collectors.toList;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -29,11 +30,13 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -56,32 +59,57 @@ public class SmallRyeConfig implements Config, Serializable {
     private final AtomicReference<ConfigSources> configSources;
     private final Map<Type, Converter<?>> converters;
     private final Map<Type, Converter<Optional<?>>> optionalConverters = new ConcurrentHashMap<>();
+    private final ConvertedValueCache convertedValues;
 
     private final ConfigMappings mappings;
+    private final transient StartupRecorder startupRecorder;
 
     SmallRyeConfig(SmallRyeConfigBuilder builder, ConfigMappings mappings) {
-        this.configSources = new AtomicReference<>(new ConfigSources(buildConfigSources(builder), buildInterceptors(builder)));
-        this.converters = buildConverters(builder);
+        this(builder, mappings, StartupRecorder.DISABLED);
+    }
+
+    SmallRyeConfig(SmallRyeConfigBuilder builder, ConfigMappings mappings, StartupRecorder recorder) {
+        this.configSources = new AtomicReference<>(new ConfigSources(builder, buildConfigSources(builder, recorder),
+                buildInterceptors(builder, recorder), recorder));
+        this.converters = buildConverters(builder, recorder);
+        this.convertedValues = builder.isConvertedValueCache() ? new ConvertedValueCache() : null;
         this.mappings = mappings;
+        this.startupRecorder = recorder;
+        this.configSources.get().getSources().forEach(this::addChangeListener);
     }
 
     @Deprecated
     protected SmallRyeConfig(List<ConfigSource> configSources, Map<Type, Converter<?>> converters) {
-        this.configSources = new AtomicReference<>(
-                new ConfigSources(configSources, buildInterceptors(new SmallRyeConfigBuilder())));
+        final SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder();
+        this.configSources = new AtomicReference<>(new ConfigSources(builder, configSources,
+                buildInterceptors(builder, StartupRecorder.DISABLED), StartupRecorder.DISABLED));
         this.converters = new ConcurrentHashMap<>(Converters.ALL_CONVERTERS);
         this.converters.putAll(converters);
+        this.convertedValues = null;
         this.mappings = new ConfigMappings();
+        this.startupRecorder = null;
     }
 
-    private List<ConfigSource> buildConfigSources(final SmallRyeConfigBuilder builder) {
+    private List<ConfigSource> buildConfigSources(final SmallRyeConfigBuilder builder, final StartupRecorder recorder) {
         final List<ConfigSource> sourcesToBuild = new ArrayList<>(builder.getSources());
         if (builder.isAddDiscoveredSources()) {
-            sourcesToBuild.addAll(builder.discoverSources());
+            final StartupRecorder.Span discovery = recorder.beginPhase();
+            final List<ConfigSource> discoveredSources = builder.discoverSources(recorder);
+            sourcesToBuild.addAll(discoveredSources);
+            discovery.end("discover-sources", discoveredSources.size());
         }
+
+        final StartupRecorder.Span phase = recorder.beginPhase();
         if (builder.isAddDefaultSources()) {
             sourcesToBuild.addAll(builder.getDefaultSources());
         }
+        if (builder.getConfigSnapshot() != null) {
+            try {
+                sourcesToBuild.addAll(ConfigSnapshot.load(builder.getConfigSnapshot()));
+            } catch (IOException e) {
+                throw ConfigMessages.msg.failedToLoadConfigSnapshot(e, builder.getConfigSnapshot().toString());
+            }
+        }
         sourcesToBuild.add(new DefaultValuesConfigSource(builder.getDefaultValues()));
 
         // wrap all
@@ -90,14 +118,19 @@ public class SmallRyeConfig implements Config, Serializable {
         while (it.hasNext()) {
             it.set(sourceWrappersToBuild.apply(it.next()));
         }
+        phase.end("sources", sourcesToBuild.size());
 
         return sourcesToBuild;
     }
 
-    private List<InterceptorWithPriority> buildInterceptors(final SmallRyeConfigBuilder builder) {
+    private List<InterceptorWithPriority> buildInterceptors(final SmallRyeConfigBuilder builder,
+            final StartupRecorder recorder) {
         final List<InterceptorWithPriority> interceptors = new ArrayList<>(builder.getInterceptors());
         if (builder.isAddDiscoveredInterceptors()) {
-            interceptors.addAll(builder.discoverInterceptors());
+            final StartupRecorder.Span discovery = recorder.beginPhase();
+            final List<InterceptorWithPriority> discoveredInterceptors = builder.discoverInterceptors(recorder);
+            interceptors.addAll(discoveredInterceptors);
+            discovery.end("discover-interceptors", discoveredInterceptors.size());
         }
         if (builder.isAddDefaultInterceptors()) {
             interceptors.addAll(builder.getDefaultInterceptors());
@@ -106,16 +139,21 @@ public class SmallRyeConfig implements Config, Serializable {
         return interceptors;
     }
 
-    private Map<Type, Converter<?>> buildConverters(final SmallRyeConfigBuilder builder) {
+    private Map<Type, Converter<?>> buildConverters(final SmallRyeConfigBuilder builder, final StartupRecorder recorder) {
         final Map<Type, SmallRyeConfigBuilder.ConverterWithPriority> convertersToBuild = new HashMap<>(builder.getConverters());
 
         if (builder.isAddDiscoveredConverters()) {
-            for (Converter converter : builder.discoverConverters()) {
-                Type type = Converters.getConverterType(converter.getClass());
+            final StartupRecorder.Span discovery = recorder.beginPhase();
+            final List<SmallRyeConfigBuilder.ConverterWithPriority> discoveredConverters = builder
+                    .discoverConverters(recorder);
+            discovery.end("discover-converters", discoveredConverters.size());
+            for (SmallRyeConfigBuilder.ConverterWithPriority converter : discoveredConverters) {
+                Type type = Converters.getConverterType(converter.getConverter().getClass());
                 if (type == null) {
-                    throw ConfigMessages.msg.unableToAddConverter(converter);
+                    throw ConfigMessages.msg.unableToAddConverter(converter.getConverter());
                 }
-                SmallRyeConfigBuilder.addConverter(type, converter, convertersToBuild);
+                SmallRyeConfigBuilder.addConverter(type, converter.getPriority(), converter.getConverter(),
+                        convertersToBuild);
             }
         }
 
@@ -156,6 +194,23 @@ public class SmallRyeConfig implements Config, Serializable {
         }
 
         String value = configValue.getValue();
+        if (convertedValues != null) {
+            // a new OptionalConverter is created by each getOptionalValue call with a Converter, so the optional
+            // values are cached with the delegate Converter, and shared with getValue
+            if (converter instanceof Converters.OptionalConverter<?>) {
+                final Object cached = convertedValues.get(name,
+                        ((Converters.OptionalConverter<?>) converter).getDelegate(), value);
+                if (cached != null) {
+                    return (T) Optional.of(cached);
+                }
+            } else {
+                final T cached = convertedValues.get(name, converter, value);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+
         final T converted;
         if (value != null) {
             converted = converter.convert(value);
@@ -169,6 +224,18 @@ public class SmallRyeConfig implements Config, Serializable {
         if (converted == null) {
             throw ConfigMessages.msg.propertyNotFound(name);
         }
+        if (convertedValues != null) {
+            if (converter instanceof Converters.OptionalConverter<?>) {
+                final Optional<?> optional = (Optional<?>) converted;
+                final Converter<Object> delegate = (Converter<Object>) ((Converters.OptionalConverter<?>) converter)
+                        .getDelegate();
+                if (optional.isPresent()) {
+                    convertedValues.put(name, delegate, value, optional.get());
+                }
+            } else {
+                convertedValues.put(name, converter, value, converted);
+            }
+        }
         return converted;
     }
 
@@ -186,8 +253,116 @@ public class SmallRyeConfig implements Config, Serializable {
 
     @Experimental("Extension to the original ConfigSource to allow retrieval of additional metadata on config lookup")
     public ConfigValue getConfigValue(String name) {
-        final ConfigValue configValue = configSources.get().getInterceptorChain().proceed(name);
-        return configValue != null ? configValue : ConfigValue.builder().withName(name).build();
+        return getConfigValue(name, LookupOptions.current());
+    }
+
+    /**
+     * Lookup a configuration name with explicit {@link LookupOptions}, instead of the options set in the current
+     * thread by {@link SecretKeys} and {@link Expressions}.
+     *
+     * @param name the configuration name (must not be {@code null})
+     * @param options the options of the lookup (must not be {@code null})
+     * @return the {@link ConfigValue} of the configuration name, like in {@link #getConfigValue(String)}.
+     */
+    @Experimental("Explicit options of a configuration lookup")
+    public ConfigValue getConfigValue(String name, LookupOptions options) {
+        final Object event = ConfigEvents.beginLookup();
+        if (event == null) {
+            return lookupConfigValue(name, options);
+        }
+
+        ConfigValue configValue = null;
+        try {
+            configValue = lookupConfigValue(name, options);
+            return configValue;
+        } finally {
+            ConfigEvents.endLookup(event, name, configValue);
+        }
+    }
+
+    private ConfigValue lookupConfigValue(final String name, final LookupOptions options) {
+        final ConfigSources configSources = this.configSources.get();
+        final ConfigValueSnapshot snapshot = configSources.getSnapshot();
+        final ConfigValueCache cache = configSources.getCache();
+        // unlocked secrets or lookups without expansion must not be cached or served from the cache
+        if (snapshot == null && cache == null || !options.isSecretKeysLocked() || !options.isExpansionEnabled()) {
+            return configSources.getConfigValue(name, options);
+        }
+
+        ConfigValue configValue = snapshot != null ? snapshot.get(name) : null;
+        if (configValue != null) {
+            return configValue;
+        }
+
+        if (cache == null) {
+            return configSources.getConfigValue(name, options);
+        }
+
+        configValue = cache.get(name);
+        if (configValue == null) {
+            final int generation = cache.getGeneration();
+            configValue = configSources.getConfigValue(name, options);
+            cache.put(name, configValue, generation);
+        }
+        return configValue;
+    }
+
+    /**
+     * Lookup multiple configuration names in a single traversal of the interceptor chain. This is equivalent to call
+     * {@link #getConfigValue(String)} for each name, but interceptors and {@code ConfigSources} that support it
+     * resolve all the names at once.
+     *
+     * @param names the configuration names (must not be {@code null})
+     * @return a Map with the {@link ConfigValue} of each configuration name, in the iteration order of the names. A
+     *         name that is not found maps to a {@link ConfigValue} without a value, like in
+     *         {@link #getConfigValue(String)}.
+     */
+    @Experimental("Extension to the original ConfigSource to allow retrieval of additional metadata on config lookup")
+    public Map<String, ConfigValue> getConfigValues(Collection<String> names) {
+        return getConfigValues(names, LookupOptions.current());
+    }
+
+    /**
+     * Lookup multiple configuration names with explicit {@link LookupOptions}, like in
+     * {@link #getConfigValues(Collection)}.
+     *
+     * @param names the configuration names (must not be {@code null})
+     * @param options the options of the lookup (must not be {@code null})
+     * @return a Map with the {@link ConfigValue} of each configuration name, in the iteration order of the names.
+     */
+    @Experimental("Explicit options of a configuration lookup")
+    public Map<String, ConfigValue> getConfigValues(Collection<String> names, LookupOptions options) {
+        final ConfigSources configSources = this.configSources.get();
+        final ConfigValueSnapshot snapshot = configSources.getSnapshot();
+        final ConfigValueCache cache = configSources.getCache();
+        if (snapshot == null && cache == null || !options.isSecretKeysLocked() || !options.isExpansionEnabled()) {
+            return configSources.getConfigValues(names, options);
+        }
+
+        final Map<String, ConfigValue> configValues = new LinkedHashMap<>();
+        final Set<String> notCached = new HashSet<>();
+        for (String name : names) {
+            ConfigValue configValue = snapshot != null ? snapshot.get(name) : null;
+            if (configValue == null && cache != null) {
+                configValue = cache.get(name);
+            }
+            configValues.put(name, configValue);
+            if (configValue == null) {
+                notCached.add(name);
+            }
+        }
+
+        if (!notCached.isEmpty()) {
+            final int generation = cache != null ? cache.getGeneration() : 0;
+            final Map<String, ConfigValue> resolved = configSources.getConfigValues(notCached, options);
+            for (Map.Entry<String, ConfigValue> configValue : resolved.entrySet()) {
+                configValues.put(configValue.getKey(), configValue.getValue());
+                if (cache != null) {
+                    cache.put(configValue.getKey(), configValue.getValue(), generation);
+                }
+            }
+        }
+        return configValues;
     }
 
     /**
@@ -236,9 +411,34 @@ public class SmallRyeConfig implements Config, Serializable {
 
     @Override
     public Iterable<String> getPropertyNames() {
-        final HashSet<String> names = new HashSet<>();
-        configSources.get().getInterceptorChain().iterateNames().forEachRemaining(names::add);
-        return names;
+        return configSources.get().getPropertyNames();
+    }
+
+    /**
+     * Returns the configuration names equal to the prefix or under the prefix segments. For instance, the prefix
+     * {@code datasource} matches {@code datasource} and {@code datasource.url}, but not {@code datasources.url}.
+     * <p>
+     *
+     * With {@link SmallRyeConfigBuilder#withPropertyNamesIndex(boolean)}, names are found in a trie of name segments, in
+     * time proportional to the number of names found. Otherwise, every configuration name is checked.
+     *
+     * @param prefix the prefix, or an empty String for all the configuration names.
+     * @return the configuration names under the prefix.
+     */
+    @Experimental("Configuration names and subsets by prefix")
+    public Iterable<String> getPropertyNames(String prefix) {
+        return configSources.get().getPropertyNames(prefix);
+    }
+
+    /**
+     * Returns a view of the configuration under a prefix, where configuration names are relative to the prefix.
+     *
+     * @param prefix the prefix, or an empty String for the entire configuration.
+     * @return a {@link SubsetConfig} for the prefix.
+     */
+    @Experimental("Configuration names and subsets by prefix")
+    public SubsetConfig subset(String prefix) {
+        return new SubsetConfig(this, prefix);
     }
 
     @Override
@@ -246,6 +446,28 @@ public class SmallRyeConfig implements Config, Serializable {
         return configSources.get().getSources();
     }
 
+    /**
+     * Returns a snapshot of the metrics of the lookups, if enabled with
+     * {@link SmallRyeConfigBuilder#withLookupMetrics(boolean)}.
+     *
+     * @return the {@link LookupMetrics}, or an empty Optional if the metrics are not enabled.
+     */
+    @Experimental("Metrics of configuration lookups")
+    public Optional<LookupMetrics> getLookupMetrics() {
+        return Optional.ofNullable(configSources.get().getLookupMetrics());
+    }
+
+    /**
+     * Returns the timeline of the build of this {@link SmallRyeConfig}, if enabled with
+     * {@link SmallRyeConfigBuilder#withStartupReport(boolean)}. The report is not serialized.
+     *
+     * @return the {@link StartupReport}, or an empty Optional if the report is not enabled.
+     */
+    @Experimental("Report of the build of a SmallRyeConfig")
+    public Optional<StartupReport> getStartupReport() {
+        return Optional.ofNullable(startupRecorder != null ? startupRecorder.getReport() : null);
+    }
+
     /**
      * Add a configuration source to the configuration object. The list of configuration sources is re-sorted
      * to insert the new source into the correct position. Configuration source wrappers configured with
@@ -256,6 +478,17 @@ public class SmallRyeConfig implements Config, Serializable {
     @Deprecated
     public void addConfigSource(ConfigSource configSource) {
         configSources.updateAndGet(configSources -> new ConfigSources(configSources, configSource));
+        addChangeListener(configSource);
+    }
+
+    private void addChangeListener(final ConfigSource configSource) {
+        if (configSource instanceof ObservableConfigSource) {
+            ((ObservableConfigSource) configSource).addChangeListener(this::configSourceChanged);
+        }
+    }
+
+    private void configSourceChanged(final ConfigSource configSource, final Set<String> names) {
+        configSources.get().configSourceChanged(configSource, names);
     }
 
     public <T> T convert(String value, Class<T> asType) {
@@ -295,6 +528,16 @@ public class SmallRyeConfig implements Config, Serializable {
         private final List<ConfigSource> sources;
         private final List<ConfigSourceInterceptorWithPriority> interceptors;
         private final ConfigSourceInterceptorContext interceptorChain;
+        private final ConfigValueCache cache;
+        private final boolean compileInterceptorChain;
+        private transient ConfigSourceInterceptorContext compiledInterceptorChain;
+        private final boolean frozen;
+        private transient volatile ConfigValueSnapshot snapshot;
+        private final boolean propertyNamesIndex;
+        private final boolean configSourceFilter;
+        private transient volatile Set<String> propertyNames;
+        private transient volatile PropertyNamesTrie propertyNamesTrie;
+        private final LookupMetricsRecorder metrics;
 
         /**
          * Builds a representation of Config Sources, Interceptors and the Interceptor chain to be used in Config. Note
@@ -304,61 +547,74 @@ public class SmallRyeConfig implements Config, Serializable {
          * Instances of the Interceptors are then kept in ConfigSources if the interceptor chain requires a reorder (in
          * the case a new ConfigSource is addded to Config).
          *
+         * @param builder the builder with the options of the Config.
          * @param sources the Config Sources to be part of Config.
          * @param interceptors the Interceptors to be part of Config.
+         * @param recorder the recorder of the build phases.
          */
-        ConfigSources(final List<ConfigSource> sources, final List<InterceptorWithPriority> interceptors) {
+        ConfigSources(final SmallRyeConfigBuilder builder, final List<ConfigSource> sources,
+                final List<InterceptorWithPriority> interceptors, final StartupRecorder recorder) {
             final List<ConfigSourceInterceptorWithPriority> sortInterceptors = new ArrayList<>();
             sortInterceptors.addAll(sources.stream()
                     .filter(configSource -> !(configSource instanceof ConfigurableConfigSource))
-                    .map(ConfigSourceInterceptorWithPriority::new)
+                    .map(configSource -> new ConfigSourceInterceptorWithPriority(configSource,
+                            builder.isConfigSourceFilter()))
                     .collect(toList()));
             sortInterceptors.addAll(interceptors.stream().map(ConfigSourceInterceptorWithPriority::new).collect(toList()));
             sortInterceptors.sort(Comparator.comparingInt(ConfigSourceInterceptorWithPriority::getPriority));
 
-            SmallRyeConfigSourceInterceptorContext current = new SmallRyeConfigSourceInterceptorContext(EMPTY, null);
-            for (ConfigSourceInterceptorWithPriority configSourceInterceptor : sortInterceptors) {
-                final ConfigSourceInterceptorWithPriority initInterceptor = configSourceInterceptor.getInterceptor(current);
-                current = new SmallRyeConfigSourceInterceptorContext(initInterceptor.getInterceptor(), current);
-            }
-
-            final SmallRyeConfigSourceInterceptorContext initChain = current;
             final List<ConfigurableConfigSource> lateInitSources = sources.stream()
                     .filter(ConfigurableConfigSource.class::isInstance)
                     .map(ConfigurableConfigSource.class::cast)
                     .sorted(Comparator.comparingInt(ConfigurableConfigSource::getOrdinal))
                     .collect(toList());
 
-            final List<ConfigSourceInterceptorWithPriority> lateInterceptors = lateInitSources.stream()
-                    .flatMap(configurableConfigSource -> configurableConfigSource.getConfigSources(
-                            new ConfigSourceContext() {
-                                @Override
-                                public ConfigValue getValue(final String name) {
-                                    return initChain.proceed(name);
-                                }
-
-                                @Override
-                                public Iterator<String> iterateNames() {
-                                    return initChain.iterateNames();
-                                }
-                            }).stream())
-                    .map(ConfigSourceInterceptorWithPriority::new)
-                    .collect(toList());
+            // the initial chain is only required by the ConfigSourceFactory to read the configuration. The final chain is
+            // still built again once the late sources are known, because interceptors, like the profile interceptor, are
+            // initialized with the configuration of the late sources
+            if (!lateInitSources.isEmpty()) {
+                StartupRecorder.Span phase = recorder.beginPhase();
+                SmallRyeConfigSourceInterceptorContext initChain = new SmallRyeConfigSourceInterceptorContext(EMPTY, null);
+                for (ConfigSourceInterceptorWithPriority configSourceInterceptor : sortInterceptors) {
+                    final ConfigSourceInterceptorWithPriority initInterceptor = getInterceptor(configSourceInterceptor,
+                            initChain, recorder);
+                    initChain = chain(initInterceptor, initChain, null);
+                }
+                phase.end("interceptor-init", sortInterceptors.size());
 
-            sortInterceptors.addAll(lateInterceptors);
-            sortInterceptors.sort(Comparator.comparingInt(ConfigSourceInterceptorWithPriority::getPriority));
+                phase = recorder.beginPhase();
+                final List<ConfigSource> lateSources = getConfigSources(builder, lateInitSources, initChain, recorder);
+                for (ConfigSource lateSource : lateSources) {
+                    sortInterceptors.add(new ConfigSourceInterceptorWithPriority(lateSource, builder.isConfigSourceFilter()));
+                }
+                phase.end("configurable-sources", lateSources.size());
+                sortInterceptors.sort(Comparator.comparingInt(ConfigSourceInterceptorWithPriority::getPriority));
+            }
 
+            final StartupRecorder.Span phase = recorder.beginPhase();
             final List<ConfigSourceInterceptorWithPriority> initInterceptors = new ArrayList<>();
-            current = new SmallRyeConfigSourceInterceptorContext(EMPTY, null);
+            this.metrics = builder.isLookupMetrics() ? new LookupMetricsRecorder() : null;
+            SmallRyeConfigSourceInterceptorContext current = new SmallRyeConfigSourceInterceptorContext(EMPTY, null);
             for (ConfigSourceInterceptorWithPriority configSourceInterceptor : sortInterceptors) {
-                final ConfigSourceInterceptorWithPriority initInterceptor = configSourceInterceptor.getInterceptor(current);
-                current = new SmallRyeConfigSourceInterceptorContext(initInterceptor.getInterceptor(), current);
+                final ConfigSourceInterceptorWithPriority initInterceptor = getInterceptor(configSourceInterceptor, current,
+                        recorder);
+                current = chain(initInterceptor, current, metrics);
                 initInterceptors.add(initInterceptor);
             }
 
             this.interceptorChain = current;
             this.sources = Collections.unmodifiableList(getSources(initInterceptors));
             this.interceptors = Collections.unmodifiableList(initInterceptors);
+            // the interceptors may have kept state from the lookups of the sources initialization
+            interceptorsChanged(null);
+            this.cache = builder.isValueCache() ? new ConfigValueCache() : null;
+            this.compileInterceptorChain = builder.isCompiledInterceptorChain();
+            this.compiledInterceptorChain = compileInterceptorChain ? compileInterceptorChain(initInterceptors, metrics) : null;
+            phase.end("interceptor-chain", initInterceptors.size());
+            this.propertyNamesIndex = builder.isPropertyNamesIndex();
+            this.configSourceFilter = builder.isConfigSourceFilter();
+            this.frozen = builder.isFrozen();
+            this.snapshot = frozen ? snapshot() : null;
         }
 
         /**
@@ -373,18 +629,28 @@ public class SmallRyeConfig implements Config, Serializable {
             final int oldSize = sources.getInterceptors().size();
             final List<ConfigSourceInterceptorWithPriority> newInterceptors = Arrays
                     .asList(sources.getInterceptors().toArray(new ConfigSourceInterceptorWithPriority[oldSize + 1]));
-            newInterceptors.set(oldSize, new ConfigSourceInterceptorWithPriority(configSource));
+            newInterceptors.set(oldSize, new ConfigSourceInterceptorWithPriority(
+                    configSourceInterceptor(configSource, sources.configSourceFilter), configSource.getOrdinal(),
+                    configSource.getName()));
             newInterceptors.sort(Comparator.comparingInt(ConfigSourceInterceptorWithPriority::getPriority));
 
+            this.metrics = sources.metrics;
             SmallRyeConfigSourceInterceptorContext current = new SmallRyeConfigSourceInterceptorContext(EMPTY, null);
             for (ConfigSourceInterceptorWithPriority configSourceInterceptor : newInterceptors) {
-                final ConfigSourceInterceptor interceptor = configSourceInterceptor.getInterceptor();
-                current = new SmallRyeConfigSourceInterceptorContext(interceptor, current);
+                current = chain(configSourceInterceptor, current, metrics);
             }
 
             this.sources = Collections.unmodifiableList(getSources(newInterceptors));
             this.interceptors = Collections.unmodifiableList(newInterceptors);
             this.interceptorChain = current;
+            this.cache = sources.cache != null ? new ConfigValueCache() : null;
+            this.compileInterceptorChain = sources.compileInterceptorChain;
+            this.compiledInterceptorChain = compileInterceptorChain ? compileInterceptorChain(newInterceptors, metrics) : null;
+            this.propertyNamesIndex = sources.propertyNamesIndex;
+            this.configSourceFilter = sources.configSourceFilter;
+            this.frozen = sources.frozen;
+            interceptorsChanged(null);
+            this.snapshot = frozen ? snapshot() : null;
         }
 
         private List<ConfigSource> getSources(final List<ConfigSourceInterceptorWithPriority> interceptors) {
@@ -398,6 +664,96 @@ public class SmallRyeConfig implements Config, Serializable {
             return sources;
         }
 
+        /**
+         * Adds an interceptor to the chain, routed to the names it declares. An interceptor that declares no names is
+         * left out of the chain.
+         *
+         * @param interceptor the interceptor to add.
+         * @param next the chain of the interceptors with a lower priority.
+         * @param metrics the metrics recorder, or {@code null} if metrics are not enabled.
+         * @return the new chain.
+         */
+        private static SmallRyeConfigSourceInterceptorContext chain(final ConfigSourceInterceptorWithPriority interceptor,
+                final SmallRyeConfigSourceInterceptorContext next, final LookupMetricsRecorder metrics) {
+            final ConfigSourceInterceptor chainInterceptor = interceptor.getChainInterceptor(metrics);
+            return chainInterceptor != null ? new SmallRyeConfigSourceInterceptorContext(chainInterceptor, next) : next;
+        }
+
+        /**
+         * Initializes the {@code ConfigSources} of each {@link ConfigSourceFactory}, with the initial chain as the
+         * {@link ConfigSourceContext}. The names declared by the factories with
+         * {@link ConfigSourceFactory#getDependencies()} are looked up at once, and only the factories that declare
+         * their names may run concurrently.
+         */
+        private static List<ConfigSource> getConfigSources(final SmallRyeConfigBuilder builder,
+                final List<ConfigurableConfigSource> factories, final SmallRyeConfigSourceInterceptorContext initChain,
+                final StartupRecorder recorder) {
+            final LookupOptions options = LookupOptions.current();
+            final Set<String> dependencies = new HashSet<>();
+            for (ConfigurableConfigSource factory : factories) {
+                factory.getDependencies().ifPresent(dependencies::addAll);
+            }
+
+            Map<String, ConfigValue> values = null;
+            if (!dependencies.isEmpty()) {
+                try {
+                    values = initChain.proceed(dependencies, options);
+                } catch (SecurityException e) {
+                    // a secret, each name is looked up when the factory requests it
+                }
+            }
+
+            final Map<String, ConfigValue> dependencyValues = values;
+            final ConfigSourceContext context = new ConfigSourceContext() {
+                @Override
+                public ConfigValue getValue(final String name) {
+                    if (dependencyValues != null && dependencies.contains(name)) {
+                        return dependencyValues.get(name);
+                    }
+                    return initChain.proceed(name, options);
+                }
+
+                @Override
+                public Iterator<String> iterateNames() {
+                    return initChain.iterateNames();
+                }
+            };
+
+            final ConfigSourceLoader loader = new ConfigSourceLoader(builder.getSourceLoadingParallelism(),
+                    builder.getSourceFactoryTimeout(), recorder);
+            for (ConfigurableConfigSource factory : factories) {
+                loader.add(factory.getName(), () -> factory.getConfigSources(context),
+                        factory.getDependencies().isPresent());
+            }
+            return loader.load();
+        }
+
+        /**
+         * Creates the interceptor for a chain, and records a step for each interceptor that is not a
+         * {@code ConfigSource}.
+         */
+        private static ConfigSourceInterceptorWithPriority getInterceptor(
+                final ConfigSourceInterceptorWithPriority interceptor, final ConfigSourceInterceptorContext context,
+                final StartupRecorder recorder) {
+            final StartupRecorder.Span step = recorder.begin();
+            final ConfigSourceInterceptorWithPriority initInterceptor = interceptor.getInterceptor(context);
+            final ConfigSourceInterceptor created = initInterceptor.getInterceptor();
+            if (created instanceof SmallRyeConfigSourceInterceptor) {
+                step.discard();
+            } else {
+                step.end(created.getClass().getName(), 1);
+            }
+            return initInterceptor;
+        }
+
+        private static ConfigSourceInterceptorContext compileInterceptorChain(
+                final List<ConfigSourceInterceptorWithPriority> interceptors, final LookupMetricsRecorder metrics) {
+            return ConfigSourcesInterceptorContextCompiler.compile(interceptors.stream()
+                    .map(interceptor -> interceptor.getChainInterceptor(metrics))
+                    .filter(Objects::nonNull)
+                    .collect(toList()));
+        }
+
         List<ConfigSource> getSources() {
             return sources;
         }
@@ -407,8 +763,138 @@ public class SmallRyeConfig implements Config, Serializable {
         }
 
         ConfigSourceInterceptorContext getInterceptorChain() {
+            if (compileInterceptorChain) {
+                ConfigSourceInterceptorContext compiledInterceptorChain = this.compiledInterceptorChain;
+                // not serialized, so it needs to be compiled again after deserialization
+                if (compiledInterceptorChain == null) {
+                    this.compiledInterceptorChain = compiledInterceptorChain = compileInterceptorChain(interceptors, metrics);
+                }
+                return compiledInterceptorChain;
+            }
             return interceptorChain;
         }
+
+        LookupMetrics getLookupMetrics() {
+            return metrics != null ? metrics.snapshot(interceptors) : null;
+        }
+
+        ConfigValueCache getCache() {
+            return cache;
+        }
+
+        Set<String> getPropertyNames() {
+            if (propertyNamesIndex) {
+                Set<String> propertyNames = this.propertyNames;
+                // not serialized, so it needs to be collected again after deserialization
+                if (propertyNames == null) {
+                    this.propertyNames = propertyNames = Collections
+                            .unmodifiableSet(PropertyNamesIterator.names(getInterceptorChain().iterateNames()));
+                }
+                return propertyNames;
+            }
+            return PropertyNamesIterator.names(getInterceptorChain().iterateNames());
+        }
+
+        Set<String> getPropertyNames(final String prefix) {
+            if (propertyNamesIndex) {
+                PropertyNamesTrie propertyNamesTrie = this.propertyNamesTrie;
+                if (propertyNamesTrie == null) {
+                    this.propertyNamesTrie = propertyNamesTrie = PropertyNamesTrie.of(getPropertyNames());
+                }
+                return propertyNamesTrie.getPropertyNames(prefix);
+            }
+
+            final Set<String> names = getPropertyNames();
+            names.removeIf(name -> !PropertyNamesTrie.isInPrefix(name, prefix));
+            return names;
+        }
+
+        ConfigValueSnapshot getSnapshot() {
+            if (frozen) {
+                ConfigValueSnapshot snapshot = this.snapshot;
+                // not serialized
+                if (snapshot == null) {
+                    this.snapshot = snapshot = snapshot();
+                }
+                return snapshot;
+            }
+            return null;
+        }
+
+        /**
+         * Resolves every configuration name through the interceptor chain, with secret keys locked and without
+         * tracing. Names that fail to resolve (like secret keys or expressions without a value) are left out, so the
+         * lookup fails again in the interceptor chain.
+         */
+        private ConfigValueSnapshot snapshot() {
+            final LookupOptions options = LookupOptions.DEFAULT.withTracing(false);
+            final ConfigSourceInterceptorContext interceptorChain = getInterceptorChain();
+            final Map<String, ConfigValue> configValues = new HashMap<>();
+            for (String name : getPropertyNames()) {
+                try {
+                    final ConfigValue configValue = interceptorChain.proceed(name, options);
+                    if (configValue != null && configValue.getValue() != null) {
+                        configValues.put(name, configValue);
+                    }
+                } catch (RuntimeException e) {
+                    // resolved by the interceptor chain on lookup
+                }
+            }
+            return ConfigValueSnapshot.of(configValues);
+        }
+
+        /**
+         * Discards the state the default interceptors keep from the {@link ConfigSource} names and values.
+         *
+         * @param names the changed names, or {@code null} if a {@link ConfigSource} was added.
+         */
+        private void interceptorsChanged(final Set<String> names) {
+            for (ConfigSourceInterceptorWithPriority interceptor : interceptors) {
+                if (interceptor.getInterceptor() instanceof ProfileConfigSourceInterceptor) {
+                    ((ProfileConfigSourceInterceptor) interceptor.getInterceptor()).configSourceChanged();
+                } else if (interceptor.getInterceptor() instanceof ExpressionConfigSourceInterceptor) {
+                    ((ExpressionConfigSourceInterceptor) interceptor.getInterceptor()).configSourceChanged(names);
+                }
+            }
+        }
+
+        ConfigValue getConfigValue(final String name, final LookupOptions options) {
+            final ConfigValue configValue = getInterceptorChain().proceed(name, options);
+            return configValue != null ? configValue : ConfigValue.builder().withName(name).build();
+        }
+
+        Map<String, ConfigValue> getConfigValues(final Collection<String> names, final LookupOptions options) {
+            final Map<String, ConfigValue> resolved = getInterceptorChain().proceed(new HashSet<>(names), options);
+            final Map<String, ConfigValue> configValues = new LinkedHashMap<>();
+            for (String name : names) {
+                final ConfigValue configValue = resolved.get(name);
+                configValues.put(name, configValue != null ? configValue : ConfigValue.builder().withName(name).build());
+            }
+            return configValues;
+        }
+
+        void configSourceChanged(final ConfigSource configSource, final Set<String> names) {
+            // the source filters must be updated before discarding cached values, or a lookup in between could cache
+            // a miss of a new name
+            for (ConfigSourceInterceptorWithPriority interceptor : interceptors) {
+                if (interceptor.getInterceptor() instanceof SmallRyeConfigSourceInterceptor) {
+                    final SmallRyeConfigSourceInterceptor sourceInterceptor = (SmallRyeConfigSourceInterceptor) interceptor
+                            .getInterceptor();
+                    if (sourceInterceptor.getSource() == configSource) {
+                        sourceInterceptor.configSourceChanged(names);
+                    }
+                }
+            }
+            interceptorsChanged(names);
+            propertyNames = null;
+            propertyNamesTrie = null;
+            if (frozen) {
+                snapshot = snapshot();
+            }
+            if (cache != null) {
+                cache.invalidate();
+            }
+        }
     }
 
     static class ConfigSourceInterceptorWithPriority implements Comparable<ConfigSourceInterceptorWithPriority>, Serializable {
@@ -417,24 +903,48 @@ public class SmallRyeConfig implements Config, Serializable {
         final Function<ConfigSourceInterceptorContext, ConfigSourceInterceptor> interceptor;
         final int priority;
         final String name;
+        /**
+         * The names declared by the {@link ConfigSourceInterceptorFactory}, or {@code null} for all names.
+         */
+        final Set<String> factoryNamePrefixes;
+        /**
+         * The names the interceptor acts on, or {@code null} for all names.
+         */
+        final NamePrefixes namePrefixes;
 
         public ConfigSourceInterceptorWithPriority(final InterceptorWithPriority interceptor) {
             this.interceptor = interceptor::getInterceptor;
             this.priority = interceptor.getPriority();
             this.name = "undefined";
+            this.factoryNamePrefixes = interceptor.getNamePrefixes().map(HashSet::new).orElse(null);
+            this.namePrefixes = null;
         }
 
         public ConfigSourceInterceptorWithPriority(final ConfigSource configSource) {
-            this.interceptor = context -> configSourceInterceptor(configSource);
+            this(configSource, false);
+        }
+
+        ConfigSourceInterceptorWithPriority(final ConfigSource configSource, final boolean configSourceFilter) {
+            this.interceptor = context -> configSourceInterceptor(configSource, configSourceFilter);
             this.priority = configSource.getOrdinal();
             this.name = configSource.getName();
+            this.factoryNamePrefixes = null;
+            this.namePrefixes = null;
         }
 
         public ConfigSourceInterceptorWithPriority(final ConfigSourceInterceptor interceptor, final int priority,
                 final String name) {
+            this(interceptor, priority, name, null);
+        }
+
+        ConfigSourceInterceptorWithPriority(final ConfigSourceInterceptor interceptor, final int priority,
+                final String name, final Set<String> factoryNamePrefixes) {
             this.interceptor = (Serializable & Function) context -> interceptor;
             this.priority = priority;
             this.name = name;
+            this.factoryNamePrefixes = factoryNamePrefixes;
+            final Set<String> namePrefixes = interceptor.getNamePrefixes().orElse(factoryNamePrefixes);
+            this.namePrefixes = namePrefixes != null ? new NamePrefixes(namePrefixes) : null;
         }
 
         public ConfigSourceInterceptor getInterceptor() {
@@ -442,7 +952,25 @@ public class SmallRyeConfig implements Config, Serializable {
         }
 
         public ConfigSourceInterceptorWithPriority getInterceptor(final ConfigSourceInterceptorContext context) {
-            return new ConfigSourceInterceptorWithPriority(interceptor.apply(context), priority, name);
+            return new ConfigSourceInterceptorWithPriority(interceptor.apply(context), priority, name, factoryNamePrefixes);
+        }
+
+        /**
+         * Returns the interceptor to add to the chain, which only runs for the names it declares.
+         *
+         * @param metrics the metrics recorder, or {@code null} if metrics are not enabled.
+         * @return the interceptor, or {@code null} if the interceptor does not act on any name.
+         */
+        ConfigSourceInterceptor getChainInterceptor(final LookupMetricsRecorder metrics) {
+            if (namePrefixes != null && namePrefixes.isEmpty()) {
+                return null;
+            }
+
+            ConfigSourceInterceptor interceptor = getInterceptor();
+            if (metrics != null) {
+                interceptor = metrics.meter(this, interceptor);
+            }
+            return namePrefixes != null ? new RoutedConfigSourceInterceptor(interceptor, namePrefixes) : interceptor;
         }
 
         public int getPriority() {
@@ -16,12 +16,18 @@
 
 package io.smallrye.config;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -29,6 +35,7 @@ import java.util.OptionalInt;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,6 +47,8 @@ import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
 import org.eclipse.microprofile.config.spi.Converter;
 
+import io.smallrye.common.constraint.Assert;
+
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
@@ -63,6 +72,22 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     private boolean addDiscoveredSources = false;
     private boolean addDiscoveredConverters = false;
     private boolean addDiscoveredInterceptors = false;
+    private boolean valueCache = false;
+    private boolean convertedValueCache = false;
+    private boolean compiledInterceptorChain = false;
+    private boolean frozen = false;
+    private boolean propertyNamesIndex = false;
+    private boolean configSourceFilter = false;
+    private boolean profileIndex = false;
+    private boolean expandedValueCache = false;
+    private boolean lookupMetrics = false;
+    private boolean startupReport = false;
+    private int sourceLoadingParallelism = 1;
+    private Duration sourceFactoryTimeout = null;
+    private boolean serviceIndex = false;
+    private Path configSnapshot = null;
+    private ServiceIndex readServiceIndex;
+    private boolean serviceIndexRead = false;
 
     public SmallRyeConfigBuilder() {
     }
@@ -85,42 +110,116 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     }
 
     List<ConfigSource> discoverSources() {
-        List<ConfigSource> discoveredSources = new ArrayList<>();
-        ServiceLoader<ConfigSource> configSourceLoader = ServiceLoader.load(ConfigSource.class, classLoader);
-        configSourceLoader.forEach(discoveredSources::add);
+        return discoverSources(StartupRecorder.DISABLED);
+    }
 
-        // load all ConfigSources from ConfigSourceProviders
-        ServiceLoader<ConfigSourceProvider> configSourceProviderLoader = ServiceLoader.load(ConfigSourceProvider.class,
-                classLoader);
-        configSourceProviderLoader.forEach(configSourceProvider -> configSourceProvider.getConfigSources(classLoader)
-                .forEach(discoveredSources::add));
+    List<ConfigSource> discoverSources(StartupRecorder recorder) {
+        List<ConfigSource> discoveredSources = new ArrayList<>();
+        if (configSnapshot == null) {
+            discoverStaticSources(discoveredSources, recorder);
+        }
 
-        ServiceLoader<ConfigSourceFactory> configSourceFactoryLoader = ServiceLoader.load(ConfigSourceFactory.class,
-                classLoader);
-        configSourceFactoryLoader.forEach(factory -> discoveredSources.add(new ConfigurableConfigSource(factory)));
+        load(ConfigSourceFactory.class, recorder, factory -> {
+            discoveredSources.add(new ConfigurableConfigSource(factory));
+            return 1;
+        });
 
         return discoveredSources;
     }
 
-    List<Converter<?>> discoverConverters() {
-        List<Converter<?>> discoveredConverters = new ArrayList<>();
-        ServiceLoader.load(Converter.class, classLoader).forEach(discoveredConverters::add);
+    /**
+     * Discovers the {@link ConfigSource}s that are part of a {@link ConfigSnapshot}.
+     */
+    private void discoverStaticSources(List<ConfigSource> discoveredSources, StartupRecorder recorder) {
+        load(ConfigSource.class, recorder, configSource -> {
+            discoveredSources.add(configSource);
+            return 1;
+        });
+
+        // load all ConfigSources from ConfigSourceProviders
+        ConfigSourceLoader loader = new ConfigSourceLoader(sourceLoadingParallelism, recorder);
+        services(ConfigSourceProvider.class).forEachRemaining(configSourceProvider -> loader
+                .add(configSourceProvider.getClass().getName(), () -> configSourceProvider.getConfigSources(classLoader)));
+        discoveredSources.addAll(loader.load());
+    }
+
+    List<ConverterWithPriority> discoverConverters() {
+        return discoverConverters(StartupRecorder.DISABLED);
+    }
+
+    List<ConverterWithPriority> discoverConverters(StartupRecorder recorder) {
+        List<ConverterWithPriority> discoveredConverters = new ArrayList<>();
+        load(Converter.class, recorder, converter -> {
+            discoveredConverters.add(new ConverterWithPriority(converter,
+                    getIndexedPriority(converter).orElseGet(() -> getPriority(converter))));
+            return 1;
+        });
         return discoveredConverters;
     }
 
     List<InterceptorWithPriority> discoverInterceptors() {
+        return discoverInterceptors(StartupRecorder.DISABLED);
+    }
+
+    List<InterceptorWithPriority> discoverInterceptors(StartupRecorder recorder) {
         List<InterceptorWithPriority> interceptors = new ArrayList<>();
-        ServiceLoader<ConfigSourceInterceptor> interceptorLoader = ServiceLoader.load(ConfigSourceInterceptor.class,
-                classLoader);
-        interceptorLoader.forEach(interceptor -> interceptors.add(new InterceptorWithPriority(interceptor)));
+        load(ConfigSourceInterceptor.class, recorder, interceptor -> {
+            OptionalInt priority = getIndexedPriority(interceptor);
+            interceptors.add(priority.isPresent() ? new InterceptorWithPriority(interceptor, priority.getAsInt())
+                    : new InterceptorWithPriority(interceptor));
+            return 1;
+        });
 
-        ServiceLoader<ConfigSourceInterceptorFactory> interceptorFactoryLoader = ServiceLoader
-                .load(ConfigSourceInterceptorFactory.class, classLoader);
-        interceptorFactoryLoader.forEach(interceptor -> interceptors.add(new InterceptorWithPriority(interceptor)));
+        load(ConfigSourceInterceptorFactory.class, recorder, interceptor -> {
+            interceptors.add(new InterceptorWithPriority(interceptor));
+            return 1;
+        });
 
         return interceptors;
     }
 
+    /**
+     * Loads the services of a type, and records a step for each service with the number of elements it adds.
+     */
+    private <S> void load(Class<S> service, StartupRecorder recorder, ToIntFunction<S> consumer) {
+        Iterator<S> services = services(service);
+        while (true) {
+            StartupRecorder.Span step = recorder.begin();
+            if (!services.hasNext()) {
+                step.discard();
+                return;
+            }
+            S loaded = services.next();
+            step.end(loaded.getClass().getName(), consumer.applyAsInt(loaded));
+        }
+    }
+
+    /**
+     * Returns the services of a type, from the {@link ServiceIndex} if the {@link ClassLoader} has one, or from the
+     * {@link ServiceLoader} otherwise.
+     */
+    private <S> Iterator<S> services(Class<S> service) {
+        ServiceIndex serviceIndex = getServiceIndex();
+        return serviceIndex != null ? serviceIndex.load(service, classLoader)
+                : ServiceLoader.load(service, classLoader).iterator();
+    }
+
+    private ServiceIndex getServiceIndex() {
+        if (!serviceIndex) {
+            return null;
+        }
+        if (!serviceIndexRead) {
+            readServiceIndex = ServiceIndex.read(classLoader);
+            serviceIndexRead = true;
+        }
+        return readServiceIndex;
+    }
+
+    private OptionalInt getIndexedPriority(Object service) {
+        ServiceIndex serviceIndex = getServiceIndex();
+        return serviceIndex != null ? serviceIndex.getPriority(service.getClass()) : OptionalInt.empty();
+    }
+
     @Override
     public SmallRyeConfigBuilder addDefaultSources() {
         addDefaultSources = true;
@@ -132,14 +231,42 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
 
         defaultSources.add(new EnvConfigSource());
         defaultSources.add(new SysPropConfigSource());
-        defaultSources.addAll(new PropertiesConfigSourceProvider(META_INF_MICROPROFILE_CONFIG_PROPERTIES, true, classLoader)
-                .getConfigSources(classLoader));
-        defaultSources.addAll(new PropertiesConfigSourceProvider(WEB_INF_MICROPROFILE_CONFIG_PROPERTIES, true, classLoader)
-                .getConfigSources(classLoader));
+        if (configSnapshot != null) {
+            return defaultSources;
+        }
+        if (sourceLoadingParallelism > 1) {
+            ConfigSourceLoader loader = new ConfigSourceLoader(sourceLoadingParallelism, StartupRecorder.DISABLED);
+            addPropertiesConfigSources(loader, META_INF_MICROPROFILE_CONFIG_PROPERTIES);
+            addPropertiesConfigSources(loader, WEB_INF_MICROPROFILE_CONFIG_PROPERTIES);
+            defaultSources.addAll(loader.load());
+        } else {
+            defaultSources.addAll(new PropertiesConfigSourceProvider(META_INF_MICROPROFILE_CONFIG_PROPERTIES, true, classLoader)
+                    .getConfigSources(classLoader));
+            defaultSources.addAll(new PropertiesConfigSourceProvider(WEB_INF_MICROPROFILE_CONFIG_PROPERTIES, true, classLoader)
+                    .getConfigSources(classLoader));
+        }
 
         return defaultSources;
     }
 
+    private void addPropertiesConfigSources(ConfigSourceLoader loader, String propertyFileName) {
+        try {
+            Enumeration<URL> propertyFileUrls = classLoader.getResources(propertyFileName);
+            while (propertyFileUrls.hasMoreElements()) {
+                URL propertyFileUrl = propertyFileUrls.nextElement();
+                loader.add(propertyFileUrl.toString(), () -> {
+                    try {
+                        return Collections.singletonList(new PropertiesConfigSource(propertyFileUrl));
+                    } catch (IOException e) {
+                        throw ConfigMessages.msg.failedToLoadConfig(e);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw ConfigMessages.msg.failedToLoadConfig(e);
+        }
+    }
+
     public SmallRyeConfigBuilder addDefaultInterceptors() {
         this.addDefaultInterceptors = true;
         return this;
@@ -151,8 +278,9 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         interceptors.add(new InterceptorWithPriority(new ConfigSourceInterceptorFactory() {
             @Override
             public ConfigSourceInterceptor getInterceptor(final ConfigSourceInterceptorContext context) {
-                return profile != null && !profile.isEmpty() ? new ProfileConfigSourceInterceptor(profile)
-                        : new ProfileConfigSourceInterceptor(context);
+                return new ProfileConfigSourceInterceptor(profile != null && !profile.isEmpty() ? profile
+                        : ProfileConfigSourceInterceptor.getProfile(context, ProfileConfigSourceInterceptor.SMALLRYE_PROFILE),
+                        profileIndex);
             }
 
             @Override
@@ -160,7 +288,7 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
                 return OptionalInt.of(Priorities.LIBRARY + 600);
             }
         }));
-        interceptors.add(new InterceptorWithPriority(new ExpressionConfigSourceInterceptor()));
+        interceptors.add(new InterceptorWithPriority(new ExpressionConfigSourceInterceptor(expandedValueCache)));
         interceptors.add(new InterceptorWithPriority(new SecretKeysConfigSourceInterceptor(secretKeys)));
 
         return interceptors;
@@ -239,6 +367,245 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return this;
     }
 
+    /**
+     * Caches the final resolved {@link ConfigValue} of each configuration name looked up in {@link SmallRyeConfig},
+     * including names that are not found. The cache is discarded when a {@link ConfigSource} is added to the
+     * {@link SmallRyeConfig} or when an {@link ObservableConfigSource} reports a change.
+     * <p>
+     *
+     * Lookups with unlocked secret keys or with expansion disabled always go through the interceptor chain. Interceptors
+     * are only called on the first lookup of each name, so interceptors with side effects (like logging) may not be
+     * called for subsequent lookups.
+     *
+     * @param valueCache {@code true} to enable the cache.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withValueCache(boolean valueCache) {
+        this.valueCache = valueCache;
+        return this;
+    }
+
+    /**
+     * Caches the last converted value of each configuration name looked up with {@link SmallRyeConfig#getValue} or
+     * {@link SmallRyeConfig#getOptionalValue}. A cached value is only used if the lookup requests the same
+     * {@link Converter} instance and the raw value did not change since the conversion, so the raw value is always
+     * resolved. Only immutable values, like Strings, boxed primitives, enums and their {@link Optional} variants, are
+     * cached. {@link Converter} implementations are expected to always return equal values for equal inputs. Optional
+     * lookups share the cached value of their {@link Converter}.
+     *
+     * @param convertedValueCache {@code true} to enable the cache.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withConvertedValueCache(boolean convertedValueCache) {
+        this.convertedValueCache = convertedValueCache;
+        return this;
+    }
+
+    /**
+     * Compiles the interceptor chain of {@link SmallRyeConfig}. Each sequence of {@link ConfigSource} in the chain is
+     * replaced by a generated class that looks up every {@link ConfigSource} in the sequence with its own call site,
+     * so the lookup cost does not depend on the chain length. If classes cannot be generated at runtime, the chain
+     * still looks up the {@link ConfigSource} sequences without generating classes.
+     *
+     * @param compiledInterceptorChain {@code true} to compile the interceptor chain.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withCompiledInterceptorChain(boolean compiledInterceptorChain) {
+        this.compiledInterceptorChain = compiledInterceptorChain;
+        return this;
+    }
+
+    /**
+     * Freezes the configuration values when the {@link SmallRyeConfig} is built. Every configuration name listed by
+     * {@link SmallRyeConfig#getPropertyNames()} is resolved once through the interceptor chain, with expressions
+     * expanded and profiles applied, and the resolved values are kept in an immutable table. Lookups of these names
+     * are served from the table, and any other name is resolved by the interceptor chain.
+     * <p>
+     *
+     * Use only when the {@link ConfigSource} values and the interceptors results do not change after the
+     * {@link SmallRyeConfig} is built. The table is rebuilt when a {@link ConfigSource} is added to the
+     * {@link SmallRyeConfig} or when an {@link ObservableConfigSource} reports a change. Lookups with unlocked secret
+     * keys or with expansion disabled always go through the interceptor chain, and interceptors with side effects (like
+     * logging) are not called for names in the table.
+     *
+     * @param frozen {@code true} to freeze the configuration values.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withFrozen(boolean frozen) {
+        this.frozen = frozen;
+        return this;
+    }
+
+    /**
+     * Keeps the names returned by {@link SmallRyeConfig#getPropertyNames()} in an immutable index, instead of
+     * collecting the names from every {@link ConfigSource} in each call. The index is discarded when a
+     * {@link ConfigSource} is added to the {@link SmallRyeConfig} or when an {@link ObservableConfigSource} reports a
+     * change.
+     * <p>
+     *
+     * Use only when the names of the {@link ConfigSource} do not change without a notification (properties set with
+     * {@link System#setProperty(String, String)} after the {@link SmallRyeConfig} is built are not listed).
+     *
+     * @param propertyNamesIndex {@code true} to enable the index.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withPropertyNamesIndex(boolean propertyNamesIndex) {
+        this.propertyNamesIndex = propertyNamesIndex;
+        return this;
+    }
+
+    /**
+     * Keeps a compact membership filter with the names of each {@link EnumerableConfigSource}, and skips the
+     * {@link ConfigSource} for a lookup when the filter rules out the name. {@link ConfigSource}s that do not
+     * implement {@link EnumerableConfigSource} are always looked up.
+     * <p>
+     *
+     * Use only when the names of the {@link EnumerableConfigSource}s do not change without a notification (names
+     * added to the map of a {@link io.smallrye.config.common.MapBackedConfigSource} that was created without a copy
+     * of the map are not found).
+     *
+     * @param configSourceFilter {@code true} to enable the filters.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withConfigSourceFilter(boolean configSourceFilter) {
+        this.configSourceFilter = configSourceFilter;
+        return this;
+    }
+
+    /**
+     * Indexes the configuration names with a profile when the default interceptors resolve the active profiles.
+     * Each name is only looked up with the profiles that have a value for it in some {@link ConfigSource}, instead of
+     * looking up the name with every active profile, and names without a profile value go straight to the
+     * {@link ConfigSource}. The index is discarded when a {@link ConfigSource} is added to the {@link SmallRyeConfig}
+     * or when an {@link ObservableConfigSource} reports a change.
+     * <p>
+     *
+     * Use only when the names of the {@link ConfigSource} do not change without a notification (profile properties set
+     * with {@link System#setProperty(String, String)} after the {@link SmallRyeConfig} is built are not found).
+     *
+     * @param profileIndex {@code true} to enable the index.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withProfileIndex(boolean profileIndex) {
+        this.profileIndex = profileIndex;
+        return this;
+    }
+
+    /**
+     * Keeps the values expanded by the default interceptors, with the names each value depends on: the name itself and
+     * every name referenced by its expressions, directly or through other expressions. When an
+     * {@link ObservableConfigSource} reports a change, only the values depending on the changed names are discarded.
+     * All the values are discarded when a {@link ConfigSource} is added to the {@link SmallRyeConfig}. Expressions
+     * referencing themselves, directly or through other expressions, fail as soon as the cycle is found.
+     * <p>
+     *
+     * Use only when the {@link ConfigSource} values do not change without a notification. Values are only kept for
+     * lookups with locked secret keys and with expansion enabled, and interceptors below the expansion that resolve a
+     * name from a different name (like a {@link FallbackConfigSourceInterceptor}) are not followed.
+     *
+     * @param expandedValueCache {@code true} to keep the expanded values.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withExpandedValueCache(boolean expandedValueCache) {
+        this.expandedValueCache = expandedValueCache;
+        return this;
+    }
+
+    /**
+     * Records the metrics of the lookups: the lookups, hits, misses and latency of each {@link ConfigSource}, and the
+     * time spent in each {@link ConfigSourceInterceptor}, without the time spent in the rest of the chain. The metrics
+     * are retrieved with {@link SmallRyeConfig#getLookupMetrics()}. A {@link SmallRyeConfig} without metrics has no
+     * instrumentation in the lookups.
+     * <p>
+     *
+     * Lookups served by the caches of the {@link SmallRyeConfig}, like {@link #withValueCache(boolean)}, do not reach
+     * the interceptors and are not recorded.
+     *
+     * @param lookupMetrics {@code true} to record the metrics.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withLookupMetrics(boolean lookupMetrics) {
+        this.lookupMetrics = lookupMetrics;
+        return this;
+    }
+
+    /**
+     * Loads the {@link ConfigSource} of each {@code microprofile-config.properties} file and of each discovered
+     * {@link ConfigSourceProvider} in parallel, in up to {@code parallelism} threads. The {@link ConfigSource}s are
+     * added in the same order as a sequential load, and if more than one fails to load, the failures are reported
+     * together in a single exception.
+     * <p>
+     *
+     * The threads are only used during {@link #build()}, and have the context {@link ClassLoader} of the thread
+     * that calls {@link #build()}.
+     *
+     * @param parallelism the maximum number of threads, or {@code 1} to load in the thread that calls
+     *        {@link #build()}.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withSourceLoadingParallelism(int parallelism) {
+        Assert.checkMinimumParameter("parallelism", 1, parallelism);
+        this.sourceLoadingParallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Fails the {@link #build()} if a {@link ConfigSourceFactory} takes longer than the timeout to initialize its
+     * {@link ConfigSource}s. The timeout only applies to the factories that declare their names with
+     * {@link ConfigSourceFactory#getDependencies()}, which run in a separate thread even without
+     * {@link #withSourceLoadingParallelism(int)}.
+     *
+     * @param timeout the maximum duration of each {@link ConfigSourceFactory}.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withSourceFactoryTimeout(Duration timeout) {
+        this.sourceFactoryTimeout = Assert.checkNotNullParam("timeout", timeout);
+        return this;
+    }
+
+    /**
+     * Discovers the services from the {@link ServiceIndex#RESOURCE}s written at build time, when they are found in the
+     * {@link ClassLoader}, instead of reading the {@code META-INF/services} files with the
+     * {@link java.util.ServiceLoader}. The services of a type that has {@code META-INF/services} files not counted in
+     * the index are still discovered with the {@link java.util.ServiceLoader}.
+     *
+     * @param serviceIndex {@code true} to use the index when found, {@code false} to always use the
+     *        {@link java.util.ServiceLoader}.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withServiceIndex(boolean serviceIndex) {
+        this.serviceIndex = serviceIndex;
+        return this;
+    }
+
+    /**
+     * Uses a {@link ConfigSnapshot} written at build time, instead of the {@code microprofile-config.properties} files
+     * of the default sources and the {@link ConfigSource}s and {@link ConfigSourceProvider}s of the discovered
+     * sources. The environment variables, system properties and {@link ConfigSourceFactory} sources are still read
+     * when the {@link SmallRyeConfig} is built.
+     *
+     * @param configSnapshot the snapshot file, written with {@link ConfigSnapshot#main(String[])}.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withConfigSnapshot(Path configSnapshot) {
+        this.configSnapshot = Assert.checkNotNullParam("configSnapshot", configSnapshot);
+        return this;
+    }
+
+    /**
+     * Records the timeline of {@link #build()}: the wall time, allocations and number of elements of each phase of the
+     * build, and of each {@link ConfigSource} provider, {@link ConfigSourceFactory}, {@link ConfigSourceInterceptor}
+     * and {@link ConfigMapping} root of the phase. The report is retrieved with
+     * {@link SmallRyeConfig#getStartupReport()}.
+     *
+     * @param startupReport {@code true} to record the report.
+     * @return this {@link SmallRyeConfigBuilder}.
+     */
+    public SmallRyeConfigBuilder withStartupReport(boolean startupReport) {
+        this.startupReport = startupReport;
+        return this;
+    }
+
     @Override
     public SmallRyeConfigBuilder withConverters(Converter<?>[] converters) {
         for (Converter<?> converter : converters) {
@@ -263,10 +630,6 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return this;
     }
 
-    static void addConverter(Type type, Converter<?> converter, Map<Type, ConverterWithPriority> converters) {
-        addConverter(type, getPriority(converter), converter, converters);
-    }
-
     static void addConverter(Type type, int priority, Converter<?> converter,
             Map<Type, ConverterWithPriority> converters) {
         // add the converter only if it has a higher priority than another converter for the same type
@@ -326,6 +689,50 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return addDiscoveredInterceptors;
     }
 
+    boolean isValueCache() {
+        return valueCache;
+    }
+
+    boolean isConvertedValueCache() {
+        return convertedValueCache;
+    }
+
+    boolean isCompiledInterceptorChain() {
+        return compiledInterceptorChain;
+    }
+
+    boolean isFrozen() {
+        return frozen;
+    }
+
+    boolean isPropertyNamesIndex() {
+        return propertyNamesIndex;
+    }
+
+    boolean isConfigSourceFilter() {
+        return configSourceFilter;
+    }
+
+    boolean isLookupMetrics() {
+        return lookupMetrics;
+    }
+
+    boolean isStartupReport() {
+        return startupReport;
+    }
+
+    Path getConfigSnapshot() {
+        return configSnapshot;
+    }
+
+    int getSourceLoadingParallelism() {
+        return sourceLoadingParallelism;
+    }
+
+    Duration getSourceFactoryTimeout() {
+        return sourceFactoryTimeout;
+    }
+
     @Override
     public SmallRyeConfig build() {
         ConfigMappingProvider mappingProvider = mappingsBuilder.build();
@@ -333,9 +740,18 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         mappingProviderDefaultValues.forEach(defaultValues::putIfAbsent);
 
         try {
+            StartupRecorder recorder = StartupRecorder.create(startupReport);
+            StartupRecorder.Span build = recorder.begin();
             ConfigMappings configMappings = new ConfigMappings();
-            SmallRyeConfig config = new SmallRyeConfig(this, configMappings);
-            mappingProvider.mapConfiguration(config);
+            SmallRyeConfig config = new SmallRyeConfig(this, configMappings, recorder);
+            StartupRecorder.Span mapping = recorder.beginPhase();
+            int roots = mappingProvider.mapConfiguration(config, recorder);
+            mapping.end("mapping", roots);
+            int sources = 0;
+            for (ConfigSource ignored : config.getConfigSources()) {
+                sources++;
+            }
+            build.end("build", sources);
             return config;
         } catch (ConfigValidationException e) {
             throw new IllegalStateException(e);
@@ -354,6 +770,10 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         Converter<?> getConverter() {
             return converter;
         }
+
+        int getPriority() {
+            return priority;
+        }
     }
 
     static class InterceptorWithPriority {
@@ -384,6 +804,11 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
             });
         }
 
+        private InterceptorWithPriority(ConfigSourceInterceptor interceptor, int priority) {
+            this.factory = context -> interceptor;
+            this.priority = priority;
+        }
+
         private InterceptorWithPriority(ConfigSourceInterceptorFactory factory) {
             this.factory = factory;
             this.priority = factory.getPriority().orElse(ConfigSourceInterceptorFactory.DEFAULT_PRIORITY);
@@ -396,5 +821,9 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         int getPriority() {
             return priority;
         }
+
+        Optional<Set<String>> getNamePrefixes() {
+            return factory.getNamePrefixes();
+        }
     }
 }
@@ -24,6 +24,8 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
@@ -43,6 +45,11 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
     public static final SmallRyeConfigProviderResolver INSTANCE = new SmallRyeConfigProviderResolver();
 
     private final Map<ClassLoader, Config> configsForClassLoader = new ConcurrentHashMap<>();
+    /**
+     * Guards the registration of a {@link Config} for a {@link ClassLoader}. A {@link Lock} instead of a monitor,
+     * because building a {@link Config} reads resources and must not pin the carrier thread of a virtual thread.
+     */
+    private final Lock configsLock = new ReentrantLock();
 
     static final ClassLoader SYSTEM_CL;
 
@@ -80,7 +87,8 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
         final Map<ClassLoader, Config> configsForClassLoader = this.configsForClassLoader;
         Config config = configsForClassLoader.get(realClassLoader);
         if (config == null) {
-            synchronized (configsForClassLoader) {
+            configsLock.lock();
+            try {
                 config = configsForClassLoader.get(realClassLoader);
                 if (config == null) {
                     config = getFactoryFor(realClassLoader, false).getConfigFor(this, classLoader);
@@ -90,6 +98,8 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
                     }
                     configsForClassLoader.put(realClassLoader, config);
                 }
+            } finally {
+                configsLock.unlock();
             }
         }
         return config;
@@ -122,11 +132,14 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
         }
         final ClassLoader realClassLoader = getRealClassLoader(classLoader);
         final Map<ClassLoader, Config> configsForClassLoader = this.configsForClassLoader;
-        synchronized (configsForClassLoader) {
+        configsLock.lock();
+        try {
             final Config existing = configsForClassLoader.putIfAbsent(realClassLoader, config);
             if (existing != null) {
                 throw ConfigMessages.msg.configAlreadyRegistered();
             }
+        } finally {
+            configsLock.unlock();
         }
     }
 
@@ -135,8 +148,11 @@ public class SmallRyeConfigProviderResolver extends ConfigProviderResolver {
         // todo: see https://github.com/eclipse/microprofile-config/issues/136#issuecomment-535962313
         // todo: see https://github.com/eclipse/microprofile-config/issues/471
         final Map<ClassLoader, Config> configsForClassLoader = this.configsForClassLoader;
-        synchronized (configsForClassLoader) {
+        configsLock.lock();
+        try {
             configsForClassLoader.values().removeIf(v -> v == config);
+        } finally {
+            configsLock.unlock();
         }
     }
 
@@ -1,9 +1,12 @@
 package io.smallrye.config;
 
 import static io.smallrye.config.ConfigValueConfigSourceWrapper.wrap;
+import static io.smallrye.config.FilteredConfigValueConfigSource.filter;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
@@ -13,10 +16,6 @@ class SmallRyeConfigSourceInterceptor implements ConfigSourceInterceptor {
 
     private final ConfigValueConfigSource configSource;
 
-    private SmallRyeConfigSourceInterceptor(final ConfigSource configSource) {
-        this(wrap(configSource));
-    }
-
     private SmallRyeConfigSourceInterceptor(final ConfigValueConfigSource configSource) {
         this.configSource = configSource;
     }
@@ -27,12 +26,35 @@ class SmallRyeConfigSourceInterceptor implements ConfigSourceInterceptor {
         return configValue != null ? configValue : context.proceed(name);
     }
 
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name,
+            final LookupOptions options) {
+        final ConfigValue configValue = configSource.getConfigValue(name);
+        return configValue != null ? configValue : context.proceed(name, options);
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names) {
+        return getValues(context, names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> getValues(final ConfigSourceInterceptorContext context, final Set<String> names,
+            final LookupOptions options) {
+        final Map<String, ConfigValue> values = new HashMap<>(configSource.getConfigValues(names));
+        if (values.size() < names.size()) {
+            final Set<String> notFound = new HashSet<>(names);
+            notFound.removeAll(values.keySet());
+            values.putAll(context.proceed(notFound, options));
+        }
+        return values;
+    }
+
     @Override
     public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
-        final Set<String> names = new HashSet<>();
-        context.iterateNames().forEachRemaining(names::add);
+        final Set<String> names = PropertyNamesIterator.names(context.iterateNames());
         names.addAll(configSource.getPropertyNames());
-        return names.iterator();
+        return new PropertyNamesIterator(names);
     }
 
     @Override
@@ -43,7 +65,16 @@ class SmallRyeConfigSourceInterceptor implements ConfigSourceInterceptor {
         return values.iterator();
     }
 
+    ConfigValueConfigSource getConfigValueSource() {
+        return configSource;
+    }
+
     ConfigSource getSource() {
+        ConfigValueConfigSource configSource = this.configSource;
+        if (configSource instanceof FilteredConfigValueConfigSource) {
+            configSource = ((FilteredConfigValueConfigSource) configSource).unwrap();
+        }
+
         if (configSource instanceof ConfigValueConfigSourceWrapper) {
             return ((ConfigValueConfigSourceWrapper) configSource).unwrap();
         }
@@ -51,7 +82,20 @@ class SmallRyeConfigSourceInterceptor implements ConfigSourceInterceptor {
         return configSource;
     }
 
+    void configSourceChanged(final Set<String> names) {
+        if (configSource instanceof FilteredConfigValueConfigSource) {
+            ((FilteredConfigValueConfigSource) configSource).changed(names);
+        }
+    }
+
     static ConfigSourceInterceptor configSourceInterceptor(final ConfigSource configSource) {
-        return new SmallRyeConfigSourceInterceptor(configSource);
+        return configSourceInterceptor(configSource, false);
+    }
+
+    static ConfigSourceInterceptor configSourceInterceptor(final ConfigSource configSource,
+            final boolean configSourceFilter) {
+        final ConfigValueConfigSource configValueSource = wrap(configSource);
+        return new SmallRyeConfigSourceInterceptor(
+                configSourceFilter ? filter(configSource, configValueSource) : configValueSource);
     }
 }
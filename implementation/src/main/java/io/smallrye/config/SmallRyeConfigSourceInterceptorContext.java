@@ -1,23 +1,62 @@
 package io.smallrye.config;
 
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
 
 class SmallRyeConfigSourceInterceptorContext implements ConfigSourceInterceptorContext {
     private static final long serialVersionUID = 6654406739008729337L;
 
     private final ConfigSourceInterceptor interceptor;
-    private final SmallRyeConfigSourceInterceptorContext next;
+    private final ConfigSourceInterceptorContext next;
+    /**
+     * This context bound to each {@link LookupOptions}, by {@link LookupOptions#getIndex()}.
+     */
+    private transient volatile ConfigSourceInterceptorContext[] withOptions;
 
     SmallRyeConfigSourceInterceptorContext(
             final ConfigSourceInterceptor interceptor,
-            final SmallRyeConfigSourceInterceptorContext next) {
+            final ConfigSourceInterceptorContext next) {
         this.interceptor = interceptor;
         this.next = next;
     }
 
     @Override
     public ConfigValue proceed(final String name) {
-        return interceptor.getValue(next, name);
+        return interceptor.getValue(next, name, LookupOptions.current());
+    }
+
+    @Override
+    public ConfigValue proceed(final String name, final LookupOptions options) {
+        return interceptor.getValue(next, name, options);
+    }
+
+    @Override
+    public Map<String, ConfigValue> proceed(final Set<String> names) {
+        return interceptor.getValues(next, names, LookupOptions.current());
+    }
+
+    @Override
+    public Map<String, ConfigValue> proceed(final Set<String> names, final LookupOptions options) {
+        return interceptor.getValues(next, names, options);
+    }
+
+    /**
+     * Returns this context with its {@link #proceed(String)} and {@link #proceed(Set)} bound to the options, without
+     * reading the options of the current thread.
+     */
+    ConfigSourceInterceptorContext withOptions(final LookupOptions options) {
+        ConfigSourceInterceptorContext[] withOptions = this.withOptions;
+        if (withOptions == null) {
+            this.withOptions = withOptions = new ConfigSourceInterceptorContext[LookupOptions.SIZE];
+        }
+
+        // a racy write is fine, a bound context is immutable
+        ConfigSourceInterceptorContext context = withOptions[options.getIndex()];
+        if (context == null) {
+            withOptions[options.getIndex()] = context = new LookupOptionsInterceptorContext(this, options);
+        }
+        return context;
     }
 
     @Override
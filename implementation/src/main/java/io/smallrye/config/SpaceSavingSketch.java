@@ -0,0 +1,157 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.smallrye.common.constraint.Assert;
+
+/**
+ * A fixed size sketch of the most frequent keys of a stream, with the Space-Saving algorithm: a key that is not in
+ * the sketch replaces the key with the lowest count, and inherits that count as its error.
+ * <p>
+ *
+ * To be updated without locks, the table is split in buckets of {@link #WAYS} counters, and a key only competes with
+ * the keys of its bucket. Counters are installed and replaced with a compare and set, and counted with an atomic
+ * increment. Concurrent updates may lose a few counts or keep the same key twice in a bucket, which only adds to the
+ * approximation of the counts.
+ */
+final class SpaceSavingSketch implements Serializable {
+    private static final long serialVersionUID = -5014851349614457305L;
+
+    static final int WAYS = 8;
+
+    private final AtomicReferenceArray<Counter> counters;
+    private final int mask;
+
+    SpaceSavingSketch(final int capacity) {
+        Assert.checkMinimumParameter("capacity", 1, capacity);
+        final int size = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+        this.counters = new AtomicReferenceArray<>(size);
+        this.mask = (size - 1) & ~(WAYS - 1);
+    }
+
+    int capacity() {
+        return counters.length();
+    }
+
+    /**
+     * Counts an occurrence of a key.
+     *
+     * @param key the key
+     * @return the counter of the key
+     */
+    Counter offer(final String key) {
+        final int bucket = hash(key) & mask;
+        for (;;) {
+            Counter min = null;
+            int minIndex = -1;
+            int free = -1;
+            for (int i = bucket; i < bucket + WAYS; i++) {
+                final Counter counter = counters.get(i);
+                if (counter == null) {
+                    if (free == -1) {
+                        free = i;
+                    }
+                } else if (counter.key.equals(key)) {
+                    counter.increment();
+                    return counter;
+                } else if (min == null || counter.count < min.count) {
+                    min = counter;
+                    minIndex = i;
+                }
+            }
+
+            if (free != -1) {
+                final Counter counter = new Counter(key, 0);
+                if (counters.compareAndSet(free, null, counter)) {
+                    counter.increment();
+                    return counter;
+                }
+            } else {
+                final Counter counter = new Counter(key, min.count);
+                if (counters.compareAndSet(minIndex, min, counter)) {
+                    counter.increment();
+                    return counter;
+                }
+            }
+            // lost the race for the slot, look again
+        }
+    }
+
+    /**
+     * Returns the counters with the highest counts. Copies of the same key are merged.
+     *
+     * @param n the maximum number of counters
+     * @return the counters, ordered by count
+     */
+    List<Counter> top(final int n) {
+        final Map<String, Counter> merged = new HashMap<>();
+        for (int i = 0; i < counters.length(); i++) {
+            final Counter counter = counters.get(i);
+            if (counter != null) {
+                merged.merge(counter.key, counter.copy(), Counter::merge);
+            }
+        }
+        final List<Counter> top = new ArrayList<>(merged.values());
+        top.sort((o1, o2) -> Long.compare(o2.count, o1.count));
+        return top.size() > n ? new ArrayList<>(top.subList(0, n)) : top;
+    }
+
+    private static int hash(final String key) {
+        final int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static final class Counter implements Serializable {
+        private static final long serialVersionUID = 2298207213843386092L;
+
+        private static final AtomicLongFieldUpdater<Counter> COUNT = AtomicLongFieldUpdater.newUpdater(Counter.class,
+                "count");
+
+        final String key;
+        final long error;
+        volatile long count;
+        volatile String source;
+        volatile String caller;
+
+        Counter(final String key, final long error) {
+            this.key = key;
+            this.error = error;
+            this.count = error;
+        }
+
+        long increment() {
+            return COUNT.incrementAndGet(this);
+        }
+
+        /**
+         * The number of occurrences counted since the key entered the sketch, which is a lower bound of the real count.
+         *
+         * @return the guaranteed count
+         */
+        long guaranteed() {
+            return count - error;
+        }
+
+        Counter copy() {
+            final Counter copy = new Counter(key, error);
+            copy.count = count;
+            copy.source = source;
+            copy.caller = caller;
+            return copy;
+        }
+
+        static Counter merge(final Counter first, final Counter second) {
+            final Counter merged = new Counter(first.key, first.error + second.error);
+            merged.count = first.count + second.count;
+            merged.source = first.source != null ? first.source : second.source;
+            merged.caller = first.caller != null ? first.caller : second.caller;
+            return merged;
+        }
+    }
+}
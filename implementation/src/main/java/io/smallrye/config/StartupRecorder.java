@@ -0,0 +1,182 @@
+package io.smallrye.config;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Records the {@link StartupReport} of a {@link SmallRyeConfigBuilder#build()}. The build runs in a single thread, so
+ * the recorder keeps the open steps in a stack, and each step is added to the step that was open when it began.
+ * <p>
+ *
+ * The {@link #DISABLED} recorder does not record anything, but its phases still emit the {@link ConfigEvents} of
+ * the build.
+ */
+final class StartupRecorder {
+    static final StartupRecorder DISABLED = new StartupRecorder(false);
+
+    private static final Span NOOP = new Span(null, null, 0, 0);
+
+    private final boolean enabled;
+    private final com.sun.management.ThreadMXBean threads;
+    private final Deque<Span> spans = new ArrayDeque<>();
+    private volatile StartupReport report;
+
+    private StartupRecorder(final boolean enabled) {
+        this.enabled = enabled;
+        this.threads = enabled ? threads() : null;
+    }
+
+    static StartupRecorder create(final boolean enabled) {
+        return enabled ? new StartupRecorder(true) : DISABLED;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Begins a phase of the build. Phases are also emitted as {@link ConfigEvents}.
+     *
+     * @return the phase, to end with {@link Span#end(String, int)}
+     */
+    Span beginPhase() {
+        final Object event = ConfigEvents.beginPhase();
+        if (!enabled) {
+            return event != null ? new Span(null, event, 0, 0) : NOOP;
+        }
+        return push(event);
+    }
+
+    /**
+     * Begins a step of the current phase.
+     *
+     * @return the step, to end with {@link Span#end(String, int)}
+     */
+    Span begin() {
+        return enabled ? push(null) : NOOP;
+    }
+
+    /**
+     * Returns the report, after the outermost step has ended.
+     *
+     * @return the report, or {@code null} if the recorder is disabled.
+     */
+    StartupReport getReport() {
+        return report;
+    }
+
+    private Span push(final Object event) {
+        final Span span = new Span(this, event, System.nanoTime(), allocatedBytes());
+        spans.push(span);
+        return span;
+    }
+
+    private void pop(final Span span, final StartupReport.Step step) {
+        // a step left open by a failure is ended with the enclosing step
+        Span top;
+        do {
+            top = spans.poll();
+        } while (top != null && top != span);
+        if (step == null) {
+            return;
+        }
+        final Span parent = spans.peek();
+        if (parent != null) {
+            parent.steps.add(step);
+        } else {
+            report = new StartupReport(step);
+        }
+    }
+
+    /**
+     * Creates a step that ran in another thread, to add to the current step with {@link #add(StartupReport.Step)}.
+     * Must be called in the thread that ran the step.
+     *
+     * @param name the name of the step
+     * @param start the {@link System#nanoTime()} when the step began
+     * @param startBytes the {@link #allocatedBytes()} of the thread when the step began
+     * @param count the number of elements produced by the step
+     * @return the step, or {@code null} if the recorder is disabled
+     */
+    StartupReport.Step step(final String name, final long start, final long startBytes, final int count) {
+        if (!enabled) {
+            return null;
+        }
+        final long bytes = startBytes >= 0 ? allocatedBytes() - startBytes : -1;
+        return new StartupReport.Step(name, System.nanoTime() - start, bytes, count, new ArrayList<>());
+    }
+
+    void add(final StartupReport.Step step) {
+        final Span parent = spans.peek();
+        if (step != null && parent != null) {
+            parent.steps.add(step);
+        }
+    }
+
+    /**
+     * The bytes allocated by the current thread.
+     *
+     * @return the allocated bytes, or {@code -1} if the allocations are not measured.
+     */
+    long allocatedBytes() {
+        return threads != null ? threads.getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        try {
+            final java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                final com.sun.management.ThreadMXBean sunThreads = (com.sun.management.ThreadMXBean) threads;
+                if (sunThreads.isThreadAllocatedMemorySupported() && sunThreads.isThreadAllocatedMemoryEnabled()) {
+                    return sunThreads;
+                }
+            }
+        } catch (LinkageError | RuntimeException e) {
+            // allocations are not measured
+        }
+        return null;
+    }
+
+    static final class Span {
+        private final StartupRecorder recorder;
+        private final Object event;
+        private final long start;
+        private final long startBytes;
+        private final List<StartupReport.Step> steps = new ArrayList<>();
+
+        Span(final StartupRecorder recorder, final Object event, final long start, final long startBytes) {
+            this.recorder = recorder;
+            this.event = event;
+            this.start = start;
+            this.startBytes = startBytes;
+        }
+
+        /**
+         * Ends the step.
+         *
+         * @param name the name of the step
+         * @param count the number of elements produced by the step
+         */
+        void end(final String name, final int count) {
+            ConfigEvents.endPhase(event, name);
+            if (recorder == null) {
+                return;
+            }
+            final long wallTime = System.nanoTime() - start;
+            final long bytes = startBytes >= 0 ? recorder.allocatedBytes() - startBytes : -1;
+            recorder.pop(this, new StartupReport.Step(name, wallTime, bytes, count, steps));
+        }
+
+        /**
+         * Ends the step without recording it, when the step turns out to be of no interest.
+         */
+        void discard() {
+            if (recorder != null) {
+                recorder.pop(this, null);
+            }
+        }
+    }
+}
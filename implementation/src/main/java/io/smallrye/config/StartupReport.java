@@ -0,0 +1,125 @@
+package io.smallrye.config;
+
+import java.util.Collections;
+import java.util.List;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * The timeline of {@link SmallRyeConfigBuilder#build()}, recorded when enabled with
+ * {@link SmallRyeConfigBuilder#withStartupReport(boolean)} and retrieved with {@link SmallRyeConfig#getStartupReport()}.
+ * <p>
+ *
+ * The build is split in phases, like the discovery of the {@code ConfigSources} or the mapping of the
+ * {@link ConfigMapping} roots, and each phase lists the steps for each {@code ConfigSourceFactory},
+ * {@link ConfigSourceInterceptor} or mapping it runs. Each step records the wall time, the bytes allocated by the
+ * building thread and the number of elements produced, like the number of sources discovered.
+ */
+@Experimental("Report of the build of a SmallRyeConfig")
+public final class StartupReport {
+    private final Step build;
+
+    StartupReport(final Step build) {
+        this.build = build;
+    }
+
+    public long getWallTimeNanos() {
+        return build.getWallTimeNanos();
+    }
+
+    /**
+     * The bytes allocated by the thread that called {@link SmallRyeConfigBuilder#build()}.
+     *
+     * @return the allocated bytes, or {@code -1} if the JVM does not measure the allocations of a thread.
+     */
+    public long getAllocatedBytes() {
+        return build.getAllocatedBytes();
+    }
+
+    /**
+     * The phases of the build, in the order they ran.
+     *
+     * @return the phases.
+     */
+    public List<Step> getPhases() {
+        return build.getSteps();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        build.append(sb, 0);
+        return sb.toString();
+    }
+
+    /**
+     * A phase of the build, or a step of a phase.
+     */
+    public static final class Step {
+        private final String name;
+        private final long wallTimeNanos;
+        private final long allocatedBytes;
+        private final int count;
+        private final List<Step> steps;
+
+        Step(final String name, final long wallTimeNanos, final long allocatedBytes, final int count,
+                final List<Step> steps) {
+            this.name = name;
+            this.wallTimeNanos = wallTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.count = count;
+            this.steps = Collections.unmodifiableList(steps);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getWallTimeNanos() {
+            return wallTimeNanos;
+        }
+
+        /**
+         * The bytes allocated by the building thread during the step, including the bytes of its own steps.
+         *
+         * @return the allocated bytes, or {@code -1} if the JVM does not measure the allocations of a thread.
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * The number of elements produced by the step, like the number of {@code ConfigSources} discovered or returned
+         * by a {@code ConfigSourceFactory}.
+         *
+         * @return the number of elements.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        public List<Step> getSteps() {
+            return steps;
+        }
+
+        void append(final StringBuilder sb, final int depth) {
+            for (int i = 0; i < depth; i++) {
+                sb.append("  ");
+            }
+            sb.append(name).append(": ").append(wallTimeNanos / 1000).append("us");
+            if (allocatedBytes >= 0) {
+                sb.append(", ").append(allocatedBytes).append(" bytes");
+            }
+            sb.append(", count=").append(count).append('\n');
+            for (Step step : steps) {
+                step.append(sb, depth + 1);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Step{name=" + name + ", wallTimeNanos=" + wallTimeNanos + ", allocatedBytes=" + allocatedBytes
+                    + ", count=" + count + ", steps=" + steps.size() + "}";
+        }
+    }
+}
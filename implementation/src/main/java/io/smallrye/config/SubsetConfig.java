@@ -0,0 +1,148 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * A view of a {@link SmallRyeConfig} under a prefix. Configuration names are relative to the prefix, so looking up
+ * {@code url} in the subset {@code datasource} returns the value of {@code datasource.url}.
+ */
+@Experimental("Configuration names and subsets by prefix")
+public final class SubsetConfig implements Config, Serializable {
+    private static final long serialVersionUID = -2263367950813539658L;
+
+    private final SmallRyeConfig config;
+    private final String prefix;
+    /**
+     * The prefix followed by the separator, prepended to each relative name.
+     */
+    private final transient String namePrefix;
+    /**
+     * The full names of the last looked up relative names, indexed by the hash of the relative name. A slot only
+     * keeps one name, so the cache is bounded by {@link #NAMES_SIZE} no matter how many names are looked up.
+     */
+    private final transient Name[] names = new Name[NAMES_SIZE];
+
+    private static final int NAMES_SIZE = 64;
+
+    SubsetConfig(final SmallRyeConfig config, final String prefix) {
+        this.config = config;
+        this.prefix = prefix;
+        this.namePrefix = prefix + ".";
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public <T> T getValue(final String propertyName, final Class<T> propertyType) {
+        return config.getValue(getName(propertyName), propertyType);
+    }
+
+    public <T> T getValue(final String propertyName, final Converter<T> converter) {
+        return config.getValue(getName(propertyName), converter);
+    }
+
+    @Override
+    public <T> Optional<T> getOptionalValue(final String propertyName, final Class<T> propertyType) {
+        return config.getOptionalValue(getName(propertyName), propertyType);
+    }
+
+    public <T> Optional<T> getOptionalValue(final String propertyName, final Converter<T> converter) {
+        return config.getOptionalValue(getName(propertyName), converter);
+    }
+
+    public ConfigValue getConfigValue(final String propertyName) {
+        return config.getConfigValue(getName(propertyName));
+    }
+
+    public String getRawValue(final String propertyName) {
+        return config.getRawValue(getName(propertyName));
+    }
+
+    /**
+     * Returns the configuration names under the prefix, relative to the prefix. The prefix itself is not included.
+     *
+     * @return the relative configuration names.
+     */
+    @Override
+    public Iterable<String> getPropertyNames() {
+        final Set<String> names = new HashSet<>();
+        for (String name : config.getPropertyNames(prefix)) {
+            if (prefix.isEmpty()) {
+                names.add(name);
+            } else if (name.length() > prefix.length() && name.startsWith(prefix)
+                    && name.charAt(prefix.length()) == '.') {
+                names.add(name.substring(prefix.length() + 1));
+            } else if (!name.equals(prefix)) {
+                // the prefix segments are quoted in a different way in the name
+                final NameIterator ni = new NameIterator(name);
+                final NameIterator prefixIterator = new NameIterator(prefix);
+                while (prefixIterator.hasNext()) {
+                    ni.next();
+                    prefixIterator.next();
+                }
+                if (ni.hasNext()) {
+                    names.add(name.substring(ni.getPosition() + 1));
+                }
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public Iterable<ConfigSource> getConfigSources() {
+        return config.getConfigSources();
+    }
+
+    /**
+     * Returns a view of the configuration under a prefix relative to this subset.
+     *
+     * @param prefix the relative prefix.
+     * @return a {@link SubsetConfig} for the prefix.
+     */
+    public SubsetConfig subset(final String prefix) {
+        return new SubsetConfig(config, getName(prefix));
+    }
+
+    private String getName(final String propertyName) {
+        if (prefix.isEmpty()) {
+            return propertyName;
+        }
+
+        if (propertyName.isEmpty()) {
+            return prefix;
+        }
+
+        // a racy read is fine, a Name is immutable and a miss only builds the full name again
+        final int index = propertyName.hashCode() & (NAMES_SIZE - 1);
+        Name name = names[index];
+        if (name == null || !name.relative.equals(propertyName)) {
+            names[index] = name = new Name(propertyName, namePrefix.concat(propertyName));
+        }
+        return name.full;
+    }
+
+    private static final class Name {
+        private final String relative;
+        private final String full;
+
+        Name(final String relative, final String full) {
+            this.relative = relative;
+            this.full = full;
+        }
+    }
+
+    Object readResolve() {
+        return new SubsetConfig(config, prefix);
+    }
+}
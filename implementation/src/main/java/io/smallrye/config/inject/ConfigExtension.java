@@ -22,7 +22,10 @@ import static java.util.stream.Collectors.toSet;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
@@ -53,6 +56,7 @@ import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.ConfigMappings;
 import io.smallrye.config.ConfigValidationException;
 import io.smallrye.config.ConfigValue;
+import io.smallrye.config.LookupOptions;
 import io.smallrye.config.SmallRyeConfig;
 
 /**
@@ -122,6 +126,8 @@ public class ConfigExtension implements Extension {
     protected void validate(@Observes AfterDeploymentValidation adv) {
         Config config = ConfigProvider.getConfig(getContextClassLoader());
         Set<String> configNames = StreamSupport.stream(config.getPropertyNames().spliterator(), false).collect(toSet());
+
+        List<InjectionPoint> injectionPoints = new ArrayList<>();
         for (InjectionPoint injectionPoint : getConfigPropertyInjectionPoints()) {
             Type type = injectionPoint.getType();
 
@@ -137,11 +143,28 @@ public class ConfigExtension implements Extension {
                 continue;
             }
 
+            injectionPoints.add(injectionPoint);
+        }
+
+        // Names that are not part of the properties are looked up together, instead of once for each injection point.
+        Set<String> lookupNames = new HashSet<>();
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            String name = ConfigProducerUtil.getConfigKey(injectionPoint,
+                    injectionPoint.getAnnotated().getAnnotation(ConfigProperty.class));
+            if (!configNames.contains(name)) {
+                lookupNames.add(name);
+            }
+        }
+        Map<String, ConfigValue> lookupValues = ((SmallRyeConfig) config).getConfigValues(lookupNames,
+                LookupOptions.current().withSecretKeysLocked(false));
+
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            Type type = injectionPoint.getType();
             ConfigProperty configProperty = injectionPoint.getAnnotated().getAnnotation(ConfigProperty.class);
             String name = ConfigProducerUtil.getConfigKey(injectionPoint, configProperty);
 
             // Check if the name is part of the properties first. Since properties can be a subset, then search for the actual property for a value.
-            if (!configNames.contains(name) && ConfigProducerUtil.getRawValue(name, (SmallRyeConfig) config) == null) {
+            if (!configNames.contains(name) && lookupValues.get(name).getValue() == null) {
                 if (configProperty.defaultValue().equals(ConfigProperty.UNCONFIGURED_VALUE)) {
                     adv.addDeploymentProblem(InjectionMessages.msg.noConfigValue(name));
                     continue;
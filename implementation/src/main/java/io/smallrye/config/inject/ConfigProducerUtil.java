@@ -22,7 +22,7 @@ import org.eclipse.microprofile.config.spi.Converter;
 
 import io.smallrye.config.ConfigValue;
 import io.smallrye.config.Converters;
-import io.smallrye.config.SecretKeys;
+import io.smallrye.config.LookupOptions;
 import io.smallrye.config.SmallRyeConfig;
 
 /**
@@ -79,7 +79,7 @@ public final class ConfigProducerUtil {
     }
 
     public static String getRawValue(String name, SmallRyeConfig config) {
-        return SecretKeys.doUnlocked(() -> config.getRawValue(name));
+        return config.getConfigValue(name, LookupOptions.current().withSecretKeysLocked(false)).getValue();
     }
 
     public static <T> Converter<T> resolveConverter(final InjectionPoint injectionPoint, final SmallRyeConfig src) {
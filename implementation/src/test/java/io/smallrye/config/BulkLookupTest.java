@@ -0,0 +1,164 @@
+package io.smallrye.config;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+class BulkLookupTest {
+    @Test
+    void bulk() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("one", "1", "two", "2"))
+                .build();
+
+        final Map<String, ConfigValue> values = config.getConfigValues(asList("two", "missing", "one"));
+        assertEquals(asList("two", "missing", "one"), new ArrayList<>(values.keySet()));
+        assertEquals("1", values.get("one").getValue());
+        assertEquals("2", values.get("two").getValue());
+        assertEquals("missing", values.get("missing").getName());
+        assertNull(values.get("missing").getValue());
+    }
+
+    @Test
+    void singleBatch() {
+        final BatchConfigSource source = new BatchConfigSource("one", "1", "two", "2", "three", "3");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).build();
+
+        final Map<String, ConfigValue> values = config.getConfigValues(asList("one", "two", "three", "missing"));
+        assertEquals("1", values.get("one").getValue());
+        assertEquals("2", values.get("two").getValue());
+        assertEquals("3", values.get("three").getValue());
+        assertNull(values.get("missing").getValue());
+        assertEquals(1, source.batches.size());
+        assertEquals(4, source.batches.get(0).size());
+    }
+
+    @Test
+    void sameAsSingleLookups() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prof")
+                .withSources(source(100, "my.prop", "main", "%prof.my.prop", "profile",
+                        "other.prop", "other", "expression", "${my.prop}-${other.prop}"))
+                .withSources(source(200, "other.prop", "higher"))
+                .withInterceptors(new RelocateConfigSourceInterceptor(name -> name.replace("old", "my")),
+                        new FallbackConfigSourceInterceptor(name -> name.replace("fallback", "other")))
+                .build();
+
+        final List<String> names = asList("my.prop", "other.prop", "expression", "old.prop", "fallback.prop", "missing");
+        final Map<String, ConfigValue> values = config.getConfigValues(names);
+        for (String name : names) {
+            assertEquals(config.getRawValue(name), values.get(name).getValue(), name);
+        }
+        assertEquals("profile", values.get("my.prop").getValue());
+        assertEquals("profile-higher", values.get("expression").getValue());
+        assertEquals("higher", values.get("fallback.prop").getValue());
+    }
+
+    @Test
+    void profileLowerOrdinal() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prof")
+                .withSources(source(100, "%prof.my.prop", "profile"))
+                .withSources(source(200, "my.prop", "main"))
+                .build();
+
+        assertEquals("main", config.getConfigValues(asList("my.prop")).get("my.prop").getValue());
+    }
+
+    @Test
+    void secrets() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(KeyValuesConfigSource.config("secret", "12345678", "not.secret", "value"))
+                .withSecretKeys("secret")
+                .build();
+
+        assertThrows(SecurityException.class, () -> config.getConfigValues(asList("not.secret", "secret")));
+        final Map<String, ConfigValue> values = SecretKeys
+                .doUnlocked(() -> config.getConfigValues(asList("not.secret", "secret")));
+        assertEquals("12345678", values.get("secret").getValue());
+        assertEquals("value", values.get("not.secret").getValue());
+    }
+
+    @Test
+    void cache() {
+        final BatchConfigSource source = new BatchConfigSource("one", "1", "two", "2");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withValueCache(true).build();
+
+        assertEquals("1", config.getRawValue("one"));
+        final Map<String, ConfigValue> values = config.getConfigValues(asList("one", "two"));
+        assertEquals("1", values.get("one").getValue());
+        assertEquals("2", values.get("two").getValue());
+        assertEquals(1, source.batches.size());
+        assertEquals(1, source.batches.get(0).size());
+
+        config.getConfigValues(asList("one", "two"));
+        assertEquals(1, source.batches.size());
+    }
+
+    @Test
+    void compiledInterceptorChain() {
+        final BatchConfigSource source = new BatchConfigSource("one", "1");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withSources(source(200, "two", "2"))
+                .withCompiledInterceptorChain(true)
+                .build();
+
+        final Map<String, ConfigValue> values = config.getConfigValues(asList("one", "two"));
+        assertEquals("1", values.get("one").getValue());
+        assertEquals("2", values.get("two").getValue());
+        assertEquals(1, source.batches.size());
+        assertEquals(1, source.batches.get(0).size());
+    }
+
+    private static ConfigSource source(final int ordinal, final String... keyValues) {
+        final Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.put(keyValues[i], keyValues[i + 1]);
+        }
+        return new PropertiesConfigSource(properties, "source-" + ordinal, ordinal);
+    }
+
+    private static class BatchConfigSource extends MapBackedConfigValueConfigSource {
+        private static final long serialVersionUID = -4150386434066573542L;
+
+        final List<Set<String>> batches = new ArrayList<>();
+
+        BatchConfigSource(final String... keyValues) {
+            super("BatchConfigSource", configValues(keyValues));
+        }
+
+        @Override
+        public Map<String, ConfigValue> getConfigValues(final Set<String> propertyNames) {
+            batches.add(new HashSet<>(propertyNames));
+            return super.getConfigValues(propertyNames);
+        }
+
+        private static Map<String, ConfigValue> configValues(final String... keyValues) {
+            final Map<String, ConfigValue> configValues = new HashMap<>();
+            for (int i = 0; i < keyValues.length; i += 2) {
+                configValues.put(keyValues[i], ConfigValue.builder()
+                        .withName(keyValues[i])
+                        .withValue(keyValues[i + 1])
+                        .withConfigSourceName("BatchConfigSource")
+                        .withConfigSourceOrdinal(ConfigSource.DEFAULT_ORDINAL)
+                        .build());
+            }
+            return configValues;
+        }
+    }
+}
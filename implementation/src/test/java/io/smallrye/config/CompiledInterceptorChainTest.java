@@ -0,0 +1,169 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.ProfileConfigSourceInterceptor.SMALLRYE_PROFILE;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+class CompiledInterceptorChainTest {
+    @Test
+    void lookup() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source(100, "my.prop", "100", "my.low", "low"))
+                .withSources(source(200, "my.prop", "200", "my.expression", "${my.low}"))
+                .withSources(source(300, "%prof.my.prop", "prof", SMALLRYE_PROFILE, "prof"))
+                .withCompiledInterceptorChain(true)
+                .build();
+
+        assertEquals("prof", config.getRawValue("my.prop"));
+        assertEquals("low", config.getRawValue("my.low"));
+        assertEquals("low", config.getRawValue("my.expression"));
+        assertNull(config.getRawValue("my.missing"));
+        assertEquals(300, config.getConfigValue("my.prop").getConfigSourceOrdinal());
+    }
+
+    @Test
+    void generated() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new StackTraceConfigSource())
+                .withCompiledInterceptorChain(true)
+                .build();
+
+        final String stackTrace = config.getRawValue("stack.trace");
+        assertTrue(stackTrace.contains(ConfigSourcesInterceptorContext.class.getName() + "$$"), stackTrace);
+    }
+
+    @Test
+    void manySources() {
+        final int size = ConfigSourcesInterceptorContextCompiler.MAX_SOURCES * 2 + 10;
+        final List<ConfigSource> sources = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            sources.add(source(i + 1, "my.prop", "" + (i + 1), "my.prop." + i, "" + i));
+        }
+
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(sources)
+                .withCompiledInterceptorChain(true)
+                .build();
+
+        assertEquals("" + size, config.getRawValue("my.prop"));
+        for (int i = 0; i < size; i++) {
+            assertEquals("" + i, config.getRawValue("my.prop." + i));
+        }
+        final Set<String> names = StreamSupport.stream(config.getPropertyNames().spliterator(), false).collect(toSet());
+        assertEquals(size + 1, names.stream().filter(name -> name.startsWith("my.prop")).count());
+    }
+
+    @Test
+    void interceptorBetweenSources() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source(100, "my.prop", "100"))
+                .withSources(source(200, "my.prop", "200", "my.other.prop", "200"))
+                .withInterceptorFactories(new ConfigSourceInterceptorFactory() {
+                    @Override
+                    public ConfigSourceInterceptor getInterceptor(final ConfigSourceInterceptorContext context) {
+                        return (ConfigSourceInterceptor) (interceptorContext, name) -> name.equals("my.prop")
+                                ? interceptorContext.proceed("my.other.prop")
+                                : interceptorContext.proceed(name);
+                    }
+
+                    @Override
+                    public OptionalInt getPriority() {
+                        return OptionalInt.of(150);
+                    }
+                })
+                .withCompiledInterceptorChain(true)
+                .build();
+
+        assertEquals("200", config.getRawValue("my.prop"));
+        assertEquals("200", config.getRawValue("my.other.prop"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void addConfigSource() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source(100, "my.prop", "100"))
+                .withCompiledInterceptorChain(true)
+                .build();
+
+        config.addConfigSource(source(200, "my.prop", "200"));
+        assertEquals("200", config.getRawValue("my.prop"));
+    }
+
+    @Test
+    void serialize() throws Exception {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source(100, "my.prop", "100"))
+                .withCompiledInterceptorChain(true)
+                .build();
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(config);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final SmallRyeConfig serialized = (SmallRyeConfig) in.readObject();
+            assertEquals("100", serialized.getRawValue("my.prop"));
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static ConfigSource source(final int ordinal, final String... keyValues) {
+        final Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.put(keyValues[i], keyValues[i + 1]);
+        }
+        return new PropertiesConfigSource(properties, "source-" + ordinal, ordinal);
+    }
+
+    static class StackTraceConfigSource implements ConfigSource {
+        @Override
+        public Set<String> getPropertyNames() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public String getValue(final String propertyName) {
+            if (!"stack.trace".equals(propertyName)) {
+                return null;
+            }
+            final StringBuilder stackTrace = new StringBuilder();
+            for (StackTraceElement element : new Throwable().getStackTrace()) {
+                stackTrace.append(element.getClassName()).append('\n');
+            }
+            return stackTrace.toString();
+        }
+
+        @Override
+        public String getName() {
+            return "StackTraceConfigSource";
+        }
+    }
+}
@@ -2,11 +2,22 @@ package io.smallrye.config;
 
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.StreamSupport;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
@@ -121,4 +132,88 @@ public class ConfigConfigSourceTest {
         assertEquals("1234", config.getRawValue("smallrye.another"));
         assertEquals("1", config.getRawValue("mp.prop"));
     }
+
+    @Test
+    void concurrentFactories() {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("first.url", "first", "second.url", "second"))
+                .withSources(new DependentFactory("first.url", latch, threads))
+                .withSources(new DependentFactory("second.url", latch, threads))
+                .withSourceLoadingParallelism(2)
+                .build();
+
+        assertEquals("first", config.getRawValue("first.url.source"));
+        assertEquals("second", config.getRawValue("second.url.source"));
+        assertEquals(2, threads.size());
+        assertFalse(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    void factoryTimeout() {
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> new SmallRyeConfigBuilder()
+                        .withSources(KeyValuesConfigSource.config("first.url", "first"))
+                        .withSources(new DependentFactory("first.url", new CountDownLatch(2), ConcurrentHashMap.newKeySet()))
+                        .withSourceFactoryTimeout(Duration.ofMillis(50))
+                        .build());
+        assertTrue(exception.getMessage().contains(DependentFactory.class.getName()));
+    }
+
+    @Test
+    void interceptorsInitializedOnce() {
+        final AtomicInteger initializations = new AtomicInteger();
+        final ConfigSourceInterceptorFactory interceptorFactory = new ConfigSourceInterceptorFactory() {
+            @Override
+            public ConfigSourceInterceptor getInterceptor(final ConfigSourceInterceptorContext context) {
+                initializations.incrementAndGet();
+                return ConfigSourceInterceptorContext::proceed;
+            }
+        };
+
+        new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234"))
+                .withInterceptorFactories(interceptorFactory)
+                .build();
+        assertEquals(1, initializations.get());
+
+        initializations.set(0);
+        new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234"))
+                .withSources((ConfigSourceFactory) context -> KeyValuesConfigSource.config("other.prop", "5678"))
+                .withInterceptorFactories(interceptorFactory)
+                .build();
+        assertEquals(2, initializations.get());
+    }
+
+    private static class DependentFactory implements ConfigSourceFactory {
+        private final String name;
+        private final CountDownLatch latch;
+        private final Set<String> threads;
+
+        DependentFactory(final String name, final CountDownLatch latch, final Set<String> threads) {
+            this.name = name;
+            this.latch = latch;
+            this.threads = threads;
+        }
+
+        @Override
+        public ConfigSource getConfigSource(final ConfigSourceContext context) {
+            threads.add(Thread.currentThread().getName());
+            // both factories must run at the same time to complete
+            latch.countDown();
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return KeyValuesConfigSource.config(name + ".source", context.getValue(name).getValue());
+        }
+
+        @Override
+        public Optional<Set<String>> getDependencies() {
+            return Optional.of(Collections.singleton(name));
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class ConfigEventsTest {
+    @Test
+    void disabled() {
+        assertEquals(null, ConfigEvents.beginPhase());
+        assertEquals(null, ConfigEvents.beginMapping());
+        assertEquals(null, ConfigEvents.beginLookup());
+        assertEquals(null, ConfigEvents.beginExpansion());
+    }
+
+    @Test
+    void events() throws Exception {
+        assumeTrue(FlightRecorder.isAvailable());
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("io.smallrye.config.BuildPhase");
+            recording.enable("io.smallrye.config.Mapping");
+            recording.enable("io.smallrye.config.Lookup").withThreshold(Duration.ZERO);
+            recording.enable("io.smallrye.config.Expansion");
+            recording.start();
+
+            SmallRyeConfig config = new SmallRyeConfigBuilder()
+                    .addDefaultInterceptors()
+                    .withSources(config("server.host", "localhost", "my.prop", "${secret}", "secret", "12345678"))
+                    .withSources((ConfigSourceFactory) context -> new PropertiesConfigSource(
+                            singletonMap("factory.prop", "1234"), "factory", 100))
+                    .withMapping(Server.class, "server")
+                    .build();
+            assertEquals("12345678", config.getRawValue("my.prop"));
+            assertFalse(config.getOptionalValue("not.found", String.class).isPresent());
+
+            recording.stop();
+            events = read(recording);
+        }
+
+        List<String> phases = events.stream()
+                .filter(event -> event.getEventType().getName().equals("io.smallrye.config.BuildPhase"))
+                .map(event -> event.getString("phase"))
+                .collect(Collectors.toList());
+        assertTrue(phases.contains("sources"));
+        assertTrue(phases.contains("configurable-sources"));
+        assertTrue(phases.contains("interceptor-chain"));
+        assertTrue(phases.contains("mapping"));
+
+        RecordedEvent mapping = events.stream()
+                .filter(event -> event.getEventType().getName().equals("io.smallrye.config.Mapping"))
+                .findFirst()
+                .get();
+        assertEquals("server", mapping.getString("prefix"));
+        assertEquals(Server.class.getName(), mapping.getClass("type").getName());
+
+        RecordedEvent lookup = events.stream()
+                .filter(event -> event.getEventType().getName().equals("io.smallrye.config.Lookup"))
+                .filter(event -> "my.prop".equals(event.getString("name")))
+                .findFirst()
+                .get();
+        assertTrue(lookup.getBoolean("found"));
+        assertEquals("KeyValuesConfigSource", lookup.getString("source"));
+        assertTrue(events.stream()
+                .filter(event -> event.getEventType().getName().equals("io.smallrye.config.Lookup"))
+                .anyMatch(event -> "not.found".equals(event.getString("name")) && !event.getBoolean("found")));
+
+        assertTrue(events.stream()
+                .filter(event -> event.getEventType().getName().equals("io.smallrye.config.Expansion"))
+                .anyMatch(event -> "my.prop".equals(event.getString("name"))));
+        // values are never recorded
+        assertTrue(events.stream().noneMatch(event -> event.getFields().stream()
+                .anyMatch(field -> "12345678".equals(String.valueOf((Object) event.getValue(field.getName()))))));
+    }
+
+    private static List<RecordedEvent> read(final Recording recording) throws IOException {
+        Path file = Files.createTempFile("config-events", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @ConfigMapping(prefix = "server")
+    interface Server {
+        String host();
+    }
+}
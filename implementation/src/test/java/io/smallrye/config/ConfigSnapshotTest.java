@@ -0,0 +1,195 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigSnapshotTest {
+    @Test
+    void snapshot(@TempDir Path dir) throws Exception {
+        Map<String, String> low = new HashMap<>();
+        low.put("my.prop", "low");
+        low.put("low.prop", "1234");
+        low.put("%dev.my.prop", "dev");
+        low.put("unicode.ключ", "значение");
+        Map<String, String> high = new HashMap<>();
+        high.put("my.prop", "high");
+        high.put("map.exact.value", "exact");
+        KeyMap<String> defaults = new KeyMap<>();
+        defaults.findOrAdd("low.prop").putRootValue("default");
+        defaults.findOrAdd("default.prop").putRootValue("default");
+        defaults.findOrAdd("map.*.value").putRootValue("wildcard");
+
+        Path file = dir.resolve("config.snapshot");
+        ConfigSnapshot.write(file, Arrays.asList(
+                new PropertiesConfigSource(high, "high", 200),
+                new PropertiesConfigSource(low, "low", 100),
+                new DefaultValuesConfigSource(defaults)));
+        List<ConfigValueConfigSource> snapshot = ConfigSnapshot.load(file);
+        assertEquals(3, snapshot.size());
+        ConfigValueConfigSource highSnapshot = snapshot.get(0);
+        ConfigValueConfigSource lowSnapshot = snapshot.get(1);
+        ConfigValueConfigSource defaultsSnapshot = snapshot.get(2);
+        assertEquals(200, highSnapshot.getOrdinal());
+        assertEquals(100, lowSnapshot.getOrdinal());
+        assertEquals(Integer.MIN_VALUE, defaultsSnapshot.getOrdinal());
+
+        assertEquals("high", highSnapshot.getValue("my.prop"));
+        assertEquals("PropertiesConfigSource[source=high]", highSnapshot.getConfigValue("my.prop").getConfigSourceName());
+        assertEquals(200, highSnapshot.getConfigValue("my.prop").getConfigSourceOrdinal());
+        assertNull(lowSnapshot.getValue("my.prop"));
+        assertEquals("1234", lowSnapshot.getValue("low.prop"));
+        assertEquals(100, lowSnapshot.getConfigValue("low.prop").getConfigSourceOrdinal());
+        assertNull(highSnapshot.getValue("low.prop"));
+        assertEquals("dev", lowSnapshot.getValue("%dev.my.prop"));
+        assertEquals("значение", lowSnapshot.getValue("unicode.ключ"));
+        assertEquals("default", defaultsSnapshot.getValue("default.prop"));
+        assertEquals(Integer.MIN_VALUE, defaultsSnapshot.getConfigValue("default.prop").getConfigSourceOrdinal());
+        assertEquals("exact", highSnapshot.getValue("map.exact.value"));
+        assertEquals("wildcard", defaultsSnapshot.getValue("map.any.value"));
+        assertEquals("map.any.value", defaultsSnapshot.getConfigValue("map.any.value").getName());
+        assertNull(highSnapshot.getValue("map.any.value"));
+        assertNull(lowSnapshot.getValue("not.found"));
+        assertNull(lowSnapshot.getValue("my"));
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(snapshot.toArray(new ConfigSource[0])).build();
+        assertEquals("high", config.getRawValue("my.prop"));
+        assertEquals("1234", config.getRawValue("low.prop"));
+        assertEquals("exact", config.getRawValue("map.exact.value"));
+        assertEquals("wildcard", config.getRawValue("map.any.value"));
+
+        // defaults are not listed, like in DefaultValuesConfigSource
+        assertTrue(lowSnapshot.getPropertyNames().contains("unicode.ключ"));
+        assertFalse(defaultsSnapshot.getPropertyNames().contains("default.prop"));
+        assertEquals(2, highSnapshot.getPropertyNames().size());
+        assertEquals(3, lowSnapshot.getPropertyNames().size());
+        assertTrue(defaultsSnapshot.getPropertyNames().isEmpty());
+    }
+
+    @Test
+    void override(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("config.snapshot");
+        ConfigSnapshot.write(file, Arrays.asList(
+                new PropertiesConfigSource(Collections.singletonMap("high.prop", "high"), "high", 500),
+                new PropertiesConfigSource(Collections.singletonMap("my.prop", "snapshot"), "low", 100)));
+
+        System.setProperty("my.prop", "sysprop");
+        try {
+            SmallRyeConfig config = new SmallRyeConfigBuilder()
+                    .addDefaultSources()
+                    .withConfigSnapshot(file)
+                    .withSources(new PropertiesConfigSource(Collections.singletonMap("high.prop", "live"), "live", 400))
+                    .build();
+
+            assertEquals("sysprop", config.getRawValue("my.prop"));
+            assertEquals("SysPropConfigSource", config.getConfigValue("my.prop").getConfigSourceName());
+            assertEquals("high", config.getRawValue("high.prop"));
+        } finally {
+            System.clearProperty("my.prop");
+        }
+    }
+
+    @Test
+    void builder(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("config.snapshot");
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "snapshot");
+        properties.put("%dev.my.prop", "dev");
+        properties.put("expression", "${my.prop}");
+        properties.put("snapshot.sysprop", "snapshot");
+        ConfigSnapshot.write(file, Arrays.asList(new PropertiesConfigSource(properties, "snapshot", 100)));
+
+        System.setProperty("snapshot.sysprop", "sysprop");
+        try {
+            SmallRyeConfig config = new SmallRyeConfigBuilder()
+                    .addDefaultSources()
+                    .addDefaultInterceptors()
+                    .withProfile("dev")
+                    .withConfigSnapshot(file)
+                    .build();
+
+            assertEquals("dev", config.getRawValue("my.prop"));
+            assertEquals("dev", config.getRawValue("expression"));
+            assertEquals("sysprop", config.getRawValue("snapshot.sysprop"));
+            assertEquals("PropertiesConfigSource[source=snapshot]",
+                    config.getConfigValue("my.prop").getConfigSourceName());
+        } finally {
+            System.clearProperty("snapshot.sysprop");
+        }
+    }
+
+    @Test
+    void main(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("target").resolve("config.snapshot");
+        ConfigSnapshot.main(new String[] { file.toString(), Server.class.getName() });
+
+        List<ConfigValueConfigSource> snapshot = ConfigSnapshot.load(file);
+        ConfigValueConfigSource defaults = snapshot.get(snapshot.size() - 1);
+        assertEquals("localhost", defaults.getValue("server.host"));
+        assertEquals("8080", defaults.getValue("server.port"));
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withConfigSnapshot(file)
+                .withMapping(Server.class)
+                .build();
+        Server server = config.getConfigMapping(Server.class);
+        assertEquals("localhost", server.host());
+        assertEquals(8080, server.port());
+    }
+
+    @Test
+    void serialize(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("config.snapshot");
+        ConfigSnapshot.write(file,
+                Arrays.asList(new PropertiesConfigSource(Collections.singletonMap("my.prop", "1234"), "snapshot", 100)));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(ConfigSnapshot.load(file).get(0));
+        }
+        ConfigSource configSource;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            configSource = (ConfigSource) in.readObject();
+        }
+        assertEquals("1234", configSource.getValue("my.prop"));
+        assertEquals(100, configSource.getOrdinal());
+    }
+
+    @Test
+    void invalid(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("config.snapshot");
+        Files.write(file, "my.prop=1234".getBytes());
+
+        assertThrows(IOException.class, () -> ConfigSnapshot.load(file));
+        assertThrows(IllegalStateException.class,
+                () -> new SmallRyeConfigBuilder().withConfigSnapshot(dir.resolve("missing")).build());
+    }
+
+    @ConfigMapping(prefix = "server")
+    interface Server {
+        @WithDefault("localhost")
+        String host();
+
+        @WithDefault("8080")
+        int port();
+    }
+}
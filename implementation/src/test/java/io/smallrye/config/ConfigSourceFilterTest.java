@@ -0,0 +1,148 @@
+package io.smallrye.config;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+class ConfigSourceFilterTest {
+    @Test
+    void skipMissing() {
+        final EnumerableCountingConfigSource source = new EnumerableCountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withConfigSourceFilter(true).build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals(1, source.lookups());
+        for (int i = 0; i < 100; i++) {
+            assertNull(config.getRawValue("missing." + i));
+        }
+        // a few false positives are allowed
+        assertTrue(source.lookups() < 10);
+    }
+
+    @Test
+    void notEnumerable() {
+        final CountingConfigSource source = new CountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withConfigSourceFilter(true).build();
+
+        assertNull(config.getRawValue("missing"));
+        assertEquals(1, source.lookups());
+    }
+
+    @Test
+    void disabled() {
+        final EnumerableCountingConfigSource source = new EnumerableCountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).build();
+
+        assertNull(config.getRawValue("missing"));
+        assertEquals(1, source.lookups());
+    }
+
+    @Test
+    void mapNotCopied() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "properties", 100))
+                .build();
+
+        assertNull(config.getRawValue("my.other.prop"));
+        properties.put("my.other.prop", "5678");
+        assertEquals("5678", config.getRawValue("my.other.prop"));
+    }
+
+    @Test
+    void manyNames() {
+        final String[] keyValues = new String[2000];
+        for (int i = 0; i < 1000; i++) {
+            keyValues[i * 2] = "my.prop." + i;
+            keyValues[i * 2 + 1] = "" + i;
+        }
+        final EnumerableCountingConfigSource source = new EnumerableCountingConfigSource(keyValues);
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withConfigSourceFilter(true).build();
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("" + i, config.getRawValue("my.prop." + i));
+        }
+    }
+
+    @Test
+    void compiledInterceptorChain() {
+        final EnumerableCountingConfigSource source = new EnumerableCountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withConfigSourceFilter(true)
+                .withCompiledInterceptorChain(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertNull(config.getRawValue("missing"));
+        assertEquals(1, source.lookups());
+    }
+
+    @Test
+    void bulk() {
+        final EnumerableCountingConfigSource source = new EnumerableCountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withConfigSourceFilter(true).build();
+
+        final Map<String, ConfigValue> values = config.getConfigValues(asList("my.prop", "missing"));
+        assertEquals("1234", values.get("my.prop").getValue());
+        assertNull(values.get("missing").getValue());
+        assertEquals(1, source.lookups());
+    }
+
+    @Test
+    void observableChange() {
+        final EnumerableCountingConfigSource source = new EnumerableCountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withConfigSourceFilter(true)
+                .withValueCache(true)
+                .build();
+
+        assertNull(config.getRawValue("my.other.prop"));
+        source.put("my.other.prop", "5678");
+        assertEquals("5678", config.getRawValue("my.other.prop"));
+
+        source.replace("my.new.prop", "9012");
+        assertEquals("9012", config.getRawValue("my.new.prop"));
+    }
+
+    @Test
+    void env() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().addDefaultSources().withConfigSourceFilter(true).build();
+        final String path = System.getenv("PATH");
+
+        assertEquals(path, config.getRawValue("PATH"));
+        assertEquals(path, config.getRawValue("path"));
+        assertEquals("MY_PROP_NAME", new EnvConfigSource().getCanonicalName("my.prop-Name"));
+        for (String name : asList("my.prop-Name", "MY_PROP_NAME", "%dev.\"quoted.name\"[0]", "", "\u00e9moji.\u00e9")) {
+            assertEquals(EnvConfigSource.canonicalName(name).hashCode(), new EnvConfigSource().getCanonicalHash(name));
+        }
+        assertEquals(path, config.getRawValue("Path"));
+    }
+
+    @Test
+    void sources() {
+        final EnumerableCountingConfigSource source = new EnumerableCountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withConfigSourceFilter(true).build();
+
+        final List<ConfigSource> sources = new ArrayList<>();
+        config.getConfigSources().forEach(sources::add);
+        assertTrue(sources.contains(source));
+        assertFalse(sources.stream().anyMatch(FilteredConfigValueConfigSource.class::isInstance));
+    }
+
+    static class EnumerableCountingConfigSource extends CountingConfigSource implements EnumerableConfigSource {
+        EnumerableCountingConfigSource(final String... keyValues) {
+            super(keyValues);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.smallrye.config;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigSourceLoaderTest {
+    @Test
+    void order() {
+        ConfigSourceLoader loader = new ConfigSourceLoader(4, StartupRecorder.DISABLED);
+        for (int i = 0; i < 20; i++) {
+            String name = "source" + i;
+            long sleep = 20 - i;
+            loader.add(name, () -> {
+                Thread.sleep(sleep);
+                return singletonList(new PropertiesConfigSource(singletonMap("name", name), name, 100));
+            });
+        }
+
+        List<ConfigSource> sources = loader.load();
+        assertEquals(20, sources.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("source" + i, sources.get(i).getValue("name"));
+        }
+    }
+
+    @Test
+    void failures() {
+        ConfigSourceLoader loader = new ConfigSourceLoader(4, StartupRecorder.DISABLED);
+        loader.add("first", () -> {
+            throw new IllegalArgumentException("first");
+        });
+        loader.add("second", () -> singletonList(new PropertiesConfigSource(singletonMap("a", "b"), "second", 100)));
+        loader.add("third", () -> {
+            throw new IOException("third");
+        });
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, loader::load);
+        assertTrue(exception.getMessage().contains("2"));
+        assertEquals("first", exception.getCause().getMessage());
+        assertEquals(1, exception.getSuppressed().length);
+        assertEquals("third", exception.getSuppressed()[0].getCause().getMessage());
+    }
+
+    @Test
+    void singleFailure() {
+        ConfigSourceLoader loader = new ConfigSourceLoader(4, StartupRecorder.DISABLED);
+        loader.add("first", () -> {
+            throw new IllegalArgumentException("first");
+        });
+        loader.add("second", () -> singletonList(new PropertiesConfigSource(singletonMap("a", "b"), "second", 100)));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, loader::load);
+        assertEquals("first", exception.getMessage());
+    }
+
+    @Test
+    void defaultSources(@TempDir Path tempDir) throws Exception {
+        List<URL> urls = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Path dir = tempDir.resolve("jar" + i);
+            Files.createDirectories(dir.resolve("META-INF"));
+            try (Writer writer = Files.newBufferedWriter(dir.resolve("META-INF/microprofile-config.properties"))) {
+                writer.write("my.prop=" + i + "\n");
+                writer.write("jar" + i + "=" + i + "\n");
+            }
+            urls.add(dir.toUri().toURL());
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(urls.toArray(new URL[0]), null)) {
+            SmallRyeConfig sequential = new SmallRyeConfigBuilder()
+                    .forClassLoader(classLoader)
+                    .addDefaultSources()
+                    .build();
+            SmallRyeConfig parallel = new SmallRyeConfigBuilder()
+                    .forClassLoader(classLoader)
+                    .addDefaultSources()
+                    .withSourceLoadingParallelism(4)
+                    .build();
+
+            assertEquals(names(sequential), names(parallel));
+            assertEquals(sequential.getRawValue("my.prop"), parallel.getRawValue("my.prop"));
+            for (int i = 0; i < 8; i++) {
+                assertEquals(String.valueOf(i), parallel.getRawValue("jar" + i));
+            }
+        }
+    }
+
+    private static List<String> names(final SmallRyeConfig config) {
+        return StreamSupport.stream(config.getConfigSources().spliterator(), false)
+                .map(ConfigSource::getName)
+                .collect(Collectors.toList());
+    }
+}
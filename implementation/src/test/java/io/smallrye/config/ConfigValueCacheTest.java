@@ -0,0 +1,92 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class ConfigValueCacheTest {
+    @Test
+    void cacheHits() {
+        final CountingConfigSource source = new CountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withValueCache(true).build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals(1, source.lookups("my.prop"));
+    }
+
+    @Test
+    void cacheMisses() {
+        final CountingConfigSource source = new CountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withValueCache(true).build();
+
+        assertNull(config.getRawValue("missing"));
+        assertFalse(config.getOptionalValue("missing", String.class).isPresent());
+        assertEquals(1, source.lookups("missing"));
+    }
+
+    @Test
+    void disabled() {
+        final CountingConfigSource source = new CountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals(2, source.lookups("my.prop"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void addConfigSource() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234"))
+                .withValueCache(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertNull(config.getRawValue("my.other.prop"));
+
+        config.addConfigSource(new CountingConfigSource("my.other.prop", "5678"));
+        assertEquals("5678", config.getRawValue("my.other.prop"));
+    }
+
+    @Test
+    void observableChange() {
+        final CountingConfigSource source = new CountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withValueCache(true).build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        source.put("my.prop", "5678");
+        assertEquals("5678", config.getRawValue("my.prop"));
+        assertEquals(2, source.lookups("my.prop"));
+    }
+
+    @Test
+    void secrets() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(KeyValuesConfigSource.config("secret", "12345678"))
+                .withSecretKeys("secret")
+                .withValueCache(true)
+                .build();
+
+        assertEquals("12345678", SecretKeys.doUnlocked(() -> config.getRawValue("secret")));
+        assertThrows(SecurityException.class, () -> config.getRawValue("secret"));
+    }
+
+    @Test
+    void withoutExpansion() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(KeyValuesConfigSource.config("my.prop", "${expansion}", "expansion", "1234"))
+                .withValueCache(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("${expansion}", Expressions.withoutExpansion(() -> config.getRawValue("my.prop")));
+        assertEquals("1234", config.getRawValue("my.prop"));
+    }
+}
@@ -2,6 +2,7 @@ package io.smallrye.config;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -15,6 +16,47 @@ public class ConfigValueConfigSourceWrapperTest {
         assertEquals("1234", configValue.getValue());
     }
 
+    @Test
+    public void getConfigValueReused() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        properties.put("my.other.prop", "5678");
+        final ConfigValueConfigSource config = ConfigValueConfigSourceWrapper
+                .wrap(new PropertiesConfigSource(properties, "test", 100));
+
+        final ConfigValue configValue = config.getConfigValue("my.prop");
+        assertSame(configValue, config.getConfigValue("my.prop"));
+        assertSame(configValue, config.getConfigValueProperties().get("my.prop"));
+        assertSame(configValue.getConfigSource(), config.getConfigValue("my.other.prop").getConfigSource());
+        assertSame(config.getConfigValueProperties(), config.getConfigValueProperties());
+        assertSame(config.getConfigValueProperties().get("my.prop"), config.getConfigValueProperties().get("my.prop"));
+    }
+
+    @Test
+    public void getConfigValueChanged() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        final ConfigValueConfigSource config = ConfigValueConfigSourceWrapper
+                .wrap(new PropertiesConfigSource(properties, "test", 100));
+
+        assertEquals("1234", config.getConfigValue("my.prop").getValue());
+        assertEquals("1234", config.getConfigValueProperties().get("my.prop").getValue());
+        assertSame(config.getConfigValue("my.prop"), config.getConfigValue("my.prop"));
+        properties.put("my.prop", "5678");
+        assertEquals("5678", config.getConfigValue("my.prop").getValue());
+        assertEquals("5678", config.getConfigValueProperties().get("my.prop").getValue());
+    }
+
+    @Test
+    public void getConfigValueCopiedProperties() {
+        // a new Map on each call, so the ConfigValue is not reused
+        final ConfigValueConfigSource config = config();
+
+        final ConfigValue configValue = config.getConfigValue("my.prop");
+        assertEquals(configValue, config.getConfigValue("my.prop"));
+        assertEquals("1234", configValue.getValue());
+    }
+
     @Test
     public void getConfigValueProperties() {
         Map<String, ConfigValue> map = config().getConfigValueProperties();
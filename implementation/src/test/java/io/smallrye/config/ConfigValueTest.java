@@ -0,0 +1,62 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+class ConfigValueTest {
+    @Test
+    void withSameReturnsThis() {
+        final ConfigValue configValue = ConfigValue.builder()
+                .withName("my.prop")
+                .withValue("1234")
+                .withConfigSourceName("source")
+                .withConfigSourceOrdinal(100)
+                .withLineNumber(1)
+                .build();
+
+        assertSame(configValue, configValue.withName("my.prop"));
+        assertSame(configValue, configValue.withValue(new String("1234")));
+        assertSame(configValue, configValue.withConfigSourceName("source"));
+        assertSame(configValue, configValue.withConfigSourceOrdinal(100));
+        assertSame(configValue, configValue.withLineNumber(1));
+    }
+
+    @Test
+    void with() {
+        final ConfigValue configValue = ConfigValue.builder()
+                .withName("my.prop")
+                .withValue("1234")
+                .withConfigSourceName("source")
+                .withConfigSourceOrdinal(100)
+                .withLineNumber(1)
+                .build();
+
+        final ConfigValue withName = configValue.withName("my.other.prop");
+        assertNotSame(configValue, withName);
+        assertEquals("my.other.prop", withName.getName());
+        assertEquals("1234", withName.getValue());
+        assertEquals("source:1", withName.getLocation());
+        assertSame(configValue.getConfigSource(), withName.getConfigSource());
+
+        final ConfigValue withSource = configValue.withConfigSourceName("other").withConfigSourceOrdinal(200);
+        assertEquals("other", withSource.getConfigSourceName());
+        assertEquals(200, withSource.getConfigSourceOrdinal());
+        assertEquals("source", configValue.getConfigSourceName());
+        assertEquals(100, configValue.getConfigSourceOrdinal());
+    }
+
+    @Test
+    void sharedConfigSource() {
+        final ConfigSourceDescriptor configSource = new ConfigSourceDescriptor("source", 100);
+        final ConfigValue one = ConfigValue.builder().withName("one").withConfigSource(configSource).build();
+        final ConfigValue two = ConfigValue.builder().withName("two").withConfigSource(configSource).build();
+        assertSame(one.getConfigSource(), two.getConfigSource());
+
+        final ConfigValue changed = one.from().withConfigSourceOrdinal(200).build();
+        assertEquals(200, changed.getConfigSourceOrdinal());
+        assertEquals(100, one.getConfigSourceOrdinal());
+    }
+}
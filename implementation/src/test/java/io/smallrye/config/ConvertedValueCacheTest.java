@@ -0,0 +1,110 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.jupiter.api.Test;
+
+class ConvertedValueCacheTest {
+    @Test
+    void cacheImmutable() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234"))
+                .withConvertedValueCache(true)
+                .build();
+
+        final CountingConverter converter = new CountingConverter();
+        assertEquals(1234, config.getValue("my.prop", converter).intValue());
+        assertEquals(1234, config.getValue("my.prop", converter).intValue());
+        assertEquals(1, converter.conversions.get());
+
+        assertSame(config.getValue("my.prop", Integer.class), config.getValue("my.prop", Integer.class));
+        assertSame(config.getOptionalValue("my.prop", Integer.class).get(),
+                config.getOptionalValue("my.prop", Integer.class).get());
+    }
+
+    @Test
+    void optional() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234"))
+                .withConvertedValueCache(true)
+                .build();
+
+        // each getOptionalValue call wraps the converter in a new OptionalConverter
+        final CountingConverter converter = new CountingConverter();
+        assertEquals(Optional.of(1234), config.getOptionalValue("my.prop", converter));
+        assertEquals(Optional.of(1234), config.getOptionalValue("my.prop", converter));
+        assertEquals(1234, config.getValue("my.prop", converter).intValue());
+        assertEquals(Optional.of(1234), config.getOptionalValue("my.prop", converter));
+        assertEquals(1, converter.conversions.get());
+    }
+
+    @Test
+    void differentConverter() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234"))
+                .withConvertedValueCache(true)
+                .build();
+
+        assertEquals(1234, config.getValue("my.prop", Integer.class).intValue());
+        assertEquals(1234L, config.getValue("my.prop", Long.class).longValue());
+        assertEquals("1234", config.getValue("my.prop", String.class));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void rawValueChanged() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234"))
+                .withConvertedValueCache(true)
+                .build();
+
+        final CountingConverter converter = new CountingConverter();
+        assertEquals(1234, config.getValue("my.prop", converter).intValue());
+        config.addConfigSource(KeyValuesConfigSource.config("my.prop", "5678", "config_ordinal", "1000"));
+        assertEquals(5678, config.getValue("my.prop", converter).intValue());
+        assertEquals(2, converter.conversions.get());
+    }
+
+    @Test
+    void missing() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withConvertedValueCache(true)
+                .build();
+
+        final CountingConverter converter = new CountingConverter();
+        assertEquals(Optional.empty(), config.getOptionalValue("missing", converter));
+        assertEquals(Optional.empty(), config.getOptionalValue("missing", converter));
+    }
+
+    @Test
+    void mutableNotCached() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1,2,3"))
+                .withConvertedValueCache(true)
+                .build();
+
+        final Converter<List<Integer>> converter = Converters.newCollectionConverter(config.getConverter(Integer.class),
+                ArrayList::new);
+        final List<Integer> values = config.getValue("my.prop", converter);
+        assertEquals(3, values.size());
+        assertNotSame(values, config.getValue("my.prop", converter));
+    }
+
+    static class CountingConverter implements Converter<Integer> {
+        private final AtomicInteger conversions = new AtomicInteger();
+
+        @Override
+        public Integer convert(final String value) {
+            conversions.incrementAndGet();
+            return Integer.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.smallrye.config;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link ObservableConfigSource} for tests, that counts the lookups of each name and reports the changes made with
+ * {@link #put(String, String)} and {@link #replace(String, String)}.
+ */
+class CountingConfigSource implements ObservableConfigSource {
+    private final Map<String, String> properties = new ConcurrentHashMap<>();
+    private final Map<String, String> unmodifiableProperties = Collections.unmodifiableMap(properties);
+    private final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+    private final List<ConfigSourceChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    CountingConfigSource(final String... keyValues) {
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.put(keyValues[i], keyValues[i + 1]);
+        }
+    }
+
+    @Override
+    public Map<String, String> getProperties() {
+        return unmodifiableProperties;
+    }
+
+    @Override
+    public Set<String> getPropertyNames() {
+        return unmodifiableProperties.keySet();
+    }
+
+    @Override
+    public String getValue(final String propertyName) {
+        lookups.computeIfAbsent(propertyName, name -> new AtomicInteger()).incrementAndGet();
+        return properties.get(propertyName);
+    }
+
+    @Override
+    public String getName() {
+        return getClass().getSimpleName();
+    }
+
+    @Override
+    public int getOrdinal() {
+        return DEFAULT_ORDINAL;
+    }
+
+    @Override
+    public void addChangeListener(final ConfigSourceChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return the number of lookups of the name.
+     */
+    int lookups(final String name) {
+        final AtomicInteger lookups = this.lookups.get(name);
+        return lookups != null ? lookups.get() : 0;
+    }
+
+    /**
+     * @return the number of lookups of all the names.
+     */
+    int lookups() {
+        return lookups.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    /**
+     * Sets the value of a name, and reports the name as changed.
+     */
+    void put(final String name, final String value) {
+        properties.put(name, value);
+        listeners.forEach(listener -> listener.onChange(this, Collections.singleton(name)));
+    }
+
+    /**
+     * Replaces all the properties with a single name, and reports an unknown change.
+     */
+    void replace(final String name, final String value) {
+        properties.clear();
+        properties.put(name, value);
+        listeners.forEach(listener -> listener.onChange(this, Collections.emptySet()));
+    }
+}
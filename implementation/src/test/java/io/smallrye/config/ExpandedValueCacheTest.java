@@ -0,0 +1,108 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+class ExpandedValueCacheTest {
+    @Test
+    void cached() {
+        final CountingConfigSource source = new CountingConfigSource("a", "${b}", "b", "1");
+        final SmallRyeConfig config = config(source);
+
+        assertEquals("1", config.getRawValue("a"));
+        assertEquals("1", config.getRawValue("a"));
+        assertEquals("1", config.getRawValue("b"));
+        assertEquals(1, source.lookups("a"));
+        assertEquals(1, source.lookups("b"));
+    }
+
+    @Test
+    void dependents() {
+        final CountingConfigSource source = new CountingConfigSource("a", "${b}", "b", "${c}", "c", "1", "d", "${e}",
+                "e", "2");
+        final SmallRyeConfig config = config(source);
+
+        assertEquals("1", config.getRawValue("a"));
+        assertEquals("2", config.getRawValue("d"));
+
+        source.put("c", "3");
+        assertEquals("3", config.getRawValue("a"));
+        assertEquals("3", config.getRawValue("b"));
+        assertEquals("2", config.getRawValue("d"));
+        assertEquals(2, source.lookups("a"));
+        assertEquals(2, source.lookups("c"));
+        assertEquals(1, source.lookups("d"));
+        assertEquals(1, source.lookups("e"));
+    }
+
+    @Test
+    void defaults() {
+        final CountingConfigSource source = new CountingConfigSource("a", "${b:1}");
+        final SmallRyeConfig config = config(source);
+
+        assertEquals("1", config.getRawValue("a"));
+        source.put("b", "2");
+        assertEquals("2", config.getRawValue("a"));
+    }
+
+    @Test
+    void profiles() {
+        final CountingConfigSource source = new CountingConfigSource("a", "${b}", "b", "1");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prof")
+                .withSources(source)
+                .withExpandedValueCache(true)
+                .build();
+
+        assertEquals("1", config.getRawValue("a"));
+        source.put("%prof.b", "2");
+        assertEquals("2", config.getRawValue("a"));
+    }
+
+    @Test
+    void bulk() {
+        final CountingConfigSource source = new CountingConfigSource("a", "${c}", "b", "${c}", "c", "1");
+        final SmallRyeConfig config = config(source);
+
+        final Map<String, ConfigValue> values = config.getConfigValues(Arrays.asList("a", "b", "missing"));
+        assertEquals("1", values.get("a").getValue());
+        assertEquals("1", values.get("b").getValue());
+        assertEquals(1, source.lookups("c"));
+
+        source.put("c", "2");
+        assertEquals("2", config.getConfigValues(Arrays.asList("a", "b")).get("b").getValue());
+    }
+
+    @Test
+    void cycle() {
+        final SmallRyeConfig config = config(new CountingConfigSource("a", "${b}", "b", "${c}", "c", "${a}"));
+
+        assertThrows(IllegalArgumentException.class, () -> config.getRawValue("a"));
+        assertThrows(IllegalArgumentException.class, () -> config.getRawValue("c"));
+    }
+
+    @Test
+    void deep() {
+        final CountingConfigSource source = new CountingConfigSource("expression.0", "0");
+        for (int i = 1; i <= 50; i++) {
+            source.put("expression." + i, "${expression." + (i - 1) + "}");
+        }
+
+        assertEquals("0", config(source).getRawValue("expression.50"));
+    }
+
+    private static SmallRyeConfig config(final ConfigSource source) {
+        return new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(source)
+                .withExpandedValueCache(true)
+                .build();
+    }
+}
@@ -3,6 +3,8 @@ package io.smallrye.config;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import org.junit.jupiter.api.Test;
@@ -91,8 +93,30 @@ public class ExpressionConfigSourceInterceptorTest {
     public void infiniteExpansion() {
         SmallRyeConfig config = buildConfig("my.prop", "${my.prop}");
 
-        assertThrows(IllegalArgumentException.class, () -> config.getRawValue("my.prop"),
-                "Recursive expression expansion is too deep for my.prop");
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> config.getRawValue("my.prop"));
+        assertEquals("SRCFG00034: Expression cycle in the expansion of my.prop: my.prop -> my.prop",
+                exception.getMessage());
+    }
+
+    @Test
+    void expansionCycle() {
+        SmallRyeConfig config = buildConfig("start", "${one}", "one", "${two}", "two", "${three}", "three", "x${one}");
+
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> config.getRawValue("start"));
+        assertEquals("SRCFG00034: Expression cycle in the expansion of one: one -> two -> three -> one",
+                exception.getMessage());
+    }
+
+    @Test
+    void longExpansionChain() {
+        assertEquals("end", chain(500).getRawValue("chain.0"));
+
+        final SmallRyeConfig config = chain(5000);
+        final IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> config.getRawValue("chain.0"));
+        assertEquals("SRCFG00025: Recursive expression expansion is too deep for chain.512", exception.getMessage());
     }
 
     @Test
@@ -126,6 +150,53 @@ public class ExpressionConfigSourceInterceptorTest {
         assertThrows(Exception.class, () -> config.getValue("my.prop.partial", String.class));
     }
 
+    @Test
+    void resolveOnce() {
+        final CountingConfigSource source = new CountingConfigSource("my.prop", "1234", "two", "${my.prop}-${my.prop}",
+                "three", "${two}${my.prop}", "four", "${three}${two}");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(source)
+                .withInterceptors(new ExpressionConfigSourceInterceptor())
+                .build();
+
+        assertEquals("1234-123412341234-1234", config.getRawValue("four"));
+        assertEquals(1, source.lookups("my.prop"));
+        assertEquals(1, source.lookups("two"));
+        assertEquals(1, source.lookups("three"));
+
+        assertEquals("1234-1234", config.getRawValue("two"));
+        assertEquals(2, source.lookups("my.prop"));
+    }
+
+    @Test
+    void manyExpressions() {
+        final SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .withInterceptors(new ExpressionConfigSourceInterceptor());
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        for (int i = 0; i < 2000; i++) {
+            properties.put("expression." + i, i + "${my.prop}");
+        }
+        final SmallRyeConfig config = builder.withSources(new PropertiesConfigSource(properties, "test", 100)).build();
+
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(i + "1234", config.getRawValue("expression." + i));
+        }
+        assertEquals("1234", config.getRawValue("my.prop"));
+    }
+
+    private static SmallRyeConfig chain(final int length) {
+        final Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < length; i++) {
+            properties.put("chain." + i, "${chain." + (i + 1) + "}");
+        }
+        properties.put("chain." + length, "end");
+        return new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(properties, "test", 100))
+                .build();
+    }
+
     private static SmallRyeConfig buildConfig(String... keyValues) {
         return new SmallRyeConfigBuilder()
                 .addDefaultSources()
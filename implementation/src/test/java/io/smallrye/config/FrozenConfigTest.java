@@ -0,0 +1,144 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+class FrozenConfigTest {
+    @Test
+    void frozen() {
+        final CountingConfigSource source = new CountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withFrozen(true).build();
+
+        assertEquals(1, source.lookups("my.prop"));
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals(1, source.lookups("my.prop"));
+
+        assertNull(config.getRawValue("missing"));
+        assertNull(config.getRawValue("missing"));
+        assertEquals(2, source.lookups("missing"));
+    }
+
+    @Test
+    void profilesAndExpressions() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prof")
+                .withSources(KeyValuesConfigSource.config("my.prop", "main", "%prof.my.prop", "profile",
+                        "expression", "${my.prop}", "missing.expression", "${missing}"))
+                .withFrozen(true)
+                .build();
+
+        final ConfigValue configValue = config.getConfigValue("my.prop");
+        assertEquals("profile", configValue.getValue());
+        assertEquals("my.prop", configValue.getName());
+        assertEquals("profile", config.getRawValue("expression"));
+        assertThrows(NoSuchElementException.class, () -> config.getRawValue("missing.expression"));
+        Expressions.withoutExpansion(() -> assertEquals("${my.prop}", config.getRawValue("expression")));
+    }
+
+    @Test
+    void secrets() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(KeyValuesConfigSource.config("secret", "12345678"))
+                .withSecretKeys("secret")
+                .withFrozen(true)
+                .build();
+
+        assertThrows(SecurityException.class, () -> config.getRawValue("secret"));
+        assertEquals("12345678", SecretKeys.doUnlocked(() -> config.getRawValue("secret")));
+    }
+
+    @Test
+    void unlockedBuild() {
+        final SmallRyeConfig config = SecretKeys.doUnlocked(() -> new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(KeyValuesConfigSource.config("secret", "12345678"))
+                .withSecretKeys("secret")
+                .withFrozen(true)
+                .build());
+
+        assertThrows(SecurityException.class, () -> config.getRawValue("secret"));
+    }
+
+    @Test
+    void observableChange() {
+        final CountingConfigSource source = new CountingConfigSource("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withFrozen(true).build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        source.put("my.prop", "5678");
+        assertEquals("5678", config.getRawValue("my.prop"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void addConfigSource() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234"))
+                .withFrozen(true)
+                .build();
+
+        config.addConfigSource(new PropertiesConfigSource(Collections.singletonMap("my.prop", "5678"), "higher", 200));
+        assertEquals("5678", config.getRawValue("my.prop"));
+    }
+
+    @Test
+    void serialize() throws Exception {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234"))
+                .withFrozen(true)
+                .build();
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(config);
+        }
+        final SmallRyeConfig deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (SmallRyeConfig) in.readObject();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        assertEquals("1234", deserialized.getRawValue("my.prop"));
+    }
+
+    @Test
+    void snapshot() {
+        final Map<String, ConfigValue> configValues = new HashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            configValues.put("my.prop." + i, ConfigValue.builder().withName("my.prop." + i).withValue("" + i).build());
+        }
+        // same hash code
+        configValues.put("Aa", ConfigValue.builder().withName("Aa").withValue("Aa").build());
+        configValues.put("BB", ConfigValue.builder().withName("BB").withValue("BB").build());
+
+        final ConfigValueSnapshot snapshot = ConfigValueSnapshot.of(configValues);
+        int found = 0;
+        for (Map.Entry<String, ConfigValue> configValue : configValues.entrySet()) {
+            final ConfigValue value = snapshot.get(configValue.getKey());
+            if (value != null) {
+                assertEquals(configValue.getValue(), value);
+                found++;
+            }
+        }
+        assertEquals(found, snapshot.size());
+        assertEquals(10000, found, 10);
+        assertNull(snapshot.get("missing"));
+        assertNull(ConfigValueSnapshot.of(Collections.emptyMap()).get("missing"));
+    }
+}
@@ -0,0 +1,96 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+class HotKeysConfigSourceInterceptorTest {
+    @Test
+    void hotKeys() {
+        HotKeysConfigSourceInterceptor hotKeys = new HotKeysConfigSourceInterceptor();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withInterceptors(hotKeys)
+                .withSources(config("hot", "1", "warm", "2", "cold", "${warm}"))
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            config.getRawValue("hot");
+        }
+        for (int i = 0; i < 10; i++) {
+            config.getRawValue("warm");
+        }
+        config.getRawValue("cold");
+        config.getConfigValues(Arrays.asList("hot", "not.found"));
+
+        List<HotKeysConfigSourceInterceptor.HotKey> top = hotKeys.getHotKeys(2);
+        assertEquals(2, top.size());
+        HotKeysConfigSourceInterceptor.HotKey hot = top.get(0);
+        assertEquals("hot", hot.getName());
+        assertEquals(101, hot.getCount());
+        assertEquals(0, hot.getError());
+        assertEquals("KeyValuesConfigSource", hot.getSourceName());
+        assertEquals(HotKeysConfigSourceInterceptorTest.class.getName(), hot.getCaller());
+        assertEquals("warm", top.get(1).getName());
+        // expansions are not counted as lookups
+        assertEquals(10, top.get(1).getCount());
+        assertNull(top.get(1).getCaller());
+
+        HotKeysConfigSourceInterceptor.HotKey notFound = hotKeys.getHotKeys(10).stream()
+                .filter(hotKey -> hotKey.getName().equals("not.found"))
+                .findFirst()
+                .get();
+        assertNull(notFound.getSourceName());
+    }
+
+    @Test
+    void bounded() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(16);
+        for (int i = 0; i < 10_000; i++) {
+            sketch.offer("hot");
+            sketch.offer("key" + i);
+        }
+
+        List<SpaceSavingSketch.Counter> top = sketch.top(Integer.MAX_VALUE);
+        assertTrue(top.size() <= sketch.capacity());
+        assertEquals(16, sketch.capacity());
+        assertEquals("hot", top.get(0).key);
+        assertTrue(top.get(0).guaranteed() <= 10_000);
+        assertTrue(top.get(0).count >= 10_000);
+    }
+
+    @Test
+    void concurrent() throws Exception {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] futures = new Future<?>[4];
+            for (int t = 0; t < futures.length; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        sketch.offer("hot");
+                        sketch.offer("key" + (i % 500));
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        SpaceSavingSketch.Counter hot = sketch.top(1).get(0);
+        assertEquals("hot", hot.key);
+        assertTrue(hot.count >= 30_000, "count " + hot.count);
+    }
+}
@@ -0,0 +1,155 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+class InterceptorRoutingTest {
+    @Test
+    void routing() {
+        RecordingInterceptor interceptor = new RecordingInterceptor(new HashSet<>(Arrays.asList("legacy", "*.old")));
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withInterceptors(interceptor)
+                .withSources(config("legacy.port", "8080", "my.prop", "1234", "any.old.value", "old", "legacy", "root"))
+                .build();
+
+        assertEquals("8080", config.getRawValue("legacy.port"));
+        assertEquals("root", config.getRawValue("legacy"));
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("old", config.getRawValue("any.old.value"));
+        assertEquals(new HashSet<>(Arrays.asList("legacy.port", "legacy", "any.old.value")), interceptor.names.keySet());
+    }
+
+    @Test
+    void bulk() {
+        RecordingInterceptor interceptor = new RecordingInterceptor(singleton("legacy"));
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withInterceptors(interceptor)
+                .withSources(config("legacy.port", "8080", "my.prop", "1234"))
+                .build();
+
+        Map<String, ConfigValue> values = config.getConfigValues(Arrays.asList("legacy.port", "my.prop", "not.found"));
+        assertEquals("8080", values.get("legacy.port").getValue());
+        assertEquals("1234", values.get("my.prop").getValue());
+        assertEquals(singleton("legacy.port"), interceptor.names.keySet());
+    }
+
+    @Test
+    void factory() {
+        RecordingInterceptor interceptor = new RecordingInterceptor(null);
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withInterceptorFactories(new ConfigSourceInterceptorFactory() {
+                    @Override
+                    public ConfigSourceInterceptor getInterceptor(final ConfigSourceInterceptorContext context) {
+                        return interceptor;
+                    }
+
+                    @Override
+                    public Optional<Set<String>> getNamePrefixes() {
+                        return Optional.of(singleton("legacy"));
+                    }
+
+                    @Override
+                    public OptionalInt getPriority() {
+                        return OptionalInt.of(Priorities.APPLICATION);
+                    }
+                })
+                .withSources(config("legacy.port", "8080", "my.prop", "1234"))
+                .withCompiledInterceptorChain(true)
+                .build();
+
+        assertEquals("8080", config.getRawValue("legacy.port"));
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals(singleton("legacy.port"), interceptor.names.keySet());
+    }
+
+    @Test
+    void namePrefixes() {
+        NamePrefixes plain = new NamePrefixes(new HashSet<>(Arrays.asList("legacy", "my.secret", "other.secret")));
+        assertTrue(plain.matches("legacy"));
+        assertTrue(plain.matches("legacy.url"));
+        assertTrue(plain.matches("my.secret"));
+        assertTrue(plain.matches("my.secret.key"));
+        assertTrue(plain.matches("\"legacy\".url"));
+        assertFalse(plain.matches("legacy2"));
+        assertFalse(plain.matches("my"));
+        assertFalse(plain.matches("my.secrets"));
+        assertFalse(plain.matches("other"));
+
+        NamePrefixes any = new NamePrefixes(new HashSet<>(Arrays.asList("legacy", "*.old")));
+        assertTrue(any.matches("legacy.url"));
+        assertTrue(any.matches("my.old.url"));
+        assertFalse(any.matches("my.new.url"));
+    }
+
+    @Test
+    void noNames() {
+        RecordingInterceptor interceptor = new RecordingInterceptor(new HashSet<>());
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withInterceptors(interceptor)
+                .withSources(config("my.prop", "1234"))
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertTrue(config.getPropertyNames().iterator().hasNext());
+        assertTrue(interceptor.names.isEmpty());
+    }
+
+    @Test
+    void expressionToSecret() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("secret", "12345678", "my.prop", "${secret}"))
+                .withSecretKeys("secret")
+                .build();
+
+        assertThrows(SecurityException.class, () -> config.getRawValue("my.prop"));
+        assertEquals("12345678", SecretKeys.doUnlocked(() -> config.getRawValue("my.prop")));
+    }
+
+    @Test
+    void relocate() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withInterceptors(new RelocateConfigSourceInterceptor(singletonMap("old.prop", "new.prop")))
+                .withSources(config("old.prop", "old", "new.prop", "new", "my.prop", "1234"))
+                .build();
+
+        assertEquals("new", config.getRawValue("old.prop"));
+        assertEquals("1234", config.getRawValue("my.prop"));
+    }
+
+    private static class RecordingInterceptor implements ConfigSourceInterceptor {
+        private final Set<String> namePrefixes;
+        private final Map<String, Boolean> names = new ConcurrentHashMap<>();
+
+        RecordingInterceptor(final Set<String> namePrefixes) {
+            this.namePrefixes = namePrefixes;
+        }
+
+        @Override
+        public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+            names.put(name, Boolean.TRUE);
+            return context.proceed(name);
+        }
+
+        @Override
+        public Optional<Set<String>> getNamePrefixes() {
+            return Optional.ofNullable(namePrefixes);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.common.LazyConfigSource;
+
+class LazyConfigSourceTest {
+    @Test
+    void shadowed() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyConfigSource lazy = new LazyConfigSource("lazy", 100, () -> {
+            loads.incrementAndGet();
+            return config("my.prop", "lazy", "lazy.prop", "5678");
+        });
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(lazy)
+                .withSources(new PropertiesConfigSource(singletonMap("my.prop", "1234"), "properties", 200))
+                .build();
+
+        assertEquals("lazy", lazy.getName());
+        assertEquals(100, lazy.getOrdinal());
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertFalse(lazy.isLoaded());
+
+        ConfigValue configValue = config.getConfigValue("lazy.prop");
+        assertEquals("5678", configValue.getValue());
+        assertEquals("lazy", configValue.getConfigSourceName());
+        assertEquals(100, configValue.getConfigSourceOrdinal());
+        assertTrue(lazy.isLoaded());
+        config.getRawValue("not.found");
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void defaultInterceptors() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyConfigSource lazy = new LazyConfigSource("lazy", 100, () -> {
+            loads.incrementAndGet();
+            return config("my.prop", "lazy", "%prod.lazy.prop", "prod");
+        });
+
+        // the profile is looked up when the Config is built, so it must be found before the lazy source
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(lazy)
+                .withSources(new PropertiesConfigSource(
+                        singletonMap(ProfileConfigSourceInterceptor.SMALLRYE_PROFILE, "prod"), "profile", 400))
+                .withSources(new PropertiesConfigSource(singletonMap("my.prop", "1234"), "properties", 200))
+                .build();
+
+        assertFalse(lazy.isLoaded());
+        // %prod.my.prop is not found in a higher source
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertTrue(lazy.isLoaded());
+        assertEquals("prod", config.getRawValue("lazy.prop"));
+        assertEquals(1, loads.get());
+
+        LazyConfigSource profileNotFound = new LazyConfigSource("lazy", 100, () -> config("my.prop", "lazy"));
+        new SmallRyeConfigBuilder().addDefaultInterceptors().withSources(profileNotFound).build();
+        assertTrue(profileNotFound.isLoaded());
+    }
+
+    @Test
+    void concurrent() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        LazyConfigSource lazy = new LazyConfigSource("lazy", 100, () -> {
+            loads.incrementAndGet();
+            return config("my.prop", "1234");
+        });
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(lazy).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> values = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                values.add(executor.submit(() -> {
+                    latch.await();
+                    return config.getRawValue("my.prop");
+                }));
+            }
+            latch.countDown();
+            for (Future<String> value : values) {
+                assertEquals("1234", value.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void failure() {
+        AtomicInteger loads = new AtomicInteger();
+        LazyConfigSource lazy = new LazyConfigSource("lazy", 100, () -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return config("my.prop", "1234");
+        });
+
+        assertThrows(IllegalStateException.class, () -> lazy.getValue("my.prop"));
+        assertFalse(lazy.isLoaded());
+        assertEquals("1234", lazy.getValue("my.prop"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void serialize() throws Exception {
+        LazyConfigSource lazy = new LazyConfigSource("lazy", 100, () -> config("my.prop", "1234"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(lazy);
+        }
+        ConfigSource configSource;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            configSource = (ConfigSource) in.readObject();
+        }
+
+        assertEquals("lazy", configSource.getName());
+        assertEquals(100, configSource.getOrdinal());
+        assertEquals("1234", configSource.getValue("my.prop"));
+    }
+}
@@ -46,16 +46,16 @@ public class LoggingConfigSourceInterceptorTest {
         // This should not log the secret value:
         assertEquals("12345678", SecretKeys.doUnlocked(() -> config.getValue("secret", String.class)));
 
-        // First 2 elements are the profile lookups
+        // First element is the profile lookup
         List<String> logs = logCapture.records().stream().map(LogRecord::getMessage).collect(toList());
         // my.prop lookup
-        assertTrue(logs.get(2).startsWith("SRCFG01001"));
-        assertTrue(logs.get(2).contains("The config my.prop was loaded from ConfigValuePropertiesConfigSource"));
-        assertTrue(logs.get(2).contains(":1 with the value abc"));
+        assertTrue(logs.get(1).startsWith("SRCFG01001"));
+        assertTrue(logs.get(1).contains("The config my.prop was loaded from ConfigValuePropertiesConfigSource"));
+        assertTrue(logs.get(1).contains(":1 with the value abc"));
         // not.found lookup
-        assertEquals("SRCFG01002: The config not.found was not found", logs.get(3));
+        assertEquals("SRCFG01002: The config not.found was not found", logs.get(2));
         // secret lookup, shows the key but hides the source and value
-        assertEquals("SRCFG01001: The config secret was loaded from secret with the value secret", logs.get(4));
+        assertEquals("SRCFG01001: The config secret was loaded from secret with the value secret", logs.get(3));
     }
 
     @Test
@@ -67,10 +67,10 @@ public class LoggingConfigSourceInterceptorTest {
                 .build();
 
         assertEquals("1234", config.getRawValue("my.prop.expand"));
-        // First 2 elements are the profile lookups
+        // First element is the profile lookup
         List<String> logs = logCapture.records().stream().map(LogRecord::getMessage).collect(toList());
         assertEquals("SRCFG01001: The config my.prop.expand was loaded from KeyValuesConfigSource with the value ${expand}",
-                logs.get(2));
-        assertEquals("SRCFG01001: The config expand was loaded from KeyValuesConfigSource with the value 1234", logs.get(3));
+                logs.get(1));
+        assertEquals("SRCFG01001: The config expand was loaded from KeyValuesConfigSource with the value 1234", logs.get(2));
     }
 }
@@ -0,0 +1,120 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class LookupMetricsTest {
+    @Test
+    void disabled() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234"))
+                .build();
+
+        assertFalse(config.getLookupMetrics().isPresent());
+    }
+
+    @Test
+    void sources() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(singletonMap("first.prop", "1234"), "first", 200))
+                .withSources(new PropertiesConfigSource(singletonMap("second.prop", "5678"), "second", 100))
+                .withLookupMetrics(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("first.prop"));
+        assertEquals("5678", config.getRawValue("second.prop"));
+        assertEquals("5678", config.getRawValue("second.prop"));
+        config.getRawValue("not.found");
+
+        List<LookupMetrics.SourceMetrics> sources = config.getLookupMetrics().get().getSources();
+        LookupMetrics.SourceMetrics first = sources.get(0);
+        assertEquals("PropertiesConfigSource[source=first]", first.getName());
+        assertEquals(200, first.getOrdinal());
+        assertEquals(4, first.getLookups());
+        assertEquals(1, first.getHits());
+        assertEquals(3, first.getMisses());
+        assertEquals(4, first.getLatency().getCount());
+
+        LookupMetrics.SourceMetrics second = sources.get(1);
+        assertEquals("PropertiesConfigSource[source=second]", second.getName());
+        assertEquals(3, second.getLookups());
+        assertEquals(2, second.getHits());
+        assertEquals(1, second.getMisses());
+    }
+
+    @Test
+    void interceptors() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("my.prop", "${expand}", "expand", "1234"))
+                .withLookupMetrics(true)
+                .withCompiledInterceptorChain(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        config.getConfigValues(Arrays.asList("my.prop", "expand"));
+
+        LookupMetrics metrics = config.getLookupMetrics().get();
+        LookupMetrics.InterceptorMetrics expression = metrics.getInterceptors().stream()
+                .filter(interceptor -> interceptor.getName().equals(ExpressionConfigSourceInterceptor.class.getName()))
+                .findFirst()
+                .get();
+        assertEquals(Priorities.LIBRARY + 800, expression.getPriority());
+        assertTrue(expression.getInvocations() >= 2);
+        assertTrue(expression.getTime().getTotalNanos() > 0);
+        // no secret keys, the interceptor is not part of the chain
+        assertFalse(metrics.getInterceptors().stream()
+                .anyMatch(interceptor -> interceptor.getName().equals(SecretKeysConfigSourceInterceptor.class.getName())));
+    }
+
+    @Test
+    void addConfigSource() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234"))
+                .withLookupMetrics(true)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        config.addConfigSource(new PropertiesConfigSource(singletonMap("other.prop", "5678"), "other", 500));
+        assertEquals("5678", config.getRawValue("other.prop"));
+
+        List<LookupMetrics.SourceMetrics> sources = config.getLookupMetrics().get().getSources();
+        assertEquals("PropertiesConfigSource[source=other]", sources.get(0).getName());
+        assertEquals(1, sources.get(0).getLookups());
+        // kept from before the source was added
+        assertEquals(1, sources.get(1).getLookups());
+        assertEquals(1, sources.get(1).getHits());
+    }
+
+    @Test
+    void histogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 0; i < 100; i++) {
+            histogram.record(i * 1000);
+        }
+        histogram.record(-1);
+
+        LookupMetrics.Histogram snapshot = histogram.snapshot();
+        assertEquals(101, snapshot.getCount());
+        assertEquals(4950000, snapshot.getTotalNanos());
+        long p50 = snapshot.getValueAtPercentile(50);
+        assertTrue(p50 >= 49000 && p50 <= 49000 * 1.25, "p50 " + p50);
+        long p100 = snapshot.getValueAtPercentile(100);
+        assertTrue(p100 >= 99000 && p100 <= 99000 * 1.25, "p100 " + p100);
+        assertEquals(101, snapshot.getBuckets().values().stream().mapToLong(Long::longValue).sum());
+
+        for (int i = 0; i < LatencyHistogram.BUCKETS - 1; i++) {
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.upperBound(i)));
+            assertEquals(i + 1, LatencyHistogram.index(LatencyHistogram.upperBound(i) + 1));
+        }
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.index(Long.MAX_VALUE));
+    }
+}
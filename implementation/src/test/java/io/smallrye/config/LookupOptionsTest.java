@@ -0,0 +1,151 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.smallrye.testing.logging.LogCapture;
+
+class LookupOptionsTest {
+    @RegisterExtension
+    static LogCapture logCapture = LogCapture.with(logRecord -> logRecord.getMessage().startsWith("SRCFG"), Level.ALL);
+
+    @BeforeEach
+    void setUp() {
+        logCapture.records().clear();
+    }
+
+    @Test
+    void options() {
+        assertSame(LookupOptions.DEFAULT, LookupOptions.of(true, true, true));
+        assertSame(LookupOptions.DEFAULT, LookupOptions.current());
+        assertSame(LookupOptions.of(false, true, true), LookupOptions.DEFAULT.withSecretKeysLocked(false));
+        assertSame(LookupOptions.of(true, false, true), LookupOptions.DEFAULT.withExpansionEnabled(false));
+        assertSame(LookupOptions.of(true, true, false), LookupOptions.DEFAULT.withTracing(false));
+
+        assertFalse(SecretKeys.doUnlocked(LookupOptions::current).isSecretKeysLocked());
+        assertFalse(Expressions.withoutExpansion(LookupOptions::current).isExpansionEnabled());
+    }
+
+    @Test
+    void secretKeys() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("secret", "12345678", "my.prop", "1234"))
+                .withSecretKeys("secret")
+                .build();
+
+        assertThrows(SecurityException.class, () -> config.getConfigValue("secret"));
+        assertThrows(SecurityException.class, () -> config.getConfigValue("secret", LookupOptions.DEFAULT));
+        assertEquals("12345678", config.getConfigValue("secret", LookupOptions.DEFAULT.withSecretKeysLocked(false)).getValue());
+        assertTrue(SecretKeys.isLocked());
+
+        Map<String, ConfigValue> values = config.getConfigValues(Arrays.asList("secret", "my.prop"),
+                LookupOptions.DEFAULT.withSecretKeysLocked(false));
+        assertEquals("12345678", values.get("secret").getValue());
+        assertEquals("1234", values.get("my.prop").getValue());
+    }
+
+    @Test
+    void expansion() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("my.prop", "${expand}", "expand", "1234"))
+                .withValueCache(true)
+                .build();
+
+        assertEquals("${expand}",
+                config.getConfigValue("my.prop", LookupOptions.DEFAULT.withExpansionEnabled(false)).getValue());
+        assertEquals("1234", config.getConfigValue("my.prop").getValue());
+        // not served from the cache
+        assertEquals("${expand}",
+                config.getConfigValue("my.prop", LookupOptions.DEFAULT.withExpansionEnabled(false)).getValue());
+        assertTrue(Expressions.isEnabled());
+    }
+
+    @Test
+    void tracing() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withInterceptors(new LoggingConfigSourceInterceptor())
+                .withSources(config("my.prop", "1234"))
+                .build();
+        logCapture.records().clear();
+
+        assertEquals("1234", config.getConfigValue("my.prop", LookupOptions.DEFAULT.withTracing(false)).getValue());
+        assertTrue(logCapture.records().isEmpty());
+
+        assertEquals("1234", config.getConfigValue("my.prop", LookupOptions.DEFAULT).getValue());
+        assertEquals(1, logCapture.records().size());
+    }
+
+    @Test
+    void compiledChain() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(config("my.prop", "${expand}", "expand", "1234"))
+                .withSources(config("other.prop", "5678"))
+                .withCompiledInterceptorChain(true)
+                .build();
+
+        assertEquals("${expand}",
+                config.getConfigValue("my.prop", LookupOptions.DEFAULT.withExpansionEnabled(false)).getValue());
+        assertEquals("1234", config.getConfigValue("my.prop", LookupOptions.DEFAULT).getValue());
+        assertEquals("5678", config.getConfigValue("other.prop", LookupOptions.DEFAULT).getValue());
+    }
+
+    @Test
+    void interceptorWithoutOptions() {
+        AtomicReference<LookupOptions> current = new AtomicReference<>();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withInterceptors((ConfigSourceInterceptor) (context, name) -> {
+                    current.set(LookupOptions.current());
+                    return context.proceed(name);
+                })
+                .withSources(config("my.prop", "1234"))
+                .build();
+
+        assertEquals("1234", config.getConfigValue("my.prop", LookupOptions.of(false, false, true)).getValue());
+        assertSame(LookupOptions.of(false, false, true), current.get());
+        assertSame(LookupOptions.DEFAULT, LookupOptions.current());
+
+        assertEquals("1234", config.getConfigValue("my.prop").getValue());
+        assertSame(LookupOptions.DEFAULT, current.get());
+    }
+
+    @Test
+    void interceptorWithoutOptionsProceeds() {
+        AtomicReference<ConfigSourceInterceptorContext> proceeded = new AtomicReference<>();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withInterceptors((ConfigSourceInterceptor) (context, name) -> {
+                    proceeded.set(context);
+                    return context.proceed(name);
+                })
+                .withSources(config("secret", "12345678"))
+                .withSecretKeys("secret")
+                .build();
+
+        // proceed without options carries the options of the lookup instead of the ones of the current thread
+        assertThrows(SecurityException.class,
+                () -> SecretKeys.doUnlocked(() -> config.getConfigValue("secret", LookupOptions.DEFAULT)));
+        assertEquals("12345678", config.getConfigValue("secret", LookupOptions.DEFAULT.withSecretKeysLocked(false))
+                .getValue());
+
+        final ConfigSourceInterceptorContext context = proceeded.get();
+        config.getConfigValue("secret", LookupOptions.DEFAULT.withSecretKeysLocked(false));
+        assertSame(context, proceeded.get());
+    }
+}
@@ -0,0 +1,79 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PrefixMappingTest {
+    @Test
+    void prefixes() {
+        Map<String, String> prefixes = new HashMap<>();
+        prefixes.put("quarkus.old", "quarkus.new");
+        prefixes.put("quarkus.old.http", "quarkus.http");
+        prefixes.put("quarkus.*.legacy", "quarkus.*.current");
+        prefixes.put("*.*.swap", "swap.*.*");
+        PrefixMapping mapping = new PrefixMapping(prefixes);
+
+        assertEquals("quarkus.new", mapping.apply("quarkus.old"));
+        assertEquals("quarkus.new.datasource.url", mapping.apply("quarkus.old.datasource.url"));
+        assertEquals("quarkus.http.port", mapping.apply("quarkus.old.http.port"));
+        assertEquals("quarkus.http", mapping.apply("quarkus.old.http"));
+        assertEquals("quarkus.datasource.current.url", mapping.apply("quarkus.datasource.legacy.url"));
+        assertEquals("quarkus.\"a.b\".current", mapping.apply("quarkus.\"a.b\".legacy"));
+        assertEquals("swap.a.b.c", mapping.apply("a.b.swap.c"));
+
+        String name = "quarkus.older.port";
+        assertSame(name, mapping.apply(name));
+        name = "quarkus.datasource.url";
+        assertSame(name, mapping.apply(name));
+        name = "other";
+        assertSame(name, mapping.apply(name));
+        name = "";
+        assertSame(name, mapping.apply(name));
+    }
+
+    @Test
+    void manyPrefixes() {
+        Map<String, String> prefixes = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            prefixes.put("old." + i, "new." + i);
+        }
+        PrefixMapping mapping = new PrefixMapping(prefixes);
+
+        assertEquals("new.42.value", mapping.apply("old.42.value"));
+        assertEquals("old.100.value", mapping.apply("old.100.value"));
+    }
+
+    @Test
+    void relocate() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withInterceptors(
+                        RelocateConfigSourceInterceptor.ofPrefixes(singletonMap("quarkus.old", "quarkus.new")))
+                .withSources(config("quarkus.old.port", "8080", "quarkus.new.port", "8081", "quarkus.old.host",
+                        "localhost"))
+                .build();
+
+        assertEquals("8081", config.getRawValue("quarkus.old.port"));
+        assertEquals("localhost", config.getRawValue("quarkus.old.host"));
+    }
+
+    @Test
+    void fallback() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withInterceptors(
+                        FallbackConfigSourceInterceptor.ofPrefixes(singletonMap("quarkus.*.new", "quarkus.*.old")))
+                .withSources(config("quarkus.http.old.port", "8080", "quarkus.http.new.host", "localhost"))
+                .build();
+
+        assertEquals("8080", config.getRawValue("quarkus.http.new.port"));
+        assertEquals("localhost", config.getRawValue("quarkus.http.new.host"));
+    }
+}
@@ -0,0 +1,123 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ProfileIndexTest {
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void profiles(final boolean profileIndex) {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("common,dev")
+                .withSources(config("my.prop", "main", "%common.my.prop", "common", "%dev.my.prop", "dev",
+                        "%common.common.prop", "common", "plain.prop", "plain"))
+                .withSources(config("%dev.other.prop", "dev", "config_ordinal", "1000"))
+                .withSources(config("other.prop", "main", "config_ordinal", "500"))
+                .withProfileIndex(profileIndex)
+                .build();
+
+        assertEquals("dev", config.getRawValue("my.prop"));
+        assertEquals("dev", config.getRawValue("%dev.my.prop"));
+        assertEquals("common", config.getRawValue("common.prop"));
+        assertEquals("plain", config.getRawValue("plain.prop"));
+        assertEquals("dev", config.getRawValue("other.prop"));
+        assertFalse(config.getOptionalValue("missing.prop", String.class).isPresent());
+
+        final Map<String, ConfigValue> values = config
+                .getConfigValues(Arrays.asList("my.prop", "common.prop", "plain.prop", "other.prop", "missing.prop"));
+        assertEquals("dev", values.get("my.prop").getValue());
+        assertEquals("common", values.get("common.prop").getValue());
+        assertEquals("plain", values.get("plain.prop").getValue());
+        assertEquals("dev", values.get("other.prop").getValue());
+
+        final Set<String> names = StreamSupport.stream(config.getPropertyNames().spliterator(), false).collect(toSet());
+        assertEquals(new HashSet<>(Arrays.asList("my.prop", "common.prop", "plain.prop", "other.prop")),
+                names.stream().filter(name -> name.endsWith(".prop")).collect(toSet()));
+    }
+
+    @Test
+    void lookups() {
+        final CountingConfigSource source = new CountingConfigSource("my.prop", "main", "%prof.my.prop", "prof",
+                "plain.prop", "plain");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prof")
+                .withSources(source)
+                .withProfileIndex(true)
+                .build();
+
+        assertEquals("prof", config.getRawValue("my.prop"));
+        assertEquals("plain", config.getRawValue("plain.prop"));
+        assertFalse(config.getOptionalValue("missing.prop", String.class).isPresent());
+
+        assertEquals(1, source.lookups("%prof.my.prop"));
+        assertEquals(0, source.lookups("%prof.plain.prop"));
+        assertEquals(0, source.lookups("%prof.missing.prop"));
+        assertEquals(1, source.lookups("plain.prop"));
+    }
+
+    @Test
+    void env() {
+        // _ENV_SMALLRYE_MP_CONFIG_PROP is set by the surefire configuration
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultSources()
+                .addDefaultInterceptors()
+                .withProfile("env")
+                .withSources(config("%env.other.prop", "other", "plain.prop", "plain"))
+                .withProfileIndex(true)
+                .build();
+
+        assertEquals("5678", config.getRawValue("smallrye.mp.config.prop"));
+        assertEquals("other", config.getRawValue("other.prop"));
+        assertEquals("plain", config.getRawValue("plain.prop"));
+        final Map<String, ConfigValue> values = config
+                .getConfigValues(Arrays.asList("smallrye.mp.config.prop", "other.prop", "plain.prop"));
+        assertEquals("5678", values.get("smallrye.mp.config.prop").getValue());
+        assertEquals("other", values.get("other.prop").getValue());
+        assertEquals("plain", values.get("plain.prop").getValue());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void addConfigSource() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prof")
+                .withSources(config("my.prop", "main"))
+                .withProfileIndex(true)
+                .build();
+
+        assertEquals("main", config.getRawValue("my.prop"));
+        config.addConfigSource(config("%prof.my.prop", "prof"));
+        assertEquals("prof", config.getRawValue("my.prop"));
+    }
+
+    @Test
+    void observableChange() {
+        final PropertyNamesIndexTest.ObservableNamesConfigSource source = new PropertyNamesIndexTest.ObservableNamesConfigSource(
+                "my.prop");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withProfile("prof")
+                .withSources(source)
+                .withProfileIndex(true)
+                .build();
+
+        assertEquals("my.prop", config.getRawValue("my.prop"));
+        source.put("%prof.my.prop");
+        assertEquals("%prof.my.prop", config.getRawValue("my.prop"));
+    }
+}
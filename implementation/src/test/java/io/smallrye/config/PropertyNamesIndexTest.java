@@ -0,0 +1,144 @@
+package io.smallrye.config;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+class PropertyNamesIndexTest {
+    @Test
+    void names() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withProfile("prof")
+                .addDefaultInterceptors()
+                .withSources(KeyValuesConfigSource.config("one", "1", "%prof.two", "2"))
+                .withSources(KeyValuesConfigSource.config("one", "1", "three", "3"))
+                .withSources(KeyValuesConfigSource.config("four", "4"))
+                .withPropertyNamesIndex(true)
+                .build();
+
+        assertEquals(new HashSet<>(Arrays.asList("one", "two", "three", "four")), names(config));
+        assertSame(config.getPropertyNames(), config.getPropertyNames());
+        assertThrows(UnsupportedOperationException.class, () -> ((Set<String>) config.getPropertyNames()).add("five"));
+    }
+
+    @Test
+    void notIndexed() {
+        final ObservableNamesConfigSource source = new ObservableNamesConfigSource("one");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).build();
+
+        assertEquals(Collections.singleton("one"), names(config));
+        assertEquals(Collections.singleton("one"), names(config));
+        assertEquals(2, source.namesCalls.get());
+    }
+
+    @Test
+    void indexed() {
+        final ObservableNamesConfigSource source = new ObservableNamesConfigSource("one");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withPropertyNamesIndex(true).build();
+
+        assertEquals(Collections.singleton("one"), names(config));
+        assertEquals(Collections.singleton("one"), names(config));
+        assertEquals(1, source.namesCalls.get());
+    }
+
+    @Test
+    void observableChange() {
+        final ObservableNamesConfigSource source = new ObservableNamesConfigSource("one");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(source).withPropertyNamesIndex(true).build();
+
+        assertEquals(Collections.singleton("one"), names(config));
+        source.put("two");
+        assertEquals(new HashSet<>(Arrays.asList("one", "two")), names(config));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void addConfigSource() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("one", "1"))
+                .withPropertyNamesIndex(true)
+                .build();
+
+        assertEquals(Collections.singleton("one"), names(config));
+        config.addConfigSource(KeyValuesConfigSource.config("two", "2"));
+        assertEquals(new HashSet<>(Arrays.asList("one", "two")), names(config));
+    }
+
+    @Test
+    void compiledInterceptorChain() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("one", "1"))
+                .withSources(KeyValuesConfigSource.config("two", "2"))
+                .withCompiledInterceptorChain(true)
+                .withPropertyNamesIndex(true)
+                .build();
+
+        assertTrue(names(config).containsAll(Arrays.asList("one", "two")));
+    }
+
+    private static Set<String> names(final SmallRyeConfig config) {
+        return StreamSupport.stream(config.getPropertyNames().spliterator(), false).collect(toSet());
+    }
+
+    static class ObservableNamesConfigSource implements ObservableConfigSource {
+        private final Map<String, String> properties = new ConcurrentHashMap<>();
+        private final List<ConfigSourceChangeListener> listeners = new ArrayList<>();
+        final AtomicInteger namesCalls = new AtomicInteger();
+
+        ObservableNamesConfigSource(final String name) {
+            properties.put(name, name);
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return Collections.unmodifiableMap(properties);
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            namesCalls.incrementAndGet();
+            return Collections.unmodifiableSet(properties.keySet());
+        }
+
+        @Override
+        public String getValue(final String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "ObservableNamesConfigSource";
+        }
+
+        @Override
+        public int getOrdinal() {
+            return ConfigSource.DEFAULT_ORDINAL;
+        }
+
+        @Override
+        public void addChangeListener(final ConfigSourceChangeListener listener) {
+            listeners.add(listener);
+        }
+
+        void put(final String name) {
+            properties.put(name, name);
+            listeners.forEach(listener -> listener.onChange(this, Collections.singleton(name)));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ServiceIndexTest {
+    @Test
+    void write() throws Exception {
+        StringWriter index = new StringWriter();
+        ServiceIndex.write(ServiceIndexTest.class.getClassLoader(), index);
+
+        assertTrue(index.toString().contains(
+                ConfigSourceInterceptor.class.getName() + " " + ServiceLoaderConfigSourceInterceptor.class.getName() + " "
+                        + ConfigSourceInterceptorFactory.DEFAULT_PRIORITY + "\n"));
+        assertTrue(index.toString().contains(ConfigSourceInterceptorFactory.class.getName() + " "
+                + ServiceLoaderConfigSourceInterceptorFactory.class.getName() + "\n"));
+        assertTrue(index.toString().contains(ConfigSourceInterceptor.class.getName() + " * 1\n"));
+        assertTrue(index.toString().contains(ConfigSource.class.getName() + " * 0\n"));
+    }
+
+    @Test
+    void discover(@TempDir Path dir) throws Exception {
+        URLClassLoader classLoader = index(dir,
+                ConfigSource.class.getName() + " * 0",
+                ConfigSource.class.getName() + " " + IndexedConfigSource.class.getName(),
+                Converter.class.getName() + " * 0",
+                Converter.class.getName() + " " + IndexedConverter.class.getName() + " 500",
+                ConfigSourceInterceptor.class.getName() + " * 1",
+                ConfigSourceInterceptor.class.getName() + " " + ServiceLoaderConfigSourceInterceptor.class.getName() + " 1",
+                ConfigSourceInterceptorFactory.class.getName() + " * 1");
+
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .forClassLoader(classLoader)
+                .withServiceIndex(true)
+                .addDiscoveredSources()
+                .addDiscoveredConverters()
+                .addDiscoveredInterceptors()
+                .withConverter(Indexed.class, 200, value -> new Indexed("builder"));
+        assertEquals(1, builder.discoverInterceptors().size());
+        assertEquals(1, builder.discoverInterceptors().get(0).getPriority());
+        SmallRyeConfig config = builder.build();
+
+        assertEquals("1234", config.getRawValue("indexed.prop"));
+        assertEquals("index", config.getValue("indexed.prop", Indexed.class).value);
+        assertEquals("loader", config.getRawValue("my.prop.loader"));
+
+        SmallRyeConfigBuilder withoutIndex = new SmallRyeConfigBuilder().forClassLoader(classLoader);
+        assertEquals(2, withoutIndex.discoverInterceptors().size());
+        assertTrue(withoutIndex.discoverSources().isEmpty());
+    }
+
+    @Test
+    void notIndexed(@TempDir Path dir) throws Exception {
+        // the class path has a META-INF/services file of ConfigSourceInterceptor that the index did not count
+        URLClassLoader classLoader = index(dir,
+                ConfigSourceInterceptor.class.getName() + " * 0",
+                ConfigSourceInterceptorFactory.class.getName() + " * 1",
+                ConfigSourceInterceptorFactory.class.getName() + " "
+                        + ServiceLoaderConfigSourceInterceptorFactory.class.getName());
+
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder().forClassLoader(classLoader).withServiceIndex(true);
+        assertEquals(2, builder.discoverInterceptors().size());
+    }
+
+    @Test
+    void removedProvider(@TempDir Path dir) throws Exception {
+        // the index counted a META-INF/services file of ConfigSourceInterceptor that is no longer in the class path
+        URLClassLoader classLoader = index(dir,
+                ConfigSourceInterceptor.class.getName() + " * 2",
+                ConfigSourceInterceptor.class.getName() + " " + ServiceLoaderConfigSourceInterceptor.class.getName() + " 1",
+                ConfigSourceInterceptor.class.getName() + " removed.Interceptor 1",
+                ConfigSourceInterceptorFactory.class.getName() + " * 1",
+                ConfigSourceInterceptorFactory.class.getName() + " "
+                        + ServiceLoaderConfigSourceInterceptorFactory.class.getName());
+
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder().forClassLoader(classLoader).withServiceIndex(true);
+        assertEquals(2, builder.discoverInterceptors().size());
+    }
+
+    @Test
+    void merge(@TempDir Path dir) throws Exception {
+        Path first = dir.resolve("first");
+        Path second = dir.resolve("second");
+        write(first, ConfigSource.class.getName() + " * 0",
+                ConfigSource.class.getName() + " " + IndexedConfigSource.class.getName(),
+                Converter.class.getName() + " * 0");
+        write(second, ConfigSource.class.getName() + " * 0",
+                Converter.class.getName() + " * 0",
+                Converter.class.getName() + " " + IndexedConverter.class.getName() + " 500");
+        URLClassLoader classLoader = new URLClassLoader(new URL[] { first.toUri().toURL(), second.toUri().toURL() },
+                ServiceIndexTest.class.getClassLoader());
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .forClassLoader(classLoader)
+                .withServiceIndex(true)
+                .addDiscoveredSources()
+                .addDiscoveredConverters()
+                .build();
+        assertEquals("1234", config.getRawValue("indexed.prop"));
+        assertEquals("index", config.getValue("indexed.prop", Indexed.class).value);
+    }
+
+    @Test
+    void invalid(@TempDir Path dir) throws Exception {
+        URLClassLoader classLoader = index(dir, ConfigSource.class.getName() + " * 0",
+                ConfigSource.class.getName() + " not.Found");
+
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder().forClassLoader(classLoader).withServiceIndex(true)
+                .addDiscoveredSources();
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    private static URLClassLoader index(Path dir, String... services) throws IOException {
+        write(dir, services);
+        return new URLClassLoader(new URL[] { dir.toUri().toURL() }, ServiceIndexTest.class.getClassLoader());
+    }
+
+    private static void write(Path dir, String... services) throws IOException {
+        Path index = dir.resolve(ServiceIndex.RESOURCE);
+        Files.createDirectories(index.getParent());
+        try (Writer writer = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+            for (String service : services) {
+                writer.write(service + "\n");
+            }
+        }
+    }
+
+    public static class IndexedConfigSource implements ConfigSource {
+        @Override
+        public Map<String, String> getProperties() {
+            return Collections.singletonMap("indexed.prop", "1234");
+        }
+
+        @Override
+        public Set<String> getPropertyNames() {
+            return getProperties().keySet();
+        }
+
+        @Override
+        public String getValue(final String propertyName) {
+            return getProperties().get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "indexed";
+        }
+    }
+
+    public static class Indexed {
+        final String value;
+
+        Indexed(final String value) {
+            this.value = value;
+        }
+    }
+
+    public static class IndexedConverter implements Converter<Indexed> {
+        @Override
+        public Indexed convert(final String value) {
+            return new Indexed("index");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.jupiter.api.Test;
+
+class StartupReportTest {
+    @Test
+    void disabled() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("my.prop", "1234"))
+                .build();
+
+        assertFalse(config.getStartupReport().isPresent());
+    }
+
+    @Test
+    void report() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .addDiscoveredInterceptors()
+                .withSources(config("server.host", "localhost", "my.prop", "1234"))
+                .withSources(new TwoSourcesFactory())
+                .withMapping(Server.class, "server")
+                .withStartupReport(true)
+                .build();
+
+        StartupReport report = config.getStartupReport().get();
+        assertTrue(report.getWallTimeNanos() > 0);
+        assertTrue(report.getAllocatedBytes() != 0);
+        assertEquals(Arrays.asList("sources", "discover-interceptors", "interceptor-init", "configurable-sources",
+                "interceptor-chain", "mapping"), names(report.getPhases()));
+
+        StartupReport.Step discovery = phase(report, "discover-interceptors");
+        assertEquals(2, discovery.getCount());
+        assertEquals(Arrays.asList(ServiceLoaderConfigSourceInterceptor.class.getName(),
+                ServiceLoaderConfigSourceInterceptorFactory.class.getName()), names(discovery.getSteps()));
+
+        StartupReport.Step configurable = phase(report, "configurable-sources");
+        assertEquals(2, configurable.getCount());
+        assertEquals(1, configurable.getSteps().size());
+        assertEquals(TwoSourcesFactory.class.getName(), configurable.getSteps().get(0).getName());
+        assertEquals(2, configurable.getSteps().get(0).getCount());
+
+        List<String> interceptors = names(phase(report, "interceptor-chain").getSteps());
+        assertTrue(interceptors.contains(ExpressionConfigSourceInterceptor.class.getName()));
+        assertFalse(interceptors.stream().anyMatch(name -> name.contains("ConfigSource[")));
+
+        StartupReport.Step mapping = phase(report, "mapping");
+        assertEquals(1, mapping.getCount());
+        assertEquals(Server.class.getName() + "[prefix=server]", mapping.getSteps().get(0).getName());
+
+        assertTrue(report.toString().contains("configurable-sources"));
+    }
+
+    private static StartupReport.Step phase(final StartupReport report, final String name) {
+        return report.getPhases().stream().filter(step -> step.getName().equals(name)).findFirst().get();
+    }
+
+    private static List<String> names(final List<StartupReport.Step> steps) {
+        return steps.stream().map(StartupReport.Step::getName).collect(Collectors.toList());
+    }
+
+    static class TwoSourcesFactory implements ConfigSourceFactory {
+        @Override
+        public ConfigSource getConfigSource(final ConfigSourceContext context) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Iterable<ConfigSource> getConfigSources(final ConfigSourceContext context) {
+            return Arrays.asList(new PropertiesConfigSource(singletonMap("first", "1"), "first", 100),
+                    new PropertiesConfigSource(singletonMap("second", context.getValue("my.prop").getValue()), "second",
+                            100));
+        }
+    }
+
+    @ConfigMapping(prefix = "server")
+    interface Server {
+        String host();
+    }
+}
@@ -0,0 +1,96 @@
+package io.smallrye.config;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SubsetConfigTest {
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void propertyNames(final boolean propertyNamesIndex) {
+        final SmallRyeConfig config = config(propertyNamesIndex);
+
+        assertEquals(new HashSet<>(Arrays.asList("datasource", "datasource.url", "datasource.pool.size")),
+                names(config.getPropertyNames("datasource")));
+        assertEquals(Collections.singleton("datasource.pool.size"), names(config.getPropertyNames("datasource.pool")));
+        assertEquals(Collections.singleton("datasources.url"), names(config.getPropertyNames("datasources")));
+        assertEquals(new HashSet<>(Arrays.asList("tenants.a.url", "tenants.b.url", "tenants.\"c.d\".url")),
+                names(config.getPropertyNames("tenants")));
+        assertEquals(Collections.singleton("tenants.\"c.d\".url"), names(config.getPropertyNames("tenants.\"c.d\"")));
+        assertEquals(Collections.emptySet(), names(config.getPropertyNames("missing")));
+        assertEquals(names(config.getPropertyNames()), names(config.getPropertyNames("")));
+    }
+
+    @Test
+    void subset() {
+        final SubsetConfig datasource = config(true).subset("datasource");
+
+        assertEquals("datasource", datasource.getPrefix());
+        assertEquals("jdbc:h2", datasource.getRawValue("url"));
+        assertEquals("jdbc:h2", datasource.getRawValue("url"));
+        assertEquals("main", datasource.getRawValue(""));
+        assertEquals(10, datasource.getValue("pool.size", Integer.class).intValue());
+        assertEquals(10, datasource.subset("pool").getValue("size", Integer.class).intValue());
+        assertFalse(datasource.getOptionalValue("missing", String.class).isPresent());
+        assertEquals("datasource.url", datasource.getConfigValue("url").getName());
+        assertEquals(new HashSet<>(Arrays.asList("url", "pool.size")), names(datasource.getPropertyNames()));
+    }
+
+    @Test
+    void subsetNames() {
+        final SubsetConfig datasource = config(true).subset("datasource");
+
+        // more names than the cache keeps, so slots are replaced
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("datasource.missing" + i, datasource.getConfigValue("missing" + i).getName());
+            assertEquals("jdbc:h2", datasource.getRawValue("url"));
+        }
+        assertEquals(10, datasource.getValue("pool.size", Integer.class).intValue());
+    }
+
+    @Test
+    void subsetQuoted() {
+        final SubsetConfig tenants = config(true).subset("tenants");
+
+        assertEquals(new HashSet<>(Arrays.asList("a.url", "b.url", "\"c.d\".url")), names(tenants.getPropertyNames()));
+        assertEquals("c", tenants.subset("\"c.d\"").getRawValue("url"));
+    }
+
+    @Test
+    void isInPrefix() {
+        assertTrue(PropertyNamesTrie.isInPrefix("datasource.url", "datasource"));
+        assertTrue(PropertyNamesTrie.isInPrefix("datasource", "datasource"));
+        assertTrue(PropertyNamesTrie.isInPrefix("datasource", ""));
+        assertFalse(PropertyNamesTrie.isInPrefix("datasources.url", "datasource"));
+        assertFalse(PropertyNamesTrie.isInPrefix("data", "datasource"));
+    }
+
+    private static SmallRyeConfig config(final boolean propertyNamesIndex) {
+        return new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config(
+                        "datasource", "main",
+                        "datasource.url", "jdbc:h2",
+                        "datasource.pool.size", "10",
+                        "datasources.url", "jdbc:pg",
+                        "tenants.a.url", "a",
+                        "tenants.b.url", "b",
+                        "tenants.\"c.d\".url", "c"))
+                .withPropertyNamesIndex(propertyNamesIndex)
+                .build();
+    }
+
+    private static Set<String> names(final Iterable<String> names) {
+        return StreamSupport.stream(names.spliterator(), false).collect(toSet());
+    }
+}
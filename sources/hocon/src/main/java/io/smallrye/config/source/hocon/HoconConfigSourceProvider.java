@@ -10,22 +10,54 @@ import com.typesafe.config.ConfigFactory;
 import com.typesafe.config.ConfigParseOptions;
 import com.typesafe.config.ConfigSyntax;
 
+import io.smallrye.config.common.LazyConfigSource;
+
 public class HoconConfigSourceProvider implements ConfigSourceProvider {
 
     private static final String META_INF_MICROPROFILE_CONFIG_RESOURCE = "META-INF/microprofile-config.conf";
     private static final String WEB_INF_MICROPROFILE_CONFIG_RESOURCE = "WEB-INF/classes/META-INF/microprofile-config.conf";
 
+    private final boolean lazy;
+
+    /**
+     * Construct a new instance, with lazy sources if the {@link LazyConfigSource#LAZY_SOURCES} system property is
+     * {@code true}.
+     */
+    public HoconConfigSourceProvider() {
+        this(LazyConfigSource.isLazySources());
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param lazy {@code true} to only parse each HOCON resource on the first lookup that reaches its
+     *        {@link ConfigSource}, with {@link LazyConfigSource}, {@code false} to parse them when the sources are
+     *        provided.
+     */
+    public HoconConfigSourceProvider(final boolean lazy) {
+        this.lazy = lazy;
+    }
+
     static ConfigSource getConfigSource(ClassLoader classLoader, String resource, int ordinal) {
         final Config config = ConfigFactory.parseResourcesAnySyntax(classLoader, resource,
                 ConfigParseOptions.defaults().setClassLoader(classLoader).setSyntax(ConfigSyntax.CONF));
         return new HoconConfigSource(config, resource, ordinal);
     }
 
+    static ConfigSource getLazyConfigSource(ClassLoader classLoader, String resource, int ordinal) {
+        return new LazyConfigSource("HoconConfigSource[source=" + resource + "]", ordinal,
+                () -> getConfigSource(classLoader, resource, ordinal));
+    }
+
     @Override
     public Iterable<ConfigSource> getConfigSources(ClassLoader classLoader) {
         final List<ConfigSource> configSources = new ArrayList<>(2);
-        configSources.add(getConfigSource(classLoader, META_INF_MICROPROFILE_CONFIG_RESOURCE, 60));
-        configSources.add(getConfigSource(classLoader, WEB_INF_MICROPROFILE_CONFIG_RESOURCE, 50));
+        configSources.add(getConfigSource(classLoader, META_INF_MICROPROFILE_CONFIG_RESOURCE, 60, lazy));
+        configSources.add(getConfigSource(classLoader, WEB_INF_MICROPROFILE_CONFIG_RESOURCE, 50, lazy));
         return Collections.unmodifiableList(configSources);
     }
+
+    private static ConfigSource getConfigSource(ClassLoader classLoader, String resource, int ordinal, boolean lazy) {
+        return lazy ? getLazyConfigSource(classLoader, resource, ordinal) : getConfigSource(classLoader, resource, ordinal);
+    }
 }
@@ -2,10 +2,14 @@ package io.smallrye.config.source.hocon;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.config.common.LazyConfigSource;
+
 public class HoconConfigSourceTest {
 
     @Test
@@ -21,4 +25,32 @@ public class HoconConfigSourceTest {
         assertEquals("1", configSource.getProperties().get("hello.world"));
         assertEquals("Hell yeah!", configSource.getProperties().get("hello.foo.bar"));
     }
+
+    @Test
+    public void testLazyHocon() {
+        final LazyConfigSource configSource = (LazyConfigSource) HoconConfigSourceProvider.getLazyConfigSource(
+                Thread.currentThread().getContextClassLoader(), "hocon/microprofile-config.conf", 100);
+        assertEquals("HoconConfigSource[source=hocon/microprofile-config.conf]", configSource.getName());
+        assertEquals(100, configSource.getOrdinal());
+        assertFalse(configSource.isLoaded());
+        assertEquals("Hell yeah!", configSource.getValue("hello.foo.bar"));
+        assertTrue(configSource.isLoaded());
+    }
+
+    @Test
+    public void testLazySourcesProperty() {
+        System.setProperty(LazyConfigSource.LAZY_SOURCES, "true");
+        try {
+            for (ConfigSource configSource : new HoconConfigSourceProvider()
+                    .getConfigSources(Thread.currentThread().getContextClassLoader())) {
+                assertTrue(configSource instanceof LazyConfigSource);
+            }
+        } finally {
+            System.clearProperty(LazyConfigSource.LAZY_SOURCES);
+        }
+        for (ConfigSource configSource : new HoconConfigSourceProvider()
+                .getConfigSources(Thread.currentThread().getContextClassLoader())) {
+            assertTrue(configSource instanceof HoconConfigSource);
+        }
+    }
 }
@@ -11,11 +11,34 @@ import java.util.Optional;
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
 
+import io.smallrye.config.common.LazyConfigSource;
+
 public class YamlConfigSourceProvider implements ConfigSourceProvider {
 
     private static final String META_INF_MICROPROFILE_CONFIG_RESOURCE = "META-INF/microprofile-config.yaml";
     private static final String WEB_INF_MICROPROFILE_CONFIG_RESOURCE = "WEB-INF/classes/META-INF/microprofile-config.yaml";
 
+    private final boolean lazy;
+
+    /**
+     * Construct a new instance, with lazy sources if the {@link LazyConfigSource#LAZY_SOURCES} system property is
+     * {@code true}.
+     */
+    public YamlConfigSourceProvider() {
+        this(LazyConfigSource.isLazySources());
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param lazy {@code true} to only read and parse each YAML resource on the first lookup that reaches its
+     *        {@link ConfigSource}, with {@link LazyConfigSource}, {@code false} to read them when the sources are
+     *        provided.
+     */
+    public YamlConfigSourceProvider(final boolean lazy) {
+        this.lazy = lazy;
+    }
+
     static Optional<ConfigSource> getConfigSource(ClassLoader classLoader, String resource, int ordinal) {
         try {
             InputStream stream = classLoader.getResourceAsStream(resource);
@@ -29,13 +52,26 @@ public class YamlConfigSourceProvider implements ConfigSourceProvider {
         return Optional.empty();
     }
 
+    static Optional<ConfigSource> getLazyConfigSource(ClassLoader classLoader, String resource, int ordinal) {
+        if (classLoader.getResource(resource) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new LazyConfigSource(resource, ordinal, () -> getConfigSource(classLoader, resource, ordinal)
+                .orElseGet(() -> new YamlConfigSource(resource, Collections.emptyMap(), ordinal))));
+    }
+
     @Override
     public Iterable<ConfigSource> getConfigSources(ClassLoader classLoader) {
         final List<ConfigSource> configSources = new ArrayList<>(2);
-        getConfigSource(classLoader, META_INF_MICROPROFILE_CONFIG_RESOURCE, YamlConfigSource.ORDINAL + 10)
+        getConfigSource(classLoader, META_INF_MICROPROFILE_CONFIG_RESOURCE, YamlConfigSource.ORDINAL + 10, lazy)
                 .ifPresent(configSources::add);
-        getConfigSource(classLoader, WEB_INF_MICROPROFILE_CONFIG_RESOURCE, YamlConfigSource.ORDINAL)
+        getConfigSource(classLoader, WEB_INF_MICROPROFILE_CONFIG_RESOURCE, YamlConfigSource.ORDINAL, lazy)
                 .ifPresent(configSources::add);
         return Collections.unmodifiableList(configSources);
     }
+
+    private static Optional<ConfigSource> getConfigSource(ClassLoader classLoader, String resource, int ordinal,
+            boolean lazy) {
+        return lazy ? getLazyConfigSource(classLoader, resource, ordinal) : getConfigSource(classLoader, resource, ordinal);
+    }
 }
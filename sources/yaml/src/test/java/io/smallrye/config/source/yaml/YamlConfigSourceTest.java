@@ -1,22 +1,32 @@
 package io.smallrye.config.source.yaml;
 
+import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.Converter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.yaml.snakeyaml.Yaml;
 
+import io.smallrye.config.PropertiesConfigSource;
 import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.config.common.LazyConfigSource;
 
 public class YamlConfigSourceTest {
     @Test
@@ -136,6 +146,48 @@ public class YamlConfigSourceTest {
 
     }
 
+    @Test
+    void lazy() {
+        LazyConfigSource yaml = (LazyConfigSource) YamlConfigSourceProvider
+                .getLazyConfigSource(YamlConfigSourceTest.class.getClassLoader(), "example-profiles.yml", 100)
+                .get();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(yaml)
+                .withSources(new PropertiesConfigSource(singletonMap("foo.bar", "properties"), "properties", 200))
+                .build();
+
+        assertEquals("example-profiles.yml", yaml.getName());
+        assertEquals("properties", config.getRawValue("foo.bar"));
+        assertFalse(yaml.isLoaded());
+        assertEquals("dev", config.getRawValue("%dev.foo.bar"));
+        assertTrue(yaml.isLoaded());
+        assertFalse(YamlConfigSourceProvider.getLazyConfigSource(YamlConfigSourceTest.class.getClassLoader(),
+                "missing.yml", 100).isPresent());
+    }
+
+    @Test
+    void lazySourcesProperty(@TempDir Path dir) throws Exception {
+        Path yaml = dir.resolve("META-INF").resolve("microprofile-config.yaml");
+        Files.createDirectories(yaml.getParent());
+        Files.write(yaml, "foo:\n  bar: yaml\n".getBytes(StandardCharsets.UTF_8));
+        URLClassLoader classLoader = new URLClassLoader(new URL[] { dir.toUri().toURL() },
+                YamlConfigSourceTest.class.getClassLoader());
+
+        System.setProperty(LazyConfigSource.LAZY_SOURCES, "true");
+        ConfigSource configSource;
+        try {
+            configSource = new YamlConfigSourceProvider().getConfigSources(classLoader).iterator().next();
+        } finally {
+            System.clearProperty(LazyConfigSource.LAZY_SOURCES);
+        }
+        assertTrue(configSource instanceof LazyConfigSource);
+        assertFalse(((LazyConfigSource) configSource).isLoaded());
+        assertEquals("yaml", configSource.getValue("foo.bar"));
+
+        assertTrue(new YamlConfigSourceProvider().getConfigSources(classLoader).iterator()
+                .next() instanceof YamlConfigSource);
+    }
+
     public static class Users {
         List<User> users;
 
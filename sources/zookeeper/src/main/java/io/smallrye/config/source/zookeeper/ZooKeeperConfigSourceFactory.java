@@ -1,6 +1,10 @@
 package io.smallrye.config.source.zookeeper;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 
@@ -14,6 +18,12 @@ public class ZooKeeperConfigSourceFactory implements ConfigSourceFactory {
                 context.getValue(ZooKeeperConfigSource.APPLICATION_ID_KEY).getValue());
     }
 
+    @Override
+    public Optional<Set<String>> getDependencies() {
+        return Optional.of(new HashSet<>(
+                Arrays.asList(ZooKeeperConfigSource.ZOOKEEPER_URL_KEY, ZooKeeperConfigSource.APPLICATION_ID_KEY)));
+    }
+
     @Override
     public OptionalInt getPriority() {
         return OptionalInt.of(150);